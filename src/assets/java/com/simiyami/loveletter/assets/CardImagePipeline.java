@@ -0,0 +1,210 @@
+package com.simiyami.loveletter.assets;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 빌드 때 카드 이미지(static/image/*.png)를 화면에 맞는 크기의 JPEG로 다시 만든다. ./gradlew cardImages (processResources 전에 실행됨)
+ *
+ * 이미지마다 두 가지를 만든다.
+ * - 카드: 가장 크게 보이는 곳(160x230, 고해상도 화면 2배)에 맞춰 폭 최대 320px. 원본이 더 작으면 원본 크기
+ * - 썸네일: 버린 카드 목록/라운드 결과(최대 60x85)의 2배인 폭 120px
+ * 원본은 모두 불투명하므로 JPEG로 바꿔도 보이는 차이가 없다.
+ * 파일 이름에 내용 해시를 넣어(1.3fa9c01b2e.jpg) 내용이 바뀌면 이름도 바뀌므로, 서버는 이 파일들을 변경 불가(immutable)로 오래 캐시시킨다.
+ * atlas가 true면 카드 이미지를 한 장에 모은 묶음도 만들어, 클라이언트가 요청 한 번으로 덱 전체를 받을 수 있게 한다.
+ *
+ * 결과 목록은 card-images.properties (CardCatalog가 읽음):
+ * 이름.image, 이름.thumbnail, 이름.sprite(묶음 안의 x,y,폭,높이), atlas
+ *
+ * 인자: 원본 디렉터리, 출력 디렉터리(리소스 루트), atlas 여부
+ */
+public final class CardImagePipeline {
+
+    private static final String URL_PREFIX = "/assets/cards/";
+    private static final int MAX_CARD_WIDTH = 320;
+    private static final int THUMBNAIL_WIDTH = 120;
+    private static final int ATLAS_COLUMNS = 3;
+    private static final float CARD_QUALITY = 0.85f;
+    private static final float THUMBNAIL_QUALITY = 0.8f;
+
+    private CardImagePipeline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path source = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+        boolean atlas = args.length < 3 || Boolean.parseBoolean(args[2]);
+
+        Path cardsDir = output.resolve("static/assets/cards");
+        deleteRecursively(output);
+        Files.createDirectories(cardsDir);
+
+        Map<String, BufferedImage> cards = new LinkedHashMap<>();
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(f -> f.toString().endsWith(".png")).sorted().toList()) {
+                String name = file.getFileName().toString().replace(".png", "");
+                BufferedImage original = ImageIO.read(file.toFile());
+                if (original == null) {
+                    throw new IOException("이미지를 읽을 수 없습니다: " + file);
+                }
+                cards.put(name, opaque(original));
+            }
+        }
+
+        Map<String, String> manifest = new LinkedHashMap<>();
+        long sourceBytes = 0;
+        long outputBytes = 0;
+        for (Map.Entry<String, BufferedImage> card : cards.entrySet()) {
+            String name = card.getKey();
+            BufferedImage image = card.getValue();
+            sourceBytes += Files.size(source.resolve(name + ".png"));
+
+            BufferedImage full = scaleToWidth(image, Math.min(MAX_CARD_WIDTH, image.getWidth()));
+            card.setValue(full);
+            outputBytes += write(cardsDir, name, encode(full, CARD_QUALITY), manifest, name + ".image");
+            outputBytes += write(cardsDir, name + "-thumb", encode(scaleToWidth(image, THUMBNAIL_WIDTH), THUMBNAIL_QUALITY),
+                manifest, name + ".thumbnail");
+        }
+
+        if (atlas && !cards.isEmpty()) {
+            outputBytes += writeAtlas(cardsDir, cards, manifest);
+        }
+
+        try (Writer writer = Files.newBufferedWriter(output.resolve("card-images.properties"), StandardCharsets.UTF_8)) {
+            writer.write("# CardImagePipeline이 만든 파일. 직접 고치지 않는다\n");
+            for (Map.Entry<String, String> entry : manifest.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+        System.out.printf("카드 이미지 %d장: 원본 %,d바이트 -> %,d바이트%s%n",
+            cards.size(), sourceBytes, outputBytes, atlas ? " (묶음 포함)" : "");
+    }
+
+    // 카드를 열 ATLAS_COLUMNS개짜리 격자로 모은다. 칸 크기는 가장 큰 카드 기준, 카드는 칸의 왼쪽 위에 놓는다
+    private static long writeAtlas(Path cardsDir, Map<String, BufferedImage> cards, Map<String, String> manifest)
+        throws IOException {
+        int cellWidth = 0;
+        int cellHeight = 0;
+        for (BufferedImage image : cards.values()) {
+            cellWidth = Math.max(cellWidth, image.getWidth());
+            cellHeight = Math.max(cellHeight, image.getHeight());
+        }
+        int rows = (cards.size() + ATLAS_COLUMNS - 1) / ATLAS_COLUMNS;
+        BufferedImage atlas = new BufferedImage(cellWidth * ATLAS_COLUMNS, cellHeight * rows, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = atlas.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, atlas.getWidth(), atlas.getHeight());
+
+        List<String> names = new ArrayList<>(cards.keySet());
+        for (int i = 0; i < names.size(); i++) {
+            BufferedImage image = cards.get(names.get(i));
+            int x = (i % ATLAS_COLUMNS) * cellWidth;
+            int y = (i / ATLAS_COLUMNS) * cellHeight;
+            graphics.drawImage(image, x, y, null);
+            manifest.put(names.get(i) + ".sprite", x + "," + y + "," + image.getWidth() + "," + image.getHeight());
+        }
+        graphics.dispose();
+        return write(cardsDir, "atlas", encode(atlas, CARD_QUALITY), manifest, "atlas");
+    }
+
+    private static long write(Path dir, String name, byte[] jpeg, Map<String, String> manifest, String key)
+        throws IOException {
+        String fileName = name + "." + contentHash(jpeg) + ".jpg";
+        Files.write(dir.resolve(fileName), jpeg);
+        manifest.put(key, URL_PREFIX + fileName);
+        return jpeg.length;
+    }
+
+    // JPEG는 알파 채널을 쓸 수 없으므로 흰 바탕에 그린 RGB 이미지로 바꾼다 (원본은 모두 불투명)
+    private static BufferedImage opaque(BufferedImage image) {
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+        graphics.drawImage(image, 0, 0, null);
+        graphics.dispose();
+        return rgb;
+    }
+
+    // 한 번에 절반보다 많이 줄이면 계단 현상이 생기므로 절반씩 줄인 뒤 마지막에 맞춘다
+    private static BufferedImage scaleToWidth(BufferedImage image, int width) {
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= width) {
+            current = resize(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() == width) {
+            return current;
+        }
+        int height = Math.max(1, Math.round((float) current.getHeight() * width / current.getWidth()));
+        return resize(current, width, height);
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+        graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private static byte[] encode(BufferedImage image, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(quality);
+        param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (MemoryCacheImageOutputStream stream = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(stream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.simiyami.loveletter.assets;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * 보수적인 JS/CSS 축소기. 주석, 들여쓰기, 빈 줄과 기호 주변 공백만 지운다.
+ *
+ * 문자열, 템플릿 리터럴, 정규식 리터럴 안은 그대로 두고, 줄바꿈은 남겨 자동 세미콜론 삽입 규칙이 바뀌지 않게 한다.
+ * 변수 이름을 줄이는 등의 변환은 하지 않는다 (나머지는 gzip/brotli 압축이 맡는다).
+ */
+final class Minifier {
+
+    // 이 문자 앞뒤의 공백은 지워도 토큰이 붙지 않는다 (+, -, .는 a + +b 같은 경우 때문에 제외)
+    private static final String JS_PUNCTUATION = "{}()[];,:=<>!?&|*%^~";
+    private static final String CSS_PUNCTUATION = "{};,>";
+    // 이 단어 뒤의 /는 나눗셈이 아니라 정규식
+    private static final Set<String> REGEX_KEYWORDS = Set.of(
+        "return", "typeof", "case", "in", "of", "delete", "void", "throw", "instanceof", "else", "do");
+    // 이 단어 뒤의 괄호는 조건이라, 닫는 괄호 뒤의 /도 정규식 (if (ok) /x/.test(s))
+    private static final Set<String> CONDITION_KEYWORDS = Set.of("if", "while", "for", "with");
+
+    private Minifier() {
+    }
+
+    static String javaScript(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        int i = 0;
+        Deque<Boolean> conditions = new ArrayDeque<>();  // 열린 괄호마다 조건 괄호인지
+        int conditionClose = -1;  // 마지막으로 조건을 닫은 ')'의 out 위치
+        int regexClose = -1;      // 마지막 정규식 리터럴이 끝난 out 위치
+        while (i < length) {
+            char c = source.charAt(i);
+            char next = i + 1 < length ? source.charAt(i + 1) : 0;
+
+            if (c == '/' && next == '/') {
+                while (i < length && source.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && next == '*') {
+                int end = source.indexOf("*/", i + 2);
+                int close = end < 0 ? length : end + 2;
+                // 줄바꿈이 있던 주석은 줄바꿈으로 남긴다 (자동 세미콜론 삽입)
+                if (source.substring(i, close).indexOf('\n') >= 0) {
+                    trimTrailingSpace(out);
+                    if (out.length() > 0 && out.charAt(out.length() - 1) != '\n') {
+                        out.append('\n');
+                    }
+                } else {
+                    pendingSpace(out, JS_PUNCTUATION);
+                }
+                i = close;
+            } else if (c == '\'' || c == '"') {
+                i = copyString(source, i, c, out);
+            } else if (c == '`') {
+                i = copyTemplate(source, i, out);
+            } else if (c == '/' && regexAllowed(out, conditionClose, regexClose)) {
+                i = copyRegex(source, i, out);
+                regexClose = out.length() - 1;
+            } else if (c == '\n' || c == '\r') {
+                trimTrailingSpace(out);
+                if (out.length() > 0 && out.charAt(out.length() - 1) != '\n') {
+                    out.append('\n');
+                }
+                i++;
+            } else if (c == ' ' || c == '\t') {
+                while (i < length && (source.charAt(i) == ' ' || source.charAt(i) == '\t')) {
+                    i++;
+                }
+                pendingSpace(out, JS_PUNCTUATION);
+            } else {
+                if (JS_PUNCTUATION.indexOf(c) >= 0) {
+                    trimTrailingSpace(out);
+                }
+                if (c == '(') {
+                    conditions.push(CONDITION_KEYWORDS.contains(lastWord(out)));
+                } else if (c == ')' && !conditions.isEmpty() && conditions.pop()) {
+                    conditionClose = out.length();
+                }
+                out.append(c);
+                i++;
+                if (JS_PUNCTUATION.indexOf(c) >= 0) {
+                    while (i < length && (source.charAt(i) == ' ' || source.charAt(i) == '\t')) {
+                        i++;
+                    }
+                }
+            }
+        }
+        trimTrailingSpace(out);
+        return out.toString();
+    }
+
+    static String css(String source) {
+        StringBuilder out = new StringBuilder(source.length());
+        int length = source.length();
+        int i = 0;
+        while (i < length) {
+            char c = source.charAt(i);
+            char next = i + 1 < length ? source.charAt(i + 1) : 0;
+
+            if (c == '/' && next == '*') {
+                int end = source.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (c == '\'' || c == '"') {
+                i = copyString(source, i, c, out);
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(source.charAt(i))) {
+                    i++;
+                }
+                pendingSpace(out, CSS_PUNCTUATION + ":");
+            } else if (CSS_PUNCTUATION.indexOf(c) >= 0 || c == ':') {
+                // 선택자의 " :hover"는 의미가 다르므로 콜론 앞 공백은 남긴다
+                if (c != ':') {
+                    trimTrailingSpace(out);
+                }
+                if (c == '}' && out.length() > 0 && out.charAt(out.length() - 1) == ';') {
+                    out.setLength(out.length() - 1);
+                }
+                out.append(c);
+                i++;
+                while (i < length && Character.isWhitespace(source.charAt(i))) {
+                    i++;
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        trimTrailingSpace(out);
+        return out.toString();
+    }
+
+    // 줄 첫머리나 기호 뒤가 아니면 공백 하나를 남긴다
+    private static void pendingSpace(StringBuilder out, String punctuation) {
+        if (out.length() == 0) {
+            return;
+        }
+        char last = out.charAt(out.length() - 1);
+        if (last == '\n' || last == ' ') {
+            return;
+        }
+        if (punctuation.indexOf(last) >= 0) {
+            return;
+        }
+        out.append(' ');
+    }
+
+    private static void trimTrailingSpace(StringBuilder out) {
+        while (out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+            out.setLength(out.length() - 1);
+        }
+    }
+
+    private static int copyString(String source, int start, char quote, StringBuilder out) {
+        int i = start;
+        out.append(source.charAt(i++));
+        while (i < source.length()) {
+            char c = source.charAt(i++);
+            out.append(c);
+            if (c == '\\' && i < source.length()) {
+                out.append(source.charAt(i++));
+            } else if (c == quote || c == '\n') {
+                break;
+            }
+        }
+        return i;
+    }
+
+    // 템플릿 리터럴. ${ } 안은 코드이므로 다시 축소하되, 중첩된 괄호와 문자열을 따라가며 닫는 위치를 찾는다
+    private static int copyTemplate(String source, int start, StringBuilder out) {
+        int i = start;
+        out.append(source.charAt(i++));
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\\' && i + 1 < source.length()) {
+                out.append(c).append(source.charAt(i + 1));
+                i += 2;
+            } else if (c == '`') {
+                out.append(c);
+                return i + 1;
+            } else if (c == '$' && i + 1 < source.length() && source.charAt(i + 1) == '{') {
+                int end = findExpressionEnd(source, i + 2);
+                out.append("${").append(javaScript(source.substring(i + 2, end))).append('}');
+                i = end + 1;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return i;
+    }
+
+    private static int findExpressionEnd(String source, int start) {
+        int depth = 0;
+        int i = start;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (c == '\'' || c == '"') {
+                i = copyString(source, i, c, new StringBuilder());
+                continue;
+            }
+            if (c == '`') {
+                i = copyTemplate(source, i, new StringBuilder());
+                continue;
+            }
+            if (c == '{') {
+                depth++;
+            } else if (c == '}') {
+                if (depth == 0) {
+                    return i;
+                }
+                depth--;
+            }
+            i++;
+        }
+        return source.length();
+    }
+
+    // 나눗셈이 아닌 정규식이 올 수 있는 자리인지 (앞의 의미 있는 토큰이 값의 끝이 아니면 정규식)
+    private static boolean regexAllowed(StringBuilder out, int conditionClose, int regexClose) {
+        int i = lastSignificant(out);
+        if (i < 0) {
+            return true;
+        }
+        char last = out.charAt(i);
+        if (isWordChar(last)) {
+            return REGEX_KEYWORDS.contains(lastWord(out));
+        }
+        if (last == ')') {
+            return i == conditionClose;
+        }
+        if (i == regexClose) {
+            return false;
+        }
+        // a++ / 2: 후위 증감 뒤는 값의 끝
+        if ((last == '+' || last == '-') && i > 0 && out.charAt(i - 1) == last) {
+            return false;
+        }
+        return last != ']' && last != '}' && last != '\'' && last != '"' && last != '`';
+    }
+
+    // 끝의 공백과 줄바꿈을 뺀 마지막 문자의 위치
+    private static int lastSignificant(StringBuilder out) {
+        int i = out.length() - 1;
+        while (i >= 0 && (out.charAt(i) == ' ' || out.charAt(i) == '\n')) {
+            i--;
+        }
+        return i;
+    }
+
+    // out 끝(공백, 줄바꿈 제외)의 단어. 단어로 끝나지 않으면 빈 문자열
+    private static String lastWord(StringBuilder out) {
+        int end = lastSignificant(out) + 1;
+        int i = end;
+        while (i > 0 && isWordChar(out.charAt(i - 1))) {
+            i--;
+        }
+        return out.substring(i, end);
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static int copyRegex(String source, int start, StringBuilder out) {
+        int i = start;
+        boolean inClass = false;
+        out.append(source.charAt(i++));
+        while (i < source.length()) {
+            char c = source.charAt(i++);
+            out.append(c);
+            if (c == '\\' && i < source.length()) {
+                out.append(source.charAt(i++));
+            } else if (c == '[') {
+                inClass = true;
+            } else if (c == ']') {
+                inClass = false;
+            } else if ((c == '/' && !inClass) || c == '\n') {
+                break;
+            }
+        }
+        return i;
+    }
+}
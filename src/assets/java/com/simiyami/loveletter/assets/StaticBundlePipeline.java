@@ -0,0 +1,129 @@
+package com.simiyami.loveletter.assets;
+
+import com.aayushatharva.brotli4j.Brotli4jLoader;
+import com.aayushatharva.brotli4j.encoder.Encoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 빌드 때 static/js, static/css의 파일을 줄이고(Minifier) 미리 압축해, 내용 해시가 든 이름으로 static/assets/bundles 아래에 둔다.
+ * ./gradlew staticBundles (processResources 전에 실행됨)
+ *
+ * 파일마다 game.3fa9c01b2e.js와 함께 .gz(gzip 최대 압축), .br(brotli 최고 품질)을 만든다.
+ * 서버는 요청의 Accept-Encoding에 맞는 파일을 골라 보내기만 하므로 요청마다 압축하지 않는다 (WebConfig).
+ * brotli 네이티브 라이브러리를 쓸 수 없는 플랫폼이면 .br 없이 .gz만 만든다.
+ *
+ * 결과 목록은 static-bundles.properties (원본 주소=만든 주소, 템플릿이 StaticBundles로 읽음).
+ *
+ * 인자: static 디렉터리, 출력 디렉터리(리소스 루트)
+ */
+public final class StaticBundlePipeline {
+
+    private static final String URL_PREFIX = "/assets/bundles/";
+    private static final List<String> DIRECTORIES = List.of("js", "css");
+    private static final int BROTLI_QUALITY = 11;
+
+    private StaticBundlePipeline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path source = Path.of(args[0]);
+        Path output = Path.of(args[1]);
+
+        Path bundlesDir = output.resolve("static/assets/bundles");
+        deleteRecursively(output);
+        Files.createDirectories(bundlesDir);
+
+        boolean brotli = Brotli4jLoader.isAvailable();
+        if (!brotli) {
+            System.out.println("brotli를 쓸 수 없어 gzip만 만듭니다: " + Brotli4jLoader.getUnavailabilityCause());
+        }
+
+        Map<String, String> manifest = new LinkedHashMap<>();
+        for (String directory : DIRECTORIES) {
+            Path dir = source.resolve(directory);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : files.filter(f -> f.toString().endsWith("." + directory)).sorted().toList()) {
+                    String name = file.getFileName().toString();
+                    String original = Files.readString(file, StandardCharsets.UTF_8);
+                    String minified = directory.equals("js") ? Minifier.javaScript(original) : Minifier.css(original);
+                    byte[] content = minified.getBytes(StandardCharsets.UTF_8);
+
+                    String base = name.substring(0, name.length() - directory.length() - 1);
+                    String fileName = base + "." + contentHash(content) + "." + directory;
+                    Files.write(bundlesDir.resolve(fileName), content);
+                    byte[] gzip = gzip(content);
+                    Files.write(bundlesDir.resolve(fileName + ".gz"), gzip);
+                    String brotliSize = "-";
+                    if (brotli) {
+                        byte[] compressed = Encoder.compress(content,
+                            new Encoder.Parameters().setQuality(BROTLI_QUALITY).setMode(Encoder.Mode.TEXT));
+                        Files.write(bundlesDir.resolve(fileName + ".br"), compressed);
+                        brotliSize = String.format("%,d", compressed.length);
+                    }
+
+                    manifest.put("/" + directory + "/" + name, URL_PREFIX + fileName);
+                    System.out.printf("%s: 원본 %,d바이트 -> 축소 %,d, gzip %,d, brotli %s%n", fileName,
+                        Files.size(file), content.length, gzip.length, brotliSize);
+                }
+            }
+        }
+
+        try (Writer writer = Files.newBufferedWriter(output.resolve("static-bundles.properties"), StandardCharsets.UTF_8)) {
+            writer.write("# StaticBundlePipeline이 만든 파일. 직접 고치지 않는다\n");
+            for (Map.Entry<String, String> entry : manifest.entrySet()) {
+                writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String contentHash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            return HexFormat.of().formatHex(digest, 0, 5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
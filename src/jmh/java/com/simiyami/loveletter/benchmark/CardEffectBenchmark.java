@@ -0,0 +1,74 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 카드 종류별 CardService.executeCardEffect 측정.
+ * 효과가 상태를 바꾸므로 반복(iteration)마다 같은 상태의 게임 POOL_SIZE개를 미리 만들어 두고, 호출마다 다음 게임을 쓴다.
+ * 호출 하나가 수십 ns라 호출마다 상태를 되돌리면(Level.Invocation) 준비와 시간 측정 비용이 결과를 덮으므로,
+ * 반복 하나를 정확히 POOL_SIZE번 호출하는 묶음(SingleShotTime, batchSize)으로 잰다.
+ * 점수는 묶음 하나의 시간이므로 호출당 시간은 점수를 POOL_SIZE로 나눈 값이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(batchSize = CardEffectBenchmark.POOL_SIZE)
+@Measurement(batchSize = CardEffectBenchmark.POOL_SIZE)
+public class CardEffectBenchmark {
+
+    static final int POOL_SIZE = 8192;
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    @Param({"GUARD", "PRIEST", "BARON", "HANDMAID", "PRINCE", "KING", "COUNTESS", "PRINCESS"})
+    public CardType cardType;
+
+    private CardService cardService;
+    private CompactGame initial;
+    private Game[] games;
+    private Card card;
+    private Integer guessNumber;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cardService = new CardService();
+        GameService gameService = new GameService(cardService, new GameRegistry(POOL_SIZE + 1, 60_000));
+        games = new Game[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            games[i] = gameService.createGame(playerCount - 1, 42);
+        }
+        initial = CompactGame.fromGame(games[0]);
+        card = new Card(cardType, "card-benchmark");
+        // 경비병은 맞히는 경우(탈락 처리 포함)를 측정
+        int targetNumber = games[0].getPlayerAt(1).getHandCard().getNumber();
+        guessNumber = targetNumber == 1 ? 2 : targetNumber;
+    }
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        for (Game game : games) {
+            initial.applyTo(game);
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public Game executeCardEffect() {
+        Game game = games[next++];
+        Player target = cardType.requiresTarget() ? game.getPlayerAt(1) : null;
+        cardService.executeCardEffect(game, game.getPlayerAt(0), card, target, guessNumber);
+        return game;
+    }
+}
@@ -0,0 +1,82 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import com.simiyami.loveletter.service.GameStateReader;
+import org.openjdk.jmh.annotations.*;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 한 판의 주요 경로 측정: 덱 준비, CPU 결정, 상태 응답 생성과 JSON 직렬화, 캐시된 상태 응답 읽기.
+ * 할당량은 gc 프로파일러 결과(gc.alloc.rate.norm)로 확인한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    private Game game;
+    private Player cpuPlayer;
+    private Card drawnCard;
+    private AIService aiService;
+    private GameState state;
+    private JsonMapper jsonMapper;
+    private GameStateReader stateReader;
+    private GameSnapshot snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameService gameService = new GameService(new CardService());
+        game = gameService.createGame(playerCount - 1);
+        aiService = new AIService();
+        jsonMapper = JsonMapper.builder().build();
+
+        // CPU 차례까지 진행해 카드를 한 장 뽑아 둔다
+        gameService.nextTurn(game);
+        cpuPlayer = game.getCurrentPlayer();
+        drawnCard = gameService.drawCardForPlayer(game, cpuPlayer);
+        state = GameState.fromGame(game, "player-human");
+
+        stateReader = new GameStateReader(gameService, jsonMapper, GameStateReader.DEFAULT_MAX_GAMES);
+        snapshot = game.publishSnapshot();
+    }
+
+    @Benchmark
+    public Game initializeDeck() {
+        game.initializeDeck();
+        return game;
+    }
+
+    @Benchmark
+    public CPUAction decideCPUAction() {
+        return aiService.decideCPUAction(game, cpuPlayer, drawnCard);
+    }
+
+    @Benchmark
+    public GameState gameStateFromGame() {
+        return GameState.fromGame(game, "player-human");
+    }
+
+    @Benchmark
+    public byte[] serializeGameState() {
+        return jsonMapper.writeValueAsBytes(state);
+    }
+
+    // 같은 버전을 다시 읽을 때 (캐시 조회만) - gameStateFromGame + serializeGameState와 비교
+    @Benchmark
+    public byte[] readCachedStateJson() {
+        return stateReader.readJson(snapshot, "player-human", null);
+    }
+}
@@ -0,0 +1,58 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameCodec;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임 전체 상태 바이너리 변환 측정: 새 배열로 인코딩, 재사용 버퍼에 인코딩, 복원, 복원 없이 뷰로 읽기.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GameCodecBenchmark {
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    private Game game;
+    private ByteBuffer scratch;
+    private ByteBuffer encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GameService gameService = new GameService(new CardService());
+        game = gameService.createGame(playerCount - 1);
+        gameService.drawCardForPlayer(game, game.getCurrentPlayer());
+        scratch = ByteBuffer.allocateDirect(GameCodec.maxEncodedSize(game));
+        encoded = ByteBuffer.wrap(GameCodec.encode(game));
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return GameCodec.encode(game);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeInto() {
+        scratch.clear();
+        GameCodec.encode(game, scratch);
+        return scratch;
+    }
+
+    @Benchmark
+    public Game decode() {
+        return GameCodec.decode(encoded.duplicate(), 100);
+    }
+
+    @Benchmark
+    public long viewVersion() {
+        GameCodec.View view = GameCodec.view(encoded);
+        return view.getVersion() + view.getCurrentPlayerIndex();
+    }
+}
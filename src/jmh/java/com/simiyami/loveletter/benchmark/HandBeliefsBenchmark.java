@@ -0,0 +1,64 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CardCounter;
+import com.simiyami.loveletter.model.HandBeliefs;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 손패 추정 갱신 비용. 4인 게임의 한 턴에 일어나는 갱신(카드 사용 + 경비병 빗나감)과
+ * CPU 한 명이 모든 상대에 대해 하는 질의를 측정한다. 할당이 없어야 한다 (gc.alloc.rate.norm = 0).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandBeliefsBenchmark {
+
+    @Param({"2", "3", "4"})
+    public int playerCount;
+
+    private HandBeliefs beliefs;
+    private CardCounter counter;
+    private SplittableRandom random;
+    private Card[] cards;
+    private int turn;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beliefs = new HandBeliefs(playerCount);
+        counter = new CardCounter();
+        random = new SplittableRandom(42);
+        CardType[] types = CardType.values();
+        cards = new Card[types.length];
+        for (int i = 0; i < types.length; i++) {
+            cards[i] = new Card(types[i], "card-" + i);
+        }
+    }
+
+    @Benchmark
+    public HandBeliefs updatePerTurn() {
+        int seat = turn % playerCount;
+        int target = (seat + 1) % playerCount;
+        beliefs.onCardPlayed(seat, cards[turn % cards.length]);
+        beliefs.onGuardMissed(target, 2 + turn % 7);
+        if (++turn % 16 == 0) {
+            beliefs.reset();
+        }
+        return beliefs;
+    }
+
+    @Benchmark
+    public int queryAllOpponents() {
+        int result = 0;
+        for (int opponent = 1; opponent < playerCount; opponent++) {
+            result += beliefs.sampleGuess(0, opponent, counter, 3, 4, random);
+            result += (int) beliefs.expectedNumber(0, opponent, counter, 3, 4);
+            result += (int) (beliefs.compareAgainst(0, opponent, 3, counter, 3, 4) * 10);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameJournal;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 게임 저널 비용 측정: 저널을 켠 상태에서 명령 처리량 (journaled와 plain의 차이가 저널 기록 비용).
+ * 상태 인코딩/디코딩 자체는 GameCodecBenchmark 참고.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JournalBenchmark {
+
+    @Param({"2", "4"})
+    public int playerCount;
+
+    private Path directory;
+    private GameService plainService;
+    private GameService journaledService;
+    private GameJournal journal;
+    private Game plainGame;
+    private Game journaledGame;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        plainService = new GameService(new CardService(), new GameRegistry(100, 60_000));
+        journaledService = new GameService(new CardService(), new GameRegistry(100, 60_000));
+        journal = GameJournal.open(directory, journaledService, 64L * 1024 * 1024, 512, 10_000);
+
+        plainGame = plainService.createGame(playerCount - 1);
+        journaledGame = journaledService.createGame(playerCount - 1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        System.out.printf("%n[저널] 기록 %d개, fsync %d회, 버림 %d개%n",
+            journal.getRecordCount(), journal.getSyncCount(), journal.getDroppedCount());
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public Object executePlain() {
+        return plainService.execute(plainGame.getId(), g -> null);
+    }
+
+    @Benchmark
+    public Object executeJournaled() {
+        return journaledService.execute(journaledGame.getId(), g -> null);
+    }
+}
@@ -0,0 +1,46 @@
+package com.simiyami.loveletter.benchmark;
+
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게임별 명령 큐(mailbox) 경합 측정: 여러 스레드가 게임 gameCount개 중 하나를 골라 짧은 명령을 보낸다.
+ * gameCount가 1이면 모든 스레드가 한 게임의 큐를 두고 경합하고, 많으면 서로 다른 게임이라 거의 경합하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(8)
+public class MailboxBenchmark {
+
+    @Param({"1", "64", "2000"})
+    public int gameCount;
+
+    private GameService gameService;
+    private String[] gameIds;
+
+    @State(Scope.Thread)
+    public static class Client {
+        private final SplittableRandom random = new SplittableRandom();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        gameService = new GameService(new CardService(), new GameRegistry(gameCount, 60_000));
+        gameIds = new String[gameCount];
+        for (int i = 0; i < gameCount; i++) {
+            gameIds[i] = gameService.createGame(3).getId();
+        }
+    }
+
+    @Benchmark
+    public int execute(Client client) {
+        String gameId = gameIds[client.random.nextInt(gameIds.length)];
+        return gameService.execute(gameId, g -> g.getAlivePlayers().size());
+    }
+}
@@ -0,0 +1,24 @@
+package com.simiyami.loveletter.loadtest;
+
+/**
+ * 가상 플레이어가 호출하는 API (game.js, menu.html과 같은 요청).
+ */
+enum Endpoint {
+    START("POST /game/start"),
+    CARDS("GET /cards"),
+    STATE("GET /game/{id}/state"),
+    DRAW("POST /game/{id}/draw"),
+    TURN("POST /game/{id}/turn"),
+    CPU_TURNS("POST /game/{id}/cpu-turns"),
+    NEXT_ROUND("POST /game/{id}/next-round");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String getLabel() {
+        return label;
+    }
+}
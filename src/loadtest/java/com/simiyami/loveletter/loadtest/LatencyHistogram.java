@@ -0,0 +1,89 @@
+package com.simiyami.loveletter.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 마이크로초 단위 지연 시간 히스토그램 (HdrHistogram과 같은 로그-선형 구간, 상대 오차 1/64 이내).
+ *
+ * 각 2의 거듭제곱 구간을 64칸으로 나누므로 1us부터 며칠까지 2,304칸이면 된다.
+ * 가상 플레이어 여러 명이 동시에 기록하므로 칸은 AtomicLongArray로 센다.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKETS = 64;
+    private static final int MAX_SHIFT = 34;  // 약 2^40us (12일)까지
+    private static final int SIZE = 2 * SUB_BUCKETS + MAX_SHIFT * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SIZE);
+
+    void record(long micros) {
+        counts.incrementAndGet(indexOf(Math.max(0, micros)));
+    }
+
+    /**
+     * 다른 히스토그램의 기록을 더한다 (엔드포인트별 기록을 합쳐 전체를 볼 때).
+     */
+    void addAll(LatencyHistogram other) {
+        for (int i = 0; i < SIZE; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+    }
+
+    long getCount() {
+        long total = 0;
+        for (int i = 0; i < SIZE; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * 백분위 값 (0 < percentile <= 100). 해당 칸의 상한을 돌려주므로 실제 값보다 조금 크게 보고된다.
+     */
+    long getPercentile(double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+        long seen = 0;
+        for (int i = 0; i < SIZE; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+        return upperBoundOf(SIZE - 1);
+    }
+
+    long getMax() {
+        for (int i = SIZE - 1; i >= 0; i--) {
+            if (counts.get(i) != 0) {
+                return upperBoundOf(i);
+            }
+        }
+        return 0;
+    }
+
+    // 128 미만은 값 그대로, 그 이상은 상위 7비트(64-127)와 자리 이동 수로 칸을 정한다
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Math.min(MAX_SHIFT, 63 - Long.numberOfLeadingZeros(value) - 6);
+        long sub = Math.min(2 * SUB_BUCKETS - 1, value >>> shift);
+        return 2 * SUB_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (sub - SUB_BUCKETS);
+    }
+
+    static long upperBoundOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - 2 * SUB_BUCKETS) / SUB_BUCKETS + 1;
+        long sub = (index - 2 * SUB_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,179 @@
+package com.simiyami.loveletter.loadtest;
+
+import com.simiyami.loveletter.LoveletterApplication;
+import com.simiyami.loveletter.service.GameRegistry;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 부하 테스트: 같은 JVM에 서버를 띄우고, 단계마다 정해진 수의 가상 플레이어(VirtualPlayer)로 게임을 진행해
+ * 처리량, 보정된 지연 시간 백분위, 힙/GC를 단계별로 출력한다. 한 노드가 동시에 몇 게임까지 버티는지 보는 용도.
+ *
+ * 실행: ./gradlew loadTest -PloadTest.players=50,200,800 -PloadTest.thinkMs=500 -PloadTest.stageSeconds=30
+ *
+ * 옵션 (--이름=값):
+ * - players: 단계별 동시 플레이어 수 (쉼표로 구분). 첫 단계 수로 워밍업을 먼저 한다
+ * - cpuCount: 게임당 CPU 수, thinkMs: 플레이어의 요청 간격 (0이면 쉬지 않고 보내며 보정 없음)
+ * - warmupSeconds, stageSeconds: 워밍업/단계 길이, roundsPerGame: 새 게임을 시작하기 전까지 진행할 라운드 수
+ * - target: 이미 떠 있는 서버 주소 (주면 서버를 띄우지 않음), seed: 플레이어 난수 시드
+ * 그 밖의 옵션(--loveletter.journal.enabled=false 등)은 띄우는 서버의 설정으로 넘긴다.
+ *
+ * 서버와 부하 생성기가 같은 JVM이므로 힙/GC 수치는 둘을 합친 값이다.
+ */
+public final class LoadTest {
+
+    record Options(List<Integer> players, int cpuCount, long thinkMs, int warmupSeconds, int stageSeconds,
+                   int roundsPerGame, String target, long seed, Map<String, String> serverProperties) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new LinkedHashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("--이름=값 형식이어야 합니다: " + arg);
+                }
+                int split = arg.indexOf('=');
+                values.put(arg.substring(2, split), arg.substring(split + 1));
+            }
+
+            List<Integer> players = Arrays.stream(values.getOrDefault("players", "50,200,800").split(","))
+                .map(String::trim).map(Integer::parseInt).toList();
+            Options options = new Options(
+                players,
+                Integer.parseInt(values.getOrDefault("cpuCount", "3")),
+                Long.parseLong(values.getOrDefault("thinkMs", "500")),
+                Integer.parseInt(values.getOrDefault("warmupSeconds", "15")),
+                Integer.parseInt(values.getOrDefault("stageSeconds", "30")),
+                Integer.parseInt(values.getOrDefault("roundsPerGame", "3")),
+                values.get("target"),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                new LinkedHashMap<>());
+            for (String name : List.of("players", "cpuCount", "thinkMs", "warmupSeconds", "stageSeconds",
+                "roundsPerGame", "target", "seed")) {
+                values.remove(name);
+            }
+            options.serverProperties().putAll(values);
+            return options;
+        }
+    }
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+
+        Path journalDir = null;
+        ConfigurableApplicationContext server = null;
+        URI base;
+        LongSupplier liveGames = () -> -1;
+        if (options.target() == null) {
+            journalDir = Files.createTempDirectory("loveletter-loadtest");
+            server = startServer(options, journalDir);
+            base = URI.create("http://localhost:" + server.getEnvironment().getProperty("local.server.port") + "/");
+            GameRegistry registry = server.getBean(GameRegistry.class);
+            liveGames = registry::size;
+        } else {
+            base = URI.create(options.target().endsWith("/") ? options.target() : options.target() + "/");
+        }
+
+        System.out.printf("부하 테스트: %s, 단계 %s명, CPU %d명, 요청 간격 %dms, 워밍업 %d초, 단계 %d초, 게임당 %d라운드%n",
+            base, options.players(), options.cpuCount(), options.thinkMs(), options.warmupSeconds(),
+            options.stageSeconds(), options.roundsPerGame());
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+        JsonMapper jsonMapper = JsonMapper.builder().build();
+
+        List<StageRecorder> stages = new ArrayList<>();
+        try {
+            if (options.warmupSeconds() > 0) {
+                StageRecorder warmup = new StageRecorder("워밍업", options.players().get(0));
+                runStage(warmup, options, base, client, jsonMapper, options.warmupSeconds(), liveGames, 0);
+                System.out.print(warmup.format());
+            }
+            for (int i = 0; i < options.players().size(); i++) {
+                StageRecorder stage = new StageRecorder("단계 " + (i + 1), options.players().get(i));
+                runStage(stage, options, base, client, jsonMapper, options.stageSeconds(), liveGames, i + 1);
+                System.out.print(stage.format());
+                stages.add(stage);
+            }
+        } finally {
+            client.close();
+            if (server != null) {
+                SpringApplication.exit(server);
+            }
+            if (journalDir != null) {
+                deleteRecursively(journalDir);
+            }
+        }
+        System.exit(stages.stream().anyMatch(stage -> stage.getErrorCount() > 0) ? 1 : 0);
+    }
+
+    private static ConfigurableApplicationContext startServer(Options options, Path journalDir) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.main.banner-mode", "off");
+        properties.put("logging.level.root", "WARN");
+        properties.put("loveletter.log.target", "NONE");
+        properties.put("loveletter.journal.enabled", "true");
+        properties.put("loveletter.journal.dir", journalDir.toString());
+        properties.putAll(options.serverProperties());
+
+        String[] args = properties.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        return SpringApplication.run(LoveletterApplication.class, args);
+    }
+
+    /**
+     * 플레이어를 모두 띄우고 정해진 시간이 지나면 멈춘다. 멈춘 뒤에는 진행 중이던 요청까지만 기다린다.
+     */
+    private static void runStage(StageRecorder recorder, Options options, URI base, HttpClient client,
+                                 JsonMapper jsonMapper, int seconds, LongSupplier liveGames, int stageIndex)
+        throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        recorder.begin();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            int players = recorder.getPlayers();
+            for (int i = 0; i < players; i++) {
+                long seed = options.seed() + (long) stageIndex * 1_000_003 + i;
+                executor.execute(new VirtualPlayer(base, client, jsonMapper, options, recorder,
+                    () -> System.nanoTime() < deadline, seed));
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            }
+        }
+        recorder.end(liveGames.getAsLong());
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.simiyami.loveletter.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 단계(동시 플레이어 수 하나) 동안의 요청 기록과, 단계 시작/끝의 힙/GC 상태.
+ *
+ * 지연 시간은 두 가지로 기록한다.
+ * - 보정(corrected): 요청을 보내기로 예정했던 시각부터 응답까지. 앞 요청이 늦어 보내는 시각이 밀렸으면 그만큼 포함된다.
+ * - 측정(raw): 실제로 보낸 시각부터 응답까지.
+ * 서버가 느려지면 닫힌 부하 생성기는 요청을 덜 보내므로 측정 값만 보면 느린 구간이 적게 잡힌다 (coordinated omission).
+ * 보정 값이 서버가 예정대로 요청을 받았다면 사용자가 겪었을 지연이다.
+ */
+final class StageRecorder {
+
+    private final String name;
+    private final int players;
+    private final LatencyHistogram[] corrected = new LatencyHistogram[Endpoint.values().length];
+    private final LatencyHistogram[] raw = new LatencyHistogram[Endpoint.values().length];
+    private final LongAdder[] errors = new LongAdder[Endpoint.values().length];
+    private final LongAdder gamesStarted = new LongAdder();
+    private final LongAdder roundsFinished = new LongAdder();
+
+    private long startNanos;
+    private long endNanos;
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+    private long gcCount;
+    private long gcMillis;
+    private MemoryUsage heapAtEnd;
+    private long liveGames = -1;
+
+    StageRecorder(String name, int players) {
+        this.name = name;
+        this.players = players;
+        for (int i = 0; i < corrected.length; i++) {
+            corrected[i] = new LatencyHistogram();
+            raw[i] = new LatencyHistogram();
+            errors[i] = new LongAdder();
+        }
+    }
+
+    void begin() {
+        gcCountAtStart = totalGcCount();
+        gcMillisAtStart = totalGcMillis();
+        startNanos = System.nanoTime();
+    }
+
+    void end(long liveGames) {
+        endNanos = System.nanoTime();
+        gcCount = totalGcCount() - gcCountAtStart;
+        gcMillis = totalGcMillis() - gcMillisAtStart;
+        heapAtEnd = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        this.liveGames = liveGames;
+    }
+
+    void record(Endpoint endpoint, long intendedNanos, long sentNanos, long doneNanos, boolean ok) {
+        corrected[endpoint.ordinal()].record((doneNanos - intendedNanos) / 1000);
+        raw[endpoint.ordinal()].record((doneNanos - sentNanos) / 1000);
+        if (!ok) {
+            errors[endpoint.ordinal()].increment();
+        }
+    }
+
+    void countGameStarted() {
+        gamesStarted.increment();
+    }
+
+    void countRoundFinished() {
+        roundsFinished.increment();
+    }
+
+    int getPlayers() {
+        return players;
+    }
+
+    long getErrorCount() {
+        long total = 0;
+        for (LongAdder error : errors) {
+            total += error.sum();
+        }
+        return total;
+    }
+
+    String format() {
+        double seconds = (endNanos - startNanos) / 1e9;
+        LatencyHistogram allCorrected = new LatencyHistogram();
+        LatencyHistogram allRaw = new LatencyHistogram();
+        for (int i = 0; i < corrected.length; i++) {
+            allCorrected.addAll(corrected[i]);
+            allRaw.addAll(raw[i]);
+        }
+        long requests = allCorrected.getCount();
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%n=== %s: 플레이어 %d명, %.1f초 ===%n", name, players, seconds));
+        out.append(String.format("처리량: 요청 %,.1f/s, 새 게임 %,.1f/s, 끝난 라운드 %,.1f/s (요청 %,d개, 오류 %,d개)%n",
+            requests / seconds, gamesStarted.sum() / seconds, roundsFinished.sum() / seconds, requests, getErrorCount()));
+        out.append(String.format("%-26s %9s %7s %9s %9s %9s %9s %11s%n",
+            "지연(ms, 보정)", "요청", "오류", "p50", "p99", "p99.9", "max", "p99(측정)"));
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (corrected[endpoint.ordinal()].getCount() > 0) {
+                appendRow(out, endpoint.getLabel(), corrected[endpoint.ordinal()], raw[endpoint.ordinal()],
+                    errors[endpoint.ordinal()].sum());
+            }
+        }
+        appendRow(out, "전체", allCorrected, allRaw, getErrorCount());
+        out.append(String.format("힙: 사용 %,d MB / 확보 %,d MB, GC %d회 %,d ms (%.1f%%)",
+            heapAtEnd.getUsed() >> 20, heapAtEnd.getCommitted() >> 20, gcCount, gcMillis, gcMillis / 10.0 / seconds));
+        if (liveGames >= 0) {
+            out.append(String.format(", 서버의 게임 %,d개", liveGames));
+        }
+        out.append(String.format("%n"));
+        return out.toString();
+    }
+
+    private static void appendRow(StringBuilder out, String label, LatencyHistogram corrected, LatencyHistogram raw,
+                                  long errors) {
+        out.append(String.format("%-26s %,9d %,7d %9.2f %9.2f %9.2f %9.2f %11.2f%n", label, corrected.getCount(), errors,
+            corrected.getPercentile(50) / 1000.0, corrected.getPercentile(99) / 1000.0,
+            corrected.getPercentile(99.9) / 1000.0, corrected.getMax() / 1000.0, raw.getPercentile(99) / 1000.0));
+    }
+
+    private static long totalGcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long totalGcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,299 @@
+package com.simiyami.loveletter.loadtest;
+
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 사람 플레이어 한 명을 흉내 낸다. game.js와 같은 순서로 요청을 보내며 게임을 계속 새로 시작한다.
+ *
+ * 한 게임: /game/start, /cards(두 번째부터는 If-None-Match로 304), 전체 상태 한 번,
+ * 이후 턴마다 상태 확인(since + If-None-Match) 뒤 내 차례면 /draw와 /turn?cpuTurns=true
+ * (응답에 다음 카드가 미리 뽑혀 오면 /draw 생략), 아니면 /cpu-turns. 대상이 필요한 카드는 고르기 전에 상태를 한 번 더 확인한다.
+ * 라운드가 끝나면 정해진 라운드 수까지 /next-round, 그 뒤 새 게임. SSE는 열지 않는다 (폴링 경로를 측정).
+ *
+ * 요청은 thinkMs 간격의 예정 시각에 맞춰 보낸다. 응답이 늦어 예정 시각이 지났으면 기다리지 않고 바로 보내며,
+ * 지연 시간은 예정 시각부터 잰다 (StageRecorder 참고).
+ */
+final class VirtualPlayer implements Runnable {
+
+    private static final String PLAYER_ID = "player-human";
+
+    private final URI base;
+    private final HttpClient client;
+    private final JsonMapper jsonMapper;
+    private final LoadTest.Options options;
+    private final StageRecorder recorder;
+    private final BooleanSupplier running;
+    private final Random random;
+    private final long intervalNanos;
+
+    private long nextIntended;
+    private int[] cardNumbers;
+    private String catalogEtag;
+
+    // 진행 중인 게임 (applyState로 전체 상태/변경분을 합친다)
+    private String gameId;
+    private long version;
+    private String currentPlayerId;
+    private boolean roundOver;
+    private final Map<String, boolean[]> players = new HashMap<>();  // id -> {alive, protected}
+    private List<?> pendingPlayable;  // /turn 응답에 미리 뽑혀 온 다음 턴의 낼 수 있는 카드
+
+    VirtualPlayer(URI base, HttpClient client, JsonMapper jsonMapper, LoadTest.Options options, StageRecorder recorder,
+                  BooleanSupplier running, long seed) {
+        this.base = base;
+        this.client = client;
+        this.jsonMapper = jsonMapper;
+        this.options = options;
+        this.recorder = recorder;
+        this.running = running;
+        this.random = new Random(seed);
+        this.intervalNanos = options.thinkMs() * 1_000_000L;
+        // 모든 플레이어가 같은 순간에 몰리지 않도록 첫 요청 시각을 한 간격 안에서 흩뜨린다
+        this.nextIntended = System.nanoTime() + (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos) : 0);
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (running.getAsBoolean()) {
+                playGame();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void playGame() throws InterruptedException {
+        Map<String, Object> start = call(Endpoint.START, post("/game/start?cpuCount=" + options.cpuCount()));
+        if (start == null) {
+            return;
+        }
+        gameId = (String) start.get("gameId");
+        version = -1;
+        players.clear();
+        pendingPlayable = null;
+        applyState(start);
+        recorder.countGameStarted();
+
+        if (!loadCatalog()) {
+            return;
+        }
+        Map<String, Object> initial = call(Endpoint.STATE, get("/game/" + gameId + "/state?playerId=" + PLAYER_ID));
+        if (initial == null) {
+            return;
+        }
+        applyState(initial);
+
+        int rounds = 0;
+        while (running.getAsBoolean()) {
+            if (!refreshState()) {
+                return;
+            }
+            if (roundOver) {
+                recorder.countRoundFinished();
+                if (++rounds >= options.roundsPerGame() || !startNextRound()) {
+                    return;
+                }
+            } else if (PLAYER_ID.equals(currentPlayerId)) {
+                if (!playMyTurn()) {
+                    return;
+                }
+            } else if (!playCPUTurns()) {
+                return;
+            }
+        }
+    }
+
+    // 카드 코드 -> 숫자. 처음에만 받고 이후로는 브라우저 캐시처럼 ETag로 확인만 한다
+    private boolean loadCatalog() throws InterruptedException {
+        HttpRequest.Builder request = get("/cards");
+        if (catalogEtag != null) {
+            request.header("If-None-Match", catalogEtag);
+        }
+        HttpResponse<byte[]> response = send(Endpoint.CARDS, request);
+        if (response == null) {
+            return false;
+        }
+        if (response.statusCode() == 304) {
+            return true;
+        }
+        List<?> entries = jsonMapper.readValue(response.body(), List.class);
+        cardNumbers = new int[entries.size()];
+        for (Object entry : entries) {
+            Map<?, ?> card = (Map<?, ?>) entry;
+            cardNumbers[((Number) card.get("code")).intValue()] = ((Number) card.get("number")).intValue();
+        }
+        catalogEtag = response.headers().firstValue("ETag").orElse(null);
+        return true;
+    }
+
+    private boolean refreshState() throws InterruptedException {
+        HttpRequest.Builder request = get(withSince("/game/" + gameId + "/state?playerId=" + PLAYER_ID))
+            .header("If-None-Match", "\"v" + version + "\"");
+        HttpResponse<byte[]> response = send(Endpoint.STATE, request);
+        if (response == null) {
+            return false;
+        }
+        if (response.statusCode() != 304) {
+            applyState(jsonMapper.readValue(response.body(), Map.class));
+        }
+        return true;
+    }
+
+    private boolean playMyTurn() throws InterruptedException {
+        List<?> playable = pendingPlayable;
+        pendingPlayable = null;
+        if (playable == null) {
+            Map<String, Object> drawn = call(Endpoint.DRAW, post(withSince("/game/" + gameId + "/draw?playerId=" + PLAYER_ID)));
+            if (drawn == null) {
+                return false;
+            }
+            applyState(drawn.get("gameState"));
+            playable = (List<?>) drawn.get("playableCards");
+        }
+
+        int code = ((Number) playable.get(random.nextInt(playable.size()))).intValue();
+        int number = cardNumbers[code];
+        String targetId = null;
+        Integer guess = null;
+        if (number == 1 || number == 2 || number == 3 || number == 5 || number == 6) {
+            // game.js처럼 대상을 고르기 전에 상태를 다시 확인한다
+            if (!refreshState()) {
+                return false;
+            }
+            targetId = chooseTarget(number == 5);
+            if (number == 1 && targetId != null) {
+                guess = 2 + random.nextInt(7);
+            }
+        }
+
+        Map<String, Object> body = new HashMap<>();
+        body.put("playerId", PLAYER_ID);
+        body.put("cardId", "card-" + code);
+        body.put("targetId", targetId);
+        body.put("guessNumber", guess);
+        Map<String, Object> result = call(Endpoint.TURN, post(withSince("/game/" + gameId + "/turn?cpuTurns=true"),
+            jsonMapper.writeValueAsBytes(body)));
+        if (result == null) {
+            return false;
+        }
+        applyState(result.get("gameState"));
+        pendingPlayable = result.get("drawnCard") != null ? (List<?>) result.get("playableCards") : null;
+        return true;
+    }
+
+    private String chooseTarget(boolean includeSelf) {
+        List<String> targets = players.entrySet().stream()
+            .filter(entry -> includeSelf || !entry.getKey().equals(PLAYER_ID))
+            .filter(entry -> entry.getValue()[0] && !entry.getValue()[1])
+            .map(Map.Entry::getKey)
+            .sorted()
+            .toList();
+        return targets.isEmpty() ? null : targets.get(random.nextInt(targets.size()));
+    }
+
+    private boolean playCPUTurns() throws InterruptedException {
+        Map<String, Object> result = call(Endpoint.CPU_TURNS,
+            post(withSince("/game/" + gameId + "/cpu-turns?playerId=" + PLAYER_ID)));
+        if (result == null) {
+            return false;
+        }
+        applyState(result.get("gameState"));
+        return true;
+    }
+
+    private boolean startNextRound() throws InterruptedException {
+        Map<String, Object> state = call(Endpoint.NEXT_ROUND, post(withSince("/game/" + gameId + "/next-round")));
+        if (state == null) {
+            return false;
+        }
+        pendingPlayable = null;
+        applyState(state);
+        return true;
+    }
+
+    // game.js의 applyStateResponse와 같은 규칙으로 전체 상태(GameState) 또는 변경분(GameStateDelta)을 합친다
+    private void applyState(Object response) {
+        Map<?, ?> data = (Map<?, ?>) response;
+        if (data.containsKey("baseVersion") && data.get("full") != null) {
+            data = (Map<?, ?>) data.get("full");
+        }
+        long dataVersion = ((Number) data.get("version")).longValue();
+        if (dataVersion <= version) {
+            return;
+        }
+        version = dataVersion;
+        currentPlayerId = (String) data.get("currentPlayerId");
+        roundOver = Boolean.TRUE.equals(data.get("roundOver"));
+        for (Object item : (List<?>) data.get("players")) {
+            Map<?, ?> player = (Map<?, ?>) item;
+            players.put((String) player.get("id"),
+                new boolean[] {Boolean.TRUE.equals(player.get("alive")), Boolean.TRUE.equals(player.get("protected"))});
+        }
+    }
+
+    private String withSince(String path) {
+        return version < 0 ? path : path + (path.contains("?") ? "&" : "?") + "since=" + version;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).POST(HttpRequest.BodyPublishers.noBody());
+    }
+
+    private HttpRequest.Builder post(String path, byte[] json) {
+        return HttpRequest.newBuilder(base.resolve(path))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(json));
+    }
+
+    private Map<String, Object> call(Endpoint endpoint, HttpRequest.Builder request) throws InterruptedException {
+        HttpResponse<byte[]> response = send(endpoint, request);
+        if (response == null) {
+            return null;
+        }
+        @SuppressWarnings("unchecked")
+        Map<String, Object> body = jsonMapper.readValue(response.body(), Map.class);
+        return body;
+    }
+
+    /**
+     * 예정 시각까지 기다렸다가 보내고 기록한다. 실패(2xx/304가 아니거나 연결 오류)하면 null.
+     */
+    private HttpResponse<byte[]> send(Endpoint endpoint, HttpRequest.Builder request) throws InterruptedException {
+        long intended = nextIntended;
+        long wait = intended - System.nanoTime();
+        if (wait > 0) {
+            Thread.sleep(wait / 1_000_000, (int) (wait % 1_000_000));
+        }
+        long sent = System.nanoTime();
+        if (intervalNanos == 0) {
+            intended = sent;
+        }
+        nextIntended = intended + intervalNanos;
+
+        HttpResponse<byte[]> response;
+        try {
+            response = client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            response = null;
+        }
+        boolean ok = response != null && (response.statusCode() / 100 == 2 || response.statusCode() == 304);
+        recorder.record(endpoint, intended, sent, System.nanoTime(), ok);
+        return ok ? response : null;
+    }
+}
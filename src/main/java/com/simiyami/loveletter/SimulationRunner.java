@@ -0,0 +1,57 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.SimulationReport;
+import com.simiyami.loveletter.service.SimulationService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * simulation 프로필로 실행하면 웹 서버 없이 시뮬레이션만 돌리고 결과를 출력한 뒤 종료한다.
+ *
+ * 예: java -jar loveletter.jar --spring.profiles.active=simulation --loveletter.simulation.games=10000000
+ * loveletter.simulation.engine=COMPACT면 CompactGame 기반의 빠른 모드로 돌린다.
+ */
+@Component
+@Profile("simulation")
+public class SimulationRunner implements ApplicationRunner {
+
+    private final SimulationService simulationService;
+    private final ConfigurableApplicationContext context;
+    private final int players;
+    private final long games;
+    private final Long seed;
+    private final SimulationService.Engine engine;
+
+    public SimulationRunner(
+        SimulationService simulationService,
+        ConfigurableApplicationContext context,
+        @Value("${loveletter.simulation.players:4}") int players,
+        @Value("${loveletter.simulation.games:1000000}") long games,
+        @Value("${loveletter.simulation.seed:#{null}}") Long seed,
+        @Value("${loveletter.simulation.engine:FULL}") SimulationService.Engine engine
+    ) {
+        this.simulationService = simulationService;
+        this.context = context;
+        this.players = players;
+        this.games = games;
+        this.seed = seed;
+        this.engine = engine;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        System.out.printf("시뮬레이션 시작: %d인, %,d판, 스레드 %d개, 엔진 %s%n",
+            players, games, simulationService.getParallelism(), engine);
+        SimulationReport report = simulationService.simulate(players, games,
+            seed != null ? seed : ThreadLocalRandom.current().nextLong(), engine);
+        System.out.print(report.format());
+        System.exit(SpringApplication.exit(context));
+    }
+}
@@ -0,0 +1,34 @@
+package com.simiyami.loveletter.controller;
+
+import com.simiyami.loveletter.model.CardCatalog;
+import com.simiyami.loveletter.service.GameStateReader;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/cards")
+public class CardController {
+
+    /**
+     * 카드 코드별 이름/설명/이미지 목록. 브라우저가 하루 동안 캐시하고, 그 뒤에는 ETag로 확인만 한다.
+     */
+    @GetMapping
+    public ResponseEntity<List<CardCatalog.Entry>> getCatalog(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        CacheControl cacheControl = CacheControl.maxAge(1, TimeUnit.DAYS).cachePublic();
+        if (GameStateReader.matches(ifNoneMatch, CardCatalog.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl).eTag(CardCatalog.etag()).build();
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl).eTag(CardCatalog.etag()).body(CardCatalog.entries());
+    }
+}
@@ -2,15 +2,25 @@ package com.simiyami.loveletter.controller;
 
 import com.simiyami.loveletter.dto.CPUAction;
 import com.simiyami.loveletter.dto.CardPlayRequest;
+import com.simiyami.loveletter.enums.PlayerType;
 import com.simiyami.loveletter.model.Card;
 import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
 import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.GameStateDelta;
 import com.simiyami.loveletter.model.Player;
 import com.simiyami.loveletter.service.AIService;
 import com.simiyami.loveletter.service.GameService;
+import com.simiyami.loveletter.service.GameStateReader;
+import com.simiyami.loveletter.service.GameUpdateHub;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -22,17 +32,22 @@ public class GameController {
 
     private final GameService gameService;
     private final AIService aiService;
+    private final GameUpdateHub updateHub;
+    private final GameStateReader stateReader;
 
-    public GameController(GameService gameService, AIService aiService) {
+    public GameController(GameService gameService, AIService aiService, GameUpdateHub updateHub,
+                          GameStateReader stateReader) {
         this.gameService = gameService;
         this.aiService = aiService;
+        this.updateHub = updateHub;
+        this.stateReader = stateReader;
     }
 
     @PostMapping("/start")
     public ResponseEntity<GameState> startGame(@RequestParam int cpuCount) {
         try {
             Game game = gameService.createGame(cpuCount);
-            GameState state = GameState.fromGame(game, "player-human");
+            GameState state = GameState.fromSnapshot(game.getSnapshot(), "player-human");
             return ResponseEntity.ok(state);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -42,33 +57,33 @@ public class GameController {
     @PostMapping("/{gameId}/draw")
     public ResponseEntity<Map<String, Object>> drawCard(
         @PathVariable String gameId,
-        @RequestParam String playerId
+        @RequestParam String playerId,
+        @RequestParam(required = false) Long since
     ) {
         try {
-            Game game = gameService.getGame(gameId);
-            Player player = game.getPlayer(playerId);
+            GameService.Committed<Map<String, Object>> committed = gameService.executeAndPublish(gameId, game -> {
+                Player player = humanPlayer(game, playerId);
 
-            if (player == null) {
-                return ResponseEntity.badRequest().build();
-            }
+                if (player == null || !isTurnOf(game, player)) {
+                    return null;
+                }
 
-            Card drawnCard = gameService.drawCardForPlayer(game, player);
+                // 이미 뽑았으면 다시 뽑지 않고 그 카드를 돌려준다 (재시도해도 상태가 바뀌지 않음)
+                Card drawnCard = player.getDrawnCard() != null
+                    ? player.getDrawnCard()
+                    : gameService.drawCardForPlayer(game, player);
 
-            // 모든 카드 (UI 표시용)
-            List<Card> allCards = new ArrayList<>();
-            if (drawnCard != null) {
-                allCards.add(drawnCard);
-            }
-            if (player.getHandCard() != null) {
-                allCards.add(player.getHandCard());
-            }
+                Map<String, Object> result = new HashMap<>();
+                putDrawResult(result, player, drawnCard);
+                return result;
+            });
 
-            Map<String, Object> response = new HashMap<>();
-            response.put("drawnCard", drawnCard);
-            response.put("allCards", allCards);  // 모든 카드 (표시용)
-            response.put("playableCards", gameService.getPlayableCards(player, drawnCard));  // 플레이 가능한 카드만
-            response.put("gameState", GameState.fromGame(game, playerId));
+            Map<String, Object> response = committed.result();
+            if (response == null) {
+                return ResponseEntity.badRequest().build();
+            }
 
+            response.put("gameState", stateOf(committed.snapshot(), playerId, since));
             return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
@@ -76,124 +91,311 @@ public class GameController {
     }
 
     @PostMapping("/{gameId}/play")
-    public ResponseEntity<GameState> playCard(
+    public ResponseEntity<?> playCard(
         @PathVariable String gameId,
-        @RequestBody CardPlayRequest request
+        @RequestBody CardPlayRequest request,
+        @RequestParam(required = false) Long since
     ) {
         try {
-            Game game = gameService.getGame(gameId);
-            Player player = game.getPlayer(request.getPlayerId());
-            Player target = request.getTargetId() != null ? game.getPlayer(request.getTargetId()) : null;
-
-            if (player == null) {
+            GameService.Committed<Boolean> committed = gameService.executeAndPublish(gameId, game -> {
+                Player player = humanPlayer(game, request.getPlayerId());
+                Player target = request.getTargetId() != null ? game.getPlayer(request.getTargetId()) : null;
+
+                if (player == null || !isTurnOf(game, player)) {
+                    return false;
+                }
+
+                // 플레이어가 가진 카드 찾기 (손패 or 뽑은 카드)
+                Card cardToPlay = null;
+                if (player.getHandCard() != null && player.getHandCard().getId().equals(request.getCardId())) {
+                    cardToPlay = player.getHandCard();
+                } else if (player.getDrawnCard() != null && player.getDrawnCard().getId().equals(request.getCardId())) {
+                    cardToPlay = player.getDrawnCard();
+                }
+
+                if (cardToPlay == null) {
+                    return false;
+                }
+
+                gameService.playCard(game, player, cardToPlay, target, request.getGuessNumber());
+
+                // 라운드가 종료되지 않았으면 다음 턴으로
+                if (!game.isRoundOver()) {
+                    gameService.nextTurn(game);
+                }
+                return true;
+            });
+
+            if (!committed.result()) {
                 return ResponseEntity.badRequest().build();
             }
 
-            // 플레이어가 가진 카드 찾기 (손패 or 뽑은 카드)
-            Card cardToPlay = null;
-            if (player.getHandCard() != null && player.getHandCard().getId().equals(request.getCardId())) {
-                cardToPlay = player.getHandCard();
-            } else if (player.getDrawnCard() != null && player.getDrawnCard().getId().equals(request.getCardId())) {
-                cardToPlay = player.getDrawnCard();
-            }
+            return ResponseEntity.ok(stateOf(committed.snapshot(), request.getPlayerId(), since));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            if (cardToPlay == null) {
+    /**
+     * 뽑기, 카드 확인, 효과 적용, 턴 넘기기를 한 요청으로 처리한다 (먼저 /draw로 뽑아 두었으면 그 카드를 쓴다).
+     * cpuTurns=true면 이어서 CPU 턴을 모두 진행하고(cpuActions), 다시 이 플레이어 차례가 되면 다음 카드까지 뽑아
+     * /draw와 같은 형식(drawnCard, allCards, playableCards)으로 함께 돌려준다.
+     * handCard는 카드를 낸 직후(CPU 턴 전)의 손패다.
+     * 클라이언트는 뽑은 카드를 보자마자 다음 요청으로 바로 행동을 보내면 되므로 턴마다 요청이 하나로 줄어든다.
+     */
+    @PostMapping("/{gameId}/turn")
+    public ResponseEntity<Map<String, Object>> playTurn(
+        @PathVariable String gameId,
+        @RequestBody CardPlayRequest request,
+        @RequestParam(required = false, defaultValue = "false") boolean cpuTurns,
+        @RequestParam(required = false) Long since
+    ) {
+        try {
+            GameService.Committed<Map<String, Object>> committed = gameService.executeAndPublish(gameId, game -> {
+                Player player = humanPlayer(game, request.getPlayerId());
+                Player target = request.getTargetId() != null ? game.getPlayer(request.getTargetId()) : null;
+                // 없는 대상을 지목했으면 뽑기 전에 거절
+                if (player == null || request.getTargetId() != null && target == null) {
+                    return null;
+                }
+
+                Map<String, Object> result = new HashMap<>();
+                result.put("played", gameService.playTurn(game, player, request.getCardId(), target,
+                    request.getGuessNumber()));
+                // 카드를 낸 직후의 손패 (장군, 마법사로 바뀌었을 수 있고 이어지는 CPU 턴에서 또 바뀔 수 있음)
+                result.put("handCard", player.getHandCard());
+
+                if (cpuTurns) {
+                    result.put("cpuActions", gameService.playCPUTurns(game, aiService));
+                    if (!game.isRoundOver() && game.getCurrentPlayer() == player) {
+                        Card nextCard = gameService.drawCardForPlayer(game, player);
+                        if (nextCard != null) {
+                            putDrawResult(result, player, nextCard);
+                        }
+                    }
+                }
+                return result;
+            });
+
+            Map<String, Object> response = committed.result();
+            if (response == null) {
                 return ResponseEntity.badRequest().build();
             }
 
-            gameService.playCard(game, player, cardToPlay, target, request.getGuessNumber());
+            response.put("gameState", stateOf(committed.snapshot(), request.getPlayerId(), since));
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            // 라운드가 종료되지 않았으면 다음 턴으로
-            if (!game.isRoundOver()) {
-                gameService.nextTurn(game);
-            }
+    /**
+     * 사람 차례가 오거나 라운드가 끝날 때까지 CPU 턴을 서버에서 모두 진행한다.
+     * 진행한 행동 목록(actions, 애니메이션용)과 마지막 상태(gameState)를 돌려준다.
+     */
+    @PostMapping("/{gameId}/cpu-turns")
+    public ResponseEntity<Map<String, Object>> playCPUTurns(
+        @PathVariable String gameId,
+        @RequestParam(required = false, defaultValue = "player-human") String playerId,
+        @RequestParam(required = false) Long since
+    ) {
+        try {
+            GameService.Committed<List<CPUAction>> committed =
+                gameService.executeAndPublish(gameId, game -> gameService.playCPUTurns(game, aiService));
 
-            GameState state = GameState.fromGame(game, request.getPlayerId());
-            return ResponseEntity.ok(state);
+            Map<String, Object> response = new HashMap<>();
+            response.put("actions", committed.result());
+            response.put("gameState", stateOf(committed.snapshot(), playerId, since));
+            return ResponseEntity.ok(response);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * 예전 클라이언트용: CPU가 카드를 뽑고 AI가 정한 행동을 돌려준다 (적용은 POST /cpu-turn).
+     * 이미 뽑아 두었으면 다시 뽑지 않고 그 카드로 다시 결정한다.
+     * @deprecated 뽑기와 적용이 요청 두 번으로 나뉘므로 POST /cpu-turns 또는 /turn?cpuTurns=true를 쓴다.
+     */
+    @Deprecated
     @GetMapping("/{gameId}/cpu-turn")
     public ResponseEntity<CPUAction> getCPUAction(
         @PathVariable String gameId,
         @RequestParam String cpuPlayerId
     ) {
         try {
-            Game game = gameService.getGame(gameId);
-            Player cpuPlayer = game.getPlayer(cpuPlayerId);
-
-            if (cpuPlayer == null || !cpuPlayer.getType().name().equals("CPU")) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            // CPU가 카드를 뽑음
-            Card drawnCard = gameService.drawCardForPlayer(game, cpuPlayer);
-            if (drawnCard == null) {
-                return ResponseEntity.badRequest().build();
-            }
-
-            // AI가 행동 결정
-            CPUAction action = aiService.decideCPUAction(game, cpuPlayer, drawnCard);
-
-            return ResponseEntity.ok(action);
+            CPUAction action = gameService.executeAndPublish(gameId, game -> {
+                Player cpuPlayer = game.getPlayer(cpuPlayerId);
+                if (cpuPlayer == null || cpuPlayer.getType() != PlayerType.CPU || !isTurnOf(game, cpuPlayer)) {
+                    return null;
+                }
+
+                Card drawnCard = cpuPlayer.getDrawnCard() != null
+                    ? cpuPlayer.getDrawnCard()
+                    : gameService.drawCardForPlayer(game, cpuPlayer);
+                return drawnCard != null ? aiService.decideCPUAction(game, cpuPlayer, drawnCard) : null;
+            }).result();
+
+            return action != null ? ResponseEntity.ok(action) : ResponseEntity.badRequest().build();
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
+    /**
+     * 예전 클라이언트용: 현재 차례인 CPU의 행동을 적용하고 턴을 넘긴다. 응답은 사람 플레이어 기준 상태.
+     * @deprecated POST /cpu-turns 또는 /turn?cpuTurns=true를 쓴다.
+     */
+    @Deprecated
     @PostMapping("/{gameId}/cpu-turn")
-    public ResponseEntity<GameState> executeCPUTurn(
+    public ResponseEntity<?> executeCPUTurn(
         @PathVariable String gameId,
-        @RequestBody CPUAction action
+        @RequestBody CPUAction action,
+        @RequestParam(required = false) Long since
     ) {
         try {
-            Game game = gameService.getGame(gameId);
-            Player cpuPlayer = game.getCurrentPlayer();
-
-            if (cpuPlayer == null || !cpuPlayer.getType().name().equals("CPU")) {
+            GameService.Committed<Boolean> committed = gameService.executeAndPublish(gameId, game -> {
+                Player cpuPlayer = game.getCurrentPlayer();
+                if (cpuPlayer == null || cpuPlayer.getType() != PlayerType.CPU || game.isRoundOver()
+                    || action.getCardToPlay() == null) {
+                    return false;
+                }
+
+                Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+                gameService.playCard(game, cpuPlayer, action.getCardToPlay(), target, action.getGuessNumber());
+
+                if (!game.isRoundOver()) {
+                    gameService.nextTurn(game);
+                }
+                return true;
+            });
+
+            if (!committed.result()) {
                 return ResponseEntity.badRequest().build();
             }
+            return ResponseEntity.ok(stateOf(committed.snapshot(), "player-human", since));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
 
-            Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
-
-            gameService.playCard(game, cpuPlayer, action.getCardToPlay(), target, action.getGuessNumber());
-
-            if (!game.isRoundOver()) {
-                gameService.nextTurn(game);
+    /**
+     * since에 클라이언트가 가진 버전을 주면 그 이후 변경분(GameStateDelta)만 돌려준다.
+     * ETag는 상태 버전이며, If-None-Match가 같으면 상태를 만들지 않고 304로 답한다.
+     * 같은 버전을 다시 읽으면 캐시된 JSON 바이트를 그대로 보낸다.
+     */
+    @GetMapping("/{gameId}/state")
+    public ResponseEntity<?> getGameState(
+        @PathVariable String gameId,
+        @RequestParam(required = false, defaultValue = "player-human") String playerId,
+        @RequestParam(required = false) Long since,
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        try {
+            GameSnapshot snapshot = gameService.getSnapshot(gameId);
+            String etag = GameStateReader.etagOf(snapshot);
+            if (GameStateReader.matches(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
             }
-
-            GameState state = GameState.fromGame(game, "player-human");
-            return ResponseEntity.ok(state);
+            return ResponseEntity.ok().eTag(etag).contentType(MediaType.APPLICATION_JSON)
+                .body(stateReader.readJson(snapshot, playerId, since));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
-    @GetMapping("/{gameId}/state")
-    public ResponseEntity<GameState> getGameState(
+    /**
+     * 게임 변경을 Server-Sent Events로 밀어 보낸다. 이벤트 id는 상태 버전이고 data는 GameStateDelta.
+     * 다시 연결할 때 브라우저가 보내는 Last-Event-ID(없으면 since) 이후 변경분부터 이어서 보낸다.
+     */
+    @GetMapping(path = "/{gameId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
         @PathVariable String gameId,
-        @RequestParam(required = false, defaultValue = "player-human") String playerId
+        @RequestParam(required = false, defaultValue = "player-human") String playerId,
+        @RequestParam(required = false) Long since,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
     ) {
         try {
-            Game game = gameService.getGame(gameId);
-            GameState state = GameState.fromGame(game, playerId);
-            return ResponseEntity.ok(state);
+            long resumeFrom = lastEventId != null ? Long.parseLong(lastEventId) : since != null ? since : 0;
+
+            SseEmitter emitter = new SseEmitter(updateHub.getTimeoutMillis());
+            GameUpdateHub.Subscription subscription = updateHub.subscribe(gameId, playerId, resumeFrom,
+                new GameUpdateHub.UpdateSink() {
+                    @Override
+                    public void send(GameStateDelta update) throws IOException {
+                        emitter.send(SseEmitter.event()
+                            .id(String.valueOf(update.getVersion()))
+                            .name("state")
+                            .data(update, MediaType.APPLICATION_JSON));
+                    }
+
+                    @Override
+                    public void heartbeat() throws IOException {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    }
+
+                    @Override
+                    public void close() {
+                        emitter.complete();
+                    }
+                });
+
+            emitter.onCompletion(() -> updateHub.unsubscribe(subscription));
+            emitter.onTimeout(() -> updateHub.unsubscribe(subscription));
+            emitter.onError(e -> updateHub.unsubscribe(subscription));
+            return ResponseEntity.ok(emitter);
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @PostMapping("/{gameId}/next-round")
-    public ResponseEntity<GameState> startNextRound(@PathVariable String gameId) {
+    public ResponseEntity<?> startNextRound(
+        @PathVariable String gameId,
+        @RequestParam(required = false) Long since
+    ) {
         try {
-            Game game = gameService.getGame(gameId);
-            gameService.startNextRound(game);
-            GameState state = GameState.fromGame(game, "player-human");
-            return ResponseEntity.ok(state);
+            GameSnapshot snapshot = gameService.executeAndPublish(gameId, game -> {
+                if (!game.isRoundOver()) {
+                    throw new IllegalStateException("라운드가 아직 끝나지 않았습니다.");
+                }
+                gameService.startNextRound(game);
+                return null;
+            }).snapshot();
+            return ResponseEntity.ok(stateOf(snapshot, "player-human", since));
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
+
+    // 클라이언트는 사람 플레이어로만 행동할 수 있다. CPU 차례는 서버가 /cpu-turns에서 진행한다 (예전 /cpu-turn 제외).
+    private Player humanPlayer(Game game, String playerId) {
+        Player player = game.getPlayer(playerId);
+        return player != null && player.getType() == PlayerType.HUMAN ? player : null;
+    }
+
+    private boolean isTurnOf(Game game, Player player) {
+        return !game.isRoundOver() && game.getCurrentPlayer() == player;
+    }
+
+    private void putDrawResult(Map<String, Object> result, Player player, Card drawnCard) {
+        // 모든 카드 (UI 표시용)
+        List<Card> allCards = new ArrayList<>();
+        if (drawnCard != null) {
+            allCards.add(drawnCard);
+        }
+        if (player.getHandCard() != null) {
+            allCards.add(player.getHandCard());
+        }
+
+        result.put("drawnCard", drawnCard);
+        result.put("allCards", allCards);  // 모든 카드 (표시용)
+        result.put("playableCards", gameService.getPlayableCards(player, drawnCard));  // 플레이 가능한 카드만
+    }
+
+    // 명령이 끝나며 게시한 스냅샷에서 상태를 만든다 (그 사이 다른 명령이 끝났어도 이 명령의 결과를 응답)
+    // since가 없으면 전체 상태, 있으면 그 버전 이후의 변경분
+    private Object stateOf(GameSnapshot snapshot, String viewingPlayerId, Long since) {
+        return stateReader.read(snapshot, viewingPlayerId, since);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.simiyami.loveletter.controller;
 
+import com.simiyami.loveletter.model.CardCatalog;
 import org.springframework.stereotype.Controller;
+import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
@@ -12,7 +14,9 @@ public class MenuController {
     }
 
     @GetMapping("/game")
-    public String game() {
+    public String game(Model model) {
+        // 카드 이미지 묶음은 스크립트보다 먼저 받기 시작하도록 페이지에서 미리 불러온다 (없으면 null)
+        model.addAttribute("cardAtlas", CardCatalog.atlas());
         return "game";
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,27 @@
+package com.simiyami.loveletter.controller;
+
+import com.simiyami.loveletter.service.GameMetrics;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class MetricsController {
+
+    private static final MediaType PROMETHEUS_TEXT = MediaType.parseMediaType("text/plain; version=0.0.4; charset=utf-8");
+
+    private final GameMetrics metrics;
+
+    public MetricsController(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 요청/CPU 결정 시간 히스토그램, 카드 효과 횟수, 게임 수 (Prometheus 텍스트 형식).
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<String> scrape() {
+        return ResponseEntity.ok().contentType(PROMETHEUS_TEXT).body(metrics.scrape());
+    }
+}
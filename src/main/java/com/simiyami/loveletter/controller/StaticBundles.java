@@ -0,0 +1,40 @@
+package com.simiyami.loveletter.controller;
+
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+/**
+ * 템플릿이 JS/CSS를 빌드 때 만든 축소/압축 파일(StaticBundlePipeline) 주소로 링크하게 한다.
+ * 템플릿에서 ${@staticBundles.url('/js/game.js')} 처럼 원본 주소로 부르면 내용 해시가 든 주소를 돌려준다.
+ * 목록 파일(static-bundles.properties)이 없거나 목록에 없는 파일이면(빌드 없이 실행) 원본 주소를 그대로 쓴다.
+ */
+@Component("staticBundles")
+public class StaticBundles {
+
+    public static final String MANIFEST = "/static-bundles.properties";
+
+    private final Properties manifest = new Properties();
+
+    public StaticBundles() {
+        try (InputStream in = StaticBundles.class.getResourceAsStream(MANIFEST)) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    manifest.load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String url(String path) {
+        return manifest.getProperty(path, path);
+    }
+}
@@ -0,0 +1,39 @@
+package com.simiyami.loveletter.controller;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final RequestMetricsInterceptor requestMetricsInterceptor;
+
+    public WebConfig(RequestMetricsInterceptor requestMetricsInterceptor) {
+        this.requestMetricsInterceptor = requestMetricsInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(requestMetricsInterceptor);
+    }
+
+    /**
+     * 빌드 때 만든 파일(카드 이미지, JS/CSS 묶음)은 이름에 내용 해시가 들어가 내용이 바뀌면 주소도 바뀐다.
+     * 그래서 1년 동안 캐시하고 immutable로 표시해, 새로 고침할 때도 다시 확인하지 않게 한다.
+     * JS/CSS는 빌드 때 .br/.gz를 미리 만들어 두므로, Accept-Encoding에 맞는 파일을 골라 보내기만 한다 (요청마다 압축하지 않음).
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/assets/**")
+            .addResourceLocations("classpath:/static/assets/")
+            .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+            .resourceChain(true)
+            .addResolver(new EncodedResourceResolver());
+    }
+}
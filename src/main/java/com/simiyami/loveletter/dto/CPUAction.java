@@ -3,6 +3,7 @@ package com.simiyami.loveletter.dto;
 import com.simiyami.loveletter.model.Card;
 
 public class CPUAction {
+    private String playerId;  // 행동한 CPU (서버에서 턴을 연달아 진행할 때 채움)
     private Card cardToPlay;
     private String targetId;
     private Integer guessNumber;
@@ -25,6 +26,14 @@ public class CPUAction {
         this.reasoning = reasoning;
     }
 
+    public String getPlayerId() {
+        return playerId;
+    }
+
+    public void setPlayerId(String playerId) {
+        this.playerId = playerId;
+    }
+
     public Card getCardToPlay() {
         return cardToPlay;
     }
@@ -0,0 +1,120 @@
+package com.simiyami.loveletter.dto;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 헤드리스 시뮬레이션 결과. 한 판은 한 라운드이며, 좌석 번호는 0부터 (0번이 선 플레이어).
+ * 턴 수 제한에 걸려 끝나지 않은 판(truncated)은 무승부와 따로 세고, 승률은 끝난 판만으로 계산한다.
+ */
+public class SimulationReport {
+    private final int playerCount;
+    private final long games;
+    private final long[] seatWins;
+    private final long draws;
+    private final long truncated;
+    private final long totalTurns;
+    private final long lastSurvivorWins;
+    private final long highestCardWins;
+    private final Map<String, Long> eliminations;
+    private final long elapsedNanos;
+
+    public SimulationReport(int playerCount, long games, long[] seatWins, long draws, long truncated, long totalTurns,
+                            long lastSurvivorWins, long highestCardWins, Map<String, Long> eliminations,
+                            long elapsedNanos) {
+        this.playerCount = playerCount;
+        this.games = games;
+        this.seatWins = seatWins.clone();
+        this.draws = draws;
+        this.truncated = truncated;
+        this.totalTurns = totalTurns;
+        this.lastSurvivorWins = lastSurvivorWins;
+        this.highestCardWins = highestCardWins;
+        this.eliminations = Collections.unmodifiableMap(new LinkedHashMap<>(eliminations));
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public int getPlayerCount() {
+        return playerCount;
+    }
+
+    public long getGames() {
+        return games;
+    }
+
+    public long getSeatWins(int seat) {
+        return seatWins[seat];
+    }
+
+    public double getSeatWinRate(int seat) {
+        long completed = getCompletedGames();
+        return completed == 0 ? 0 : (double) seatWins[seat] / completed;
+    }
+
+    public long getDraws() {
+        return draws;
+    }
+
+    /**
+     * 턴 수 제한에 걸려 승자 없이 중단된 판 수
+     */
+    public long getTruncated() {
+        return truncated;
+    }
+
+    public long getCompletedGames() {
+        return games - truncated;
+    }
+
+    public long getTotalTurns() {
+        return totalTurns;
+    }
+
+    public double getAverageTurns() {
+        return games == 0 ? 0 : (double) totalTurns / games;
+    }
+
+    public long getLastSurvivorWins() {
+        return lastSurvivorWins;
+    }
+
+    public long getHighestCardWins() {
+        return highestCardWins;
+    }
+
+    /**
+     * 탈락 원인별 횟수 (경비병 지목, 기사 대결 패배, 마법사로 공주 버림, 공주 직접 버림)
+     */
+    public Map<String, Long> getEliminations() {
+        return eliminations;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    /**
+     * 콘솔 출력용 요약 문구
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("=== 시뮬레이션 결과: %d인, %,d판 ===%n", playerCount, games));
+        for (int seat = 0; seat < playerCount; seat++) {
+            sb.append(String.format("좌석 %d 승률: %.2f%% (%,d승)%n", seat, getSeatWinRate(seat) * 100, seatWins[seat]));
+        }
+        sb.append(String.format("무승부: %,d%n", draws));
+        sb.append(String.format("턴 제한으로 중단: %,d (승률에서 제외)%n", truncated));
+        sb.append(String.format("평균 턴 수: %.2f%n", getAverageTurns()));
+        sb.append(String.format("승리 유형: 마지막 생존자 %,d / 최고 카드 %,d%n", lastSurvivorWins, highestCardWins));
+        for (Map.Entry<String, Long> entry : eliminations.entrySet()) {
+            sb.append(String.format("탈락 - %s: %,d%n", entry.getKey(), entry.getValue()));
+        }
+        sb.append(String.format("소요 시간: %.2f초, 초당 %,.0f판%n", elapsedNanos / 1_000_000_000.0, getGamesPerSecond()));
+        return sb.toString();
+    }
+}
@@ -1,20 +1,47 @@
 package com.simiyami.loveletter.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonValue;
 import com.simiyami.loveletter.enums.CardType;
 
+/**
+ * 카드 한 장. JSON으로는 카드 코드(숫자) 하나로만 보내고, 이름/설명/이미지는 클라이언트가 카드 목록(CardCatalog)에서 찾는다.
+ */
 public class Card {
+    private static final String ID_PREFIX = "card-";
+
     private final CardType type;
     private final String id;
+    private final int code;  // "card-N"의 N (표준 덱 형식이 아닌 ID면 -1)
 
-    @JsonCreator
-    public Card(
-        @JsonProperty("type") CardType type,
-        @JsonProperty("id") String id
-    ) {
+    public Card(CardType type, String id) {
         this.type = type;
         this.id = id;
+        this.code = parseCode(id);
+    }
+
+    private static int parseCode(String id) {
+        if (id == null || !id.startsWith(ID_PREFIX)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(id.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @JsonCreator
+    public static Card fromCode(int code) {
+        if (code < 0 || code >= CompactGame.DECK_SIZE) {
+            throw new IllegalArgumentException("카드 코드가 올바르지 않습니다: " + code);
+        }
+        return CompactGame.card(code);
+    }
+
+    @JsonValue
+    public int getCode() {
+        return code;
     }
 
     public CardType getType() {
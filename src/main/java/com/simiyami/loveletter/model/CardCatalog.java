@@ -0,0 +1,106 @@
+package com.simiyami.loveletter.model;
+
+import com.simiyami.loveletter.enums.CardType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * 덱의 카드 16장 목록. 응답에는 카드 코드만 담기고, 클라이언트는 이 목록을 한 번 받아 캐시해 두고 이름/설명/이미지를 찾는다.
+ * 내용은 카드 구성(CardType)이나 카드 이미지가 바뀔 때만 바뀌므로 ETag는 내용으로 계산한다.
+ *
+ * 이미지 주소는 빌드 때 만든 card-images.properties(CardImagePipeline)에서 읽는다. 내용 해시가 든 이름이라 오래 캐시되며,
+ * 묶음 이미지(atlas)가 있으면 카드마다 묶음 안의 위치(sprite)도 함께 준다.
+ * 목록 파일이 없으면(빌드 없이 실행) 원본 이미지(/image/N.png)를 쓴다.
+ */
+public final class CardCatalog {
+
+    public static final String MANIFEST = "/card-images.properties";
+
+    /**
+     * 묶음 이미지 안에서 카드 한 장의 위치.
+     */
+    public record Sprite(String atlas, int x, int y, int width, int height) {
+    }
+
+    public record Entry(int code, String id, CardType type, int number, String name, String description,
+                        String image, String thumbnail, Sprite sprite) {
+    }
+
+    private static final List<Entry> ENTRIES;
+    private static final String ATLAS;
+    private static final String ETAG;
+
+    static {
+        Properties manifest = loadManifest();
+        ATLAS = manifest.getProperty("atlas");
+
+        List<Entry> entries = new ArrayList<>(CompactGame.DECK_SIZE);
+        int hash = Objects.hashCode(ATLAS);
+        for (int code = 0; code < CompactGame.DECK_SIZE; code++) {
+            Card card = CompactGame.card(code);
+            String original = "/image/" + card.getNumber() + ".png";
+            String image = manifest.getProperty(card.getNumber() + ".image", original);
+            Entry entry = new Entry(code, card.getId(), card.getType(), card.getNumber(), card.getName(),
+                card.getDescription(), image, manifest.getProperty(card.getNumber() + ".thumbnail", image),
+                sprite(manifest.getProperty(card.getNumber() + ".sprite")));
+            entries.add(entry);
+            // 열거형 hashCode는 실행마다 달라지므로 이름으로 계산 (서버를 다시 시작해도 같은 ETag)
+            hash = 31 * hash + Objects.hash(code, entry.id(), entry.type().name(), entry.name(), entry.description(),
+                entry.image(), entry.thumbnail(), entry.sprite());
+        }
+        ENTRIES = Collections.unmodifiableList(entries);
+        ETAG = "\"cards-" + Integer.toHexString(hash) + "\"";
+    }
+
+    private CardCatalog() {
+    }
+
+    public static List<Entry> entries() {
+        return ENTRIES;
+    }
+
+    /**
+     * 카드 이미지 묶음 주소. 만들지 않았으면 null.
+     */
+    public static String atlas() {
+        return ATLAS;
+    }
+
+    public static String etag() {
+        return ETAG;
+    }
+
+    private static Properties loadManifest() {
+        Properties manifest = new Properties();
+        try (InputStream in = CardCatalog.class.getResourceAsStream(MANIFEST)) {
+            if (in != null) {
+                try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+                    manifest.load(reader);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return manifest;
+    }
+
+    // "x,y,폭,높이"
+    private static Sprite sprite(String value) {
+        if (value == null || ATLAS == null) {
+            return null;
+        }
+        String[] parts = value.split(",");
+        return new Sprite(ATLAS, Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]),
+            Integer.parseInt(parts[3]));
+    }
+}
@@ -0,0 +1,38 @@
+package com.simiyami.loveletter.model;
+
+import com.simiyami.loveletter.enums.CardType;
+
+/**
+ * 게임별로 아직 공개되지 않은 카드 수를 숫자별로 세어 두는 카운터.
+ * 카드가 버려질 때마다(Game.addToDiscardPile) 한 번씩 줄이고, 덱을 새로 만들 때 초기화한다.
+ * CPU가 경비병 숫자를 고를 때 매번 버린 카드를 다시 세지 않도록 하기 위함이다.
+ */
+public final class CardCounter {
+
+    private final int[] unseen = new int[CardType.PRINCESS.getNumber() + 1];  // 인덱스 = 카드 숫자
+
+    public CardCounter() {
+        reset();
+    }
+
+    public void reset() {
+        for (CardType type : CardType.values()) {
+            unseen[type.getNumber()] = type.getCount();
+        }
+    }
+
+    public void reveal(Card card) {
+        int number = card.getNumber();
+        if (unseen[number] > 0) {
+            unseen[number]--;
+        }
+    }
+
+    public int getUnseen(int number) {
+        return unseen[number];
+    }
+
+    public int getUnseen(CardType type) {
+        return unseen[type.getNumber()];
+    }
+}
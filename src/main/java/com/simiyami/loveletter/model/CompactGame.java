@@ -0,0 +1,668 @@
+package com.simiyami.loveletter.model;
+
+import com.simiyami.loveletter.enums.CardType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+/**
+ * 시뮬레이션용 압축 게임 상태.
+ * 카드 16장을 0~15 인덱스(= "card-N"의 N)로 표현하고, 덱과 버린 카드 더미는 4비트씩 long 하나에 담는다.
+ * 규칙은 GameService.playCard / CardService.executeCardEffect와 동일하게 동작하며, 게임 로그와 탈락 사유 문구는 보관하지 않는다.
+ * SimulationService의 COMPACT 엔진이 이 상태로 라운드를 돌린다.
+ */
+public final class CompactGame {
+
+    public static final int DECK_SIZE = 16;
+    public static final int MAX_PLAYERS = 4;
+    public static final int NONE = -1;
+
+    // 카드 인덱스 -> 카드 정보 (Game.initializeDeck과 같은 순서로 번호를 매김)
+    private static final CardType[] TYPES = new CardType[DECK_SIZE];
+    private static final byte[] NUMBERS = new byte[DECK_SIZE];
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        int index = 0;
+        for (CardType type : CardType.values()) {
+            for (int i = 0; i < type.getCount(); i++) {
+                TYPES[index] = type;
+                NUMBERS[index] = (byte) type.getNumber();
+                CARDS[index] = new Card(type, "card-" + index);
+                index++;
+            }
+        }
+    }
+
+    private final int playerCount;
+
+    private long deck;              // 4비트 x 16: 하위 니블부터 덱 맨 위
+    private int deckCount;
+    private long discardPile;       // 4비트 x 16: 하위 니블부터 먼저 버린 카드
+    private int discardCount;
+    private int secretCard = NONE;
+
+    private final long[] playerDiscards = new long[MAX_PLAYERS];
+    private final int[] playerDiscardCounts = new int[MAX_PLAYERS];
+    private final byte[] hands = new byte[MAX_PLAYERS];
+    private final byte[] drawnCards = new byte[MAX_PLAYERS];
+    private final int[] knownCards = new int[MAX_PLAYERS];   // 4비트 x 상대 인덱스: 기억한 카드 숫자 (0 = 모름)
+    private final int[] roundsWon = new int[MAX_PLAYERS];
+
+    private int aliveMask;
+    private int protectedMask;
+    private int currentPlayer;
+    private int currentRound = 1;
+    private boolean roundOver;
+    private int roundWinner = NONE;
+    private int lastEliminated = NONE;
+
+    // 셔플용 작업 배열 (매 라운드 할당하지 않기 위함)
+    private final byte[] shuffleBuffer = new byte[DECK_SIZE];
+
+    public CompactGame(int playerCount) {
+        if (playerCount < 2 || playerCount > MAX_PLAYERS) {
+            throw new IllegalArgumentException("플레이어 수는 2-4명이어야 합니다: " + playerCount);
+        }
+        this.playerCount = playerCount;
+        clearRound();
+    }
+
+    // ===== 카드 인덱스 정보 =====
+
+    public static int cardNumber(int card) {
+        return NUMBERS[card];
+    }
+
+    public static CardType cardType(int card) {
+        return TYPES[card];
+    }
+
+    public static Card card(int card) {
+        return CARDS[card];
+    }
+
+    // ===== 라운드 진행 =====
+
+    /**
+     * GameService.initializeRound와 같은 순서로 라운드를 준비한다: 셔플, 비밀 카드 1장, 플레이어별 1장.
+     */
+    public void startRound(RandomGenerator random) {
+        clearRound();
+
+        for (int i = 0; i < DECK_SIZE; i++) {
+            shuffleBuffer[i] = (byte) i;
+        }
+        for (int i = DECK_SIZE - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte tmp = shuffleBuffer[i];
+            shuffleBuffer[i] = shuffleBuffer[j];
+            shuffleBuffer[j] = tmp;
+        }
+        long packed = 0;
+        for (int i = DECK_SIZE - 1; i >= 0; i--) {
+            packed = (packed << 4) | shuffleBuffer[i];
+        }
+        deck = packed;
+        deckCount = DECK_SIZE;
+
+        secretCard = drawFromDeck();
+        for (int p = 0; p < playerCount; p++) {
+            hands[p] = (byte) drawFromDeck();
+        }
+    }
+
+    public void startNextRound(RandomGenerator random) {
+        currentRound++;
+        startRound(random);
+    }
+
+    private void clearRound() {
+        deck = 0;
+        deckCount = 0;
+        discardPile = 0;
+        discardCount = 0;
+        secretCard = NONE;
+        for (int p = 0; p < MAX_PLAYERS; p++) {
+            playerDiscards[p] = 0;
+            playerDiscardCounts[p] = 0;
+            hands[p] = NONE;
+            drawnCards[p] = NONE;
+            knownCards[p] = 0;
+        }
+        aliveMask = (1 << playerCount) - 1;
+        protectedMask = 0;
+        currentPlayer = 0;
+        roundOver = false;
+        roundWinner = NONE;
+        lastEliminated = NONE;
+    }
+
+    /**
+     * GameService.drawCardForPlayer와 동일. 덱이 비어 있으면 라운드를 끝내고 NONE을 반환한다.
+     */
+    public int draw(int player) {
+        if (!isAlive(player)) {
+            throw new IllegalStateException("이미 탈락한 플레이어입니다: " + player);
+        }
+        int card = drawFromDeck();
+        if (card == NONE) {
+            endRound();
+            return NONE;
+        }
+        drawnCards[player] = (byte) card;
+        return card;
+    }
+
+    /**
+     * GameService.playCard와 동일. target이 없으면 NONE, guess가 없으면 0을 넘긴다.
+     */
+    public void play(int player, int card, int target, int guess) {
+        if (!isAlive(player)) {
+            throw new IllegalStateException("이미 탈락한 플레이어입니다: " + player);
+        }
+        if (hands[player] == NONE && drawnCards[player] == NONE) {
+            throw new IllegalStateException("손에 카드가 없습니다: " + player);
+        }
+        if (TYPES[card] == CardType.GUARD && guess != 0 && (guess < 2 || guess > 8)) {
+            throw new IllegalArgumentException("경비병은 2-8번만 추측할 수 있습니다: " + guess);
+        }
+
+        if (hands[player] == card) {
+            hands[player] = drawnCards[player];
+        } else if (drawnCards[player] != card) {
+            throw new IllegalStateException("해당 카드를 가지고 있지 않습니다: " + card);
+        }
+        drawnCards[player] = NONE;
+
+        discard(player, card);
+        forgetPlayed(player, NUMBERS[card]);
+        executeCardEffect(player, card, target, guess);
+
+        if (Integer.bitCount(aliveMask) <= 1 || deckCount == 0) {
+            endRound();
+        }
+    }
+
+    /**
+     * GameService.nextTurn과 동일: 현재 플레이어의 보호를 풀고 다음 생존자로 넘긴다.
+     */
+    public void nextTurn() {
+        protectedMask &= ~(1 << currentPlayer);
+        if (aliveMask == 0) {
+            return;
+        }
+        do {
+            currentPlayer = (currentPlayer + 1) % playerCount;
+        } while (!isAlive(currentPlayer));
+    }
+
+    private void executeCardEffect(int player, int card, int target, int guess) {
+        switch (TYPES[card]) {
+            case GUARD -> {
+                if (target == NONE || guess == 0) {
+                    return;
+                }
+                if (hands[target] != NONE && NUMBERS[hands[target]] == guess) {
+                    eliminate(target);
+                }
+            }
+            case PRIEST -> {
+                if (target != NONE && hands[target] != NONE) {
+                    remember(player, target, NUMBERS[hands[target]]);
+                }
+            }
+            case BARON -> {
+                if (target == NONE || hands[player] == NONE || hands[target] == NONE) {
+                    return;
+                }
+                int mine = NUMBERS[hands[player]];
+                int theirs = NUMBERS[hands[target]];
+                if (mine > theirs) {
+                    eliminate(target);
+                } else if (mine < theirs) {
+                    eliminate(player);
+                }
+            }
+            case HANDMAID -> protectedMask |= 1 << player;
+            case PRINCE -> {
+                if (target == NONE || hands[target] == NONE) {
+                    return;
+                }
+                int discarded = hands[target];
+                discard(target, discarded);
+                if (TYPES[discarded] == CardType.PRINCESS) {
+                    eliminate(target);
+                    hands[target] = NONE;
+                    return;
+                }
+                int newCard = drawFromDeck();
+                if (newCard != NONE) {
+                    hands[target] = (byte) newCard;
+                } else if (secretCard != NONE) {
+                    hands[target] = (byte) secretCard;
+                    secretCard = NONE;
+                } else {
+                    hands[target] = NONE;
+                }
+            }
+            case KING -> {
+                if (target == NONE || hands[player] == NONE || hands[target] == NONE) {
+                    return;
+                }
+                remember(player, target, NUMBERS[hands[target]]);
+                remember(target, player, NUMBERS[hands[player]]);
+                byte tmp = hands[player];
+                hands[player] = hands[target];
+                hands[target] = tmp;
+            }
+            case COUNTESS -> {
+                // 효과 없음
+            }
+            case PRINCESS -> eliminate(player);
+        }
+    }
+
+    private void endRound() {
+        roundOver = true;
+        roundWinner = determineWinner();
+        if (roundWinner != NONE) {
+            roundsWon[roundWinner]++;
+        }
+    }
+
+    // GameService.determineWinner와 동일: 동점이면 앞 순서 플레이어
+    private int determineWinner() {
+        int winner = NONE;
+        int best = Integer.MIN_VALUE;
+        for (int p = 0; p < playerCount; p++) {
+            if (!isAlive(p)) {
+                continue;
+            }
+            int number = hands[p] != NONE ? NUMBERS[hands[p]] : 0;
+            if (number > best) {
+                best = number;
+                winner = p;
+            }
+        }
+        return winner;
+    }
+
+    private int drawFromDeck() {
+        if (deckCount == 0) {
+            return NONE;
+        }
+        int card = (int) (deck & 0xF);
+        deck >>>= 4;
+        deckCount--;
+        return card;
+    }
+
+    private void discard(int player, int card) {
+        discardPile |= (long) card << (discardCount * 4);
+        discardCount++;
+        playerDiscards[player] |= (long) card << (playerDiscardCounts[player] * 4);
+        playerDiscardCounts[player]++;
+    }
+
+    private void eliminate(int player) {
+        aliveMask &= ~(1 << player);
+        protectedMask &= ~(1 << player);
+        lastEliminated = player;
+    }
+
+    // GameService.forgetPlayedCard와 동일: 다른 플레이어가 알던 카드를 냈으면 그 기억을 지운다
+    private void forgetPlayed(int player, int number) {
+        for (int p = 0; p < playerCount; p++) {
+            if (p != player && getKnownCardNumber(p, player) == number) {
+                remember(p, player, 0);
+            }
+        }
+    }
+
+    private void remember(int player, int opponent, int number) {
+        int shift = opponent * 4;
+        knownCards[player] = (knownCards[player] & ~(0xF << shift)) | (number << shift);
+    }
+
+    // ===== 조회 =====
+
+    public int getPlayerCount() { return playerCount; }
+    public int getCurrentPlayer() { return currentPlayer; }
+    public int getCurrentRound() { return currentRound; }
+    public boolean isRoundOver() { return roundOver; }
+    public int getRoundWinner() { return roundWinner; }
+    public int getLastEliminated() { return lastEliminated; }
+    public int getDeckCount() { return deckCount; }
+    public int getSecretCard() { return secretCard; }
+    public int getAliveCount() { return Integer.bitCount(aliveMask); }
+    public int getDiscardCount() { return discardCount; }
+
+    public boolean isAlive(int player) {
+        return (aliveMask & (1 << player)) != 0;
+    }
+
+    public boolean isProtected(int player) {
+        return (protectedMask & (1 << player)) != 0;
+    }
+
+    public boolean isTargetable(int player, int target) {
+        return target != player && isAlive(target) && !isProtected(target);
+    }
+
+    public int getHandCard(int player) {
+        return hands[player];
+    }
+
+    public int getDrawnCard(int player) {
+        return drawnCards[player];
+    }
+
+    public int getRoundsWon(int player) {
+        return roundsWon[player];
+    }
+
+    /**
+     * 덱 위에서 index번째 카드.
+     */
+    public int getDeckCard(int index) {
+        return (int) (deck >>> (index * 4)) & 0xF;
+    }
+
+    public int getDiscardPileCard(int index) {
+        return (int) (discardPile >>> (index * 4)) & 0xF;
+    }
+
+    public int getDiscardedCount(int player) {
+        return playerDiscardCounts[player];
+    }
+
+    public int getDiscardedCard(int player, int index) {
+        return (int) (playerDiscards[player] >>> (index * 4)) & 0xF;
+    }
+
+    /**
+     * player가 기억하는 opponent의 카드 숫자. 모르면 0.
+     */
+    public int getKnownCardNumber(int player, int opponent) {
+        return (knownCards[player] >>> (opponent * 4)) & 0xF;
+    }
+
+    public void copyFrom(CompactGame other) {
+        if (other.playerCount != playerCount) {
+            throw new IllegalArgumentException("플레이어 수가 다릅니다.");
+        }
+        deck = other.deck;
+        deckCount = other.deckCount;
+        discardPile = other.discardPile;
+        discardCount = other.discardCount;
+        secretCard = other.secretCard;
+        System.arraycopy(other.playerDiscards, 0, playerDiscards, 0, MAX_PLAYERS);
+        System.arraycopy(other.playerDiscardCounts, 0, playerDiscardCounts, 0, MAX_PLAYERS);
+        System.arraycopy(other.hands, 0, hands, 0, MAX_PLAYERS);
+        System.arraycopy(other.drawnCards, 0, drawnCards, 0, MAX_PLAYERS);
+        System.arraycopy(other.knownCards, 0, knownCards, 0, MAX_PLAYERS);
+        System.arraycopy(other.roundsWon, 0, roundsWon, 0, MAX_PLAYERS);
+        aliveMask = other.aliveMask;
+        protectedMask = other.protectedMask;
+        currentPlayer = other.currentPlayer;
+        currentRound = other.currentRound;
+        roundOver = other.roundOver;
+        roundWinner = other.roundWinner;
+        lastEliminated = other.lastEliminated;
+    }
+
+    // ===== 바이트 변환 =====
+
+    /**
+     * 압축 상태를 buffer에 기록한다 (플레이어 수에 따라 67-105바이트). 플레이어 수는 기록하지 않는다.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.putLong(deck).put((byte) deckCount);
+        buffer.putLong(discardPile).put((byte) discardCount);
+        buffer.put((byte) secretCard);
+        for (int p = 0; p < playerCount; p++) {
+            buffer.putLong(playerDiscards[p]).put((byte) playerDiscardCounts[p]);
+            buffer.put(hands[p]).put(drawnCards[p]);
+            buffer.putInt(knownCards[p]).putInt(roundsWon[p]);
+        }
+        buffer.put((byte) aliveMask).put((byte) protectedMask).put((byte) currentPlayer);
+        buffer.putInt(currentRound);
+        buffer.put((byte) (roundOver ? 1 : 0)).put((byte) roundWinner).put((byte) lastEliminated);
+    }
+
+    /**
+     * writeTo로 기록한 상태를 읽는다.
+     */
+    public static CompactGame readFrom(ByteBuffer buffer, int playerCount) {
+        CompactGame compact = new CompactGame(playerCount);
+        compact.deck = buffer.getLong();
+        compact.deckCount = buffer.get();
+        compact.discardPile = buffer.getLong();
+        compact.discardCount = buffer.get();
+        compact.secretCard = buffer.get();
+        for (int p = 0; p < playerCount; p++) {
+            compact.playerDiscards[p] = buffer.getLong();
+            compact.playerDiscardCounts[p] = buffer.get();
+            compact.hands[p] = buffer.get();
+            compact.drawnCards[p] = buffer.get();
+            compact.knownCards[p] = buffer.getInt();
+            compact.roundsWon[p] = buffer.getInt();
+        }
+        compact.aliveMask = buffer.get();
+        compact.protectedMask = buffer.get();
+        compact.currentPlayer = buffer.get();
+        compact.currentRound = buffer.getInt();
+        compact.roundOver = buffer.get() != 0;
+        compact.roundWinner = buffer.get();
+        compact.lastEliminated = buffer.get();
+        return compact;
+    }
+
+    // ===== Game 변환 =====
+
+    /**
+     * Game을 압축 상태로 변환한다. "card-N" 형식이 아닌 카드 ID는 같은 종류의 남는 인덱스로 대체된다.
+     */
+    public static CompactGame fromGame(Game game) {
+        List<Player> players = game.getPlayers();
+        CompactGame compact = new CompactGame(players.size());
+        CardIndexer indexer = new CardIndexer();
+
+        Map<String, Integer> seats = new HashMap<>();
+        for (int p = 0; p < players.size(); p++) {
+            seats.put(players.get(p).getId(), p);
+        }
+
+        compact.deckCount = 0;
+        compact.deck = 0;
+        int position = 0;
+        for (Card card : game.getDeck()) {
+            compact.deck |= (long) indexer.indexOf(card) << (position * 4);
+            position++;
+        }
+        compact.deckCount = position;
+
+        for (Card card : game.getDiscardPile()) {
+            compact.discardPile |= (long) indexer.indexOf(card) << (compact.discardCount * 4);
+            compact.discardCount++;
+        }
+        compact.secretCard = game.getSecretCard() != null ? indexer.indexOf(game.getSecretCard()) : NONE;
+
+        compact.aliveMask = 0;
+        for (int p = 0; p < players.size(); p++) {
+            Player player = players.get(p);
+            compact.hands[p] = (byte) (player.getHandCard() != null ? indexer.indexOf(player.getHandCard()) : NONE);
+            compact.drawnCards[p] = (byte) (player.getDrawnCard() != null ? indexer.indexOf(player.getDrawnCard()) : NONE);
+            for (Card card : player.getDiscardedCards()) {
+                compact.playerDiscards[p] |= (long) indexer.indexOf(card) << (compact.playerDiscardCounts[p] * 4);
+                compact.playerDiscardCounts[p]++;
+            }
+            for (Map.Entry<String, CardType> known : player.getAllKnownCards().entrySet()) {
+                Integer opponent = seats.get(known.getKey());
+                if (opponent != null) {
+                    compact.remember(p, opponent, known.getValue().getNumber());
+                }
+            }
+            if (player.isAlive()) {
+                compact.aliveMask |= 1 << p;
+            }
+            if (player.isProtected()) {
+                compact.protectedMask |= 1 << p;
+            }
+            compact.roundsWon[p] = player.getRoundsWon();
+        }
+
+        compact.currentPlayer = game.getCurrentPlayerIndex();
+        compact.currentRound = game.getCurrentRound();
+        compact.roundOver = game.isRoundOver();
+        compact.roundWinner = game.getRoundWinner() != null ? seats.get(game.getRoundWinner().getId()) : NONE;
+        compact.lastEliminated = game.getLastEliminatedPlayer() != null
+            ? seats.get(game.getLastEliminatedPlayer().getId()) : NONE;
+        return compact;
+    }
+
+    /**
+     * 압축 상태를 같은 좌석 구성의 Game에 덮어쓴다. 게임 로그는 건드리지 않는다.
+     */
+    public void applyTo(Game game) {
+        List<Player> players = game.getPlayers();
+        if (players.size() != playerCount) {
+            throw new IllegalArgumentException("플레이어 수가 다릅니다.");
+        }
+
+        game.restoreDeck(toCards(deck, deckCount));
+        game.restoreDiscardPile(toCards(discardPile, discardCount));
+        game.setSecretCard(secretCard != NONE ? CARDS[secretCard] : null);
+        game.setCurrentPlayerIndex(currentPlayer);
+        game.restoreRound(currentRound, roundOver,
+            roundWinner != NONE ? players.get(roundWinner) : null,
+            lastEliminated != NONE ? players.get(lastEliminated) : null);
+
+        game.getHandBeliefs().reset();
+        for (int p = 0; p < playerCount; p++) {
+            Player player = players.get(p);
+            player.restoreDiscardedCards(toCards(playerDiscards[p], playerDiscardCounts[p]));
+            player.setHandCard(hands[p] != NONE ? CARDS[hands[p]] : null);
+            player.setDrawnCard(drawnCards[p] != NONE ? CARDS[drawnCards[p]] : null);
+            player.setAlive(isAlive(p));
+            player.setProtected(isProtected(p));
+            player.restoreRoundsWon(roundsWon[p]);
+            for (int o = 0; o < playerCount; o++) {
+                int known = getKnownCardNumber(p, o);
+                if (known != 0) {
+                    player.rememberOpponentCard(players.get(o).getId(), CardType.fromNumber(known));
+                    game.getHandBeliefs().onHandRevealed(p, o, known);
+                } else {
+                    player.forgetOpponentCard(players.get(o).getId());
+                }
+            }
+        }
+    }
+
+    public Game toGame(String gameId, List<Player> players) {
+        Game game = new Game(gameId, players);
+        applyTo(game);
+        return game;
+    }
+
+    private static List<Card> toCards(long packed, int count) {
+        Card[] cards = new Card[count];
+        for (int i = 0; i < count; i++) {
+            cards[i] = CARDS[(int) (packed >>> (i * 4)) & 0xF];
+        }
+        return List.of(cards);
+    }
+
+    // Card -> 인덱스 매핑. 같은 ID는 항상 같은 인덱스로 변환된다.
+    private static final class CardIndexer {
+        private final Map<String, Integer> assigned = new HashMap<>();
+        private int used;
+
+        int indexOf(Card card) {
+            Integer existing = assigned.get(card.getId());
+            if (existing != null) {
+                return existing;
+            }
+            int index = parseIndex(card);
+            if (index == NONE) {
+                for (int i = 0; i < DECK_SIZE; i++) {
+                    if (TYPES[i] == card.getType() && (used & (1 << i)) == 0) {
+                        index = i;
+                        break;
+                    }
+                }
+            }
+            if (index == NONE) {
+                throw new IllegalArgumentException("카드 구성이 표준 덱과 다릅니다: " + card.getId());
+            }
+            used |= 1 << index;
+            assigned.put(card.getId(), index);
+            return index;
+        }
+
+        private int parseIndex(Card card) {
+            String id = card.getId();
+            if (!id.startsWith("card-")) {
+                return NONE;
+            }
+            try {
+                int index = Integer.parseInt(id.substring(5));
+                if (index >= 0 && index < DECK_SIZE && TYPES[index] == card.getType() && (used & (1 << index)) == 0) {
+                    return index;
+                }
+            } catch (NumberFormatException e) {
+                // 표준 형식이 아니면 대체 인덱스 사용
+            }
+            return NONE;
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CompactGame that = (CompactGame) o;
+        return playerCount == that.playerCount
+            && deck == that.deck && deckCount == that.deckCount
+            && discardPile == that.discardPile && discardCount == that.discardCount
+            && secretCard == that.secretCard
+            && Arrays.equals(playerDiscards, that.playerDiscards)
+            && Arrays.equals(playerDiscardCounts, that.playerDiscardCounts)
+            && Arrays.equals(hands, that.hands)
+            && Arrays.equals(drawnCards, that.drawnCards)
+            && Arrays.equals(knownCards, that.knownCards)
+            && Arrays.equals(roundsWon, that.roundsWon)
+            && aliveMask == that.aliveMask && protectedMask == that.protectedMask
+            && currentPlayer == that.currentPlayer && currentRound == that.currentRound
+            && roundOver == that.roundOver && roundWinner == that.roundWinner
+            && lastEliminated == that.lastEliminated;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Long.hashCode(deck);
+        result = 31 * result + Long.hashCode(discardPile);
+        result = 31 * result + Arrays.hashCode(hands);
+        result = 31 * result + aliveMask;
+        result = 31 * result + currentPlayer;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("CompactGame[");
+        for (int p = 0; p < playerCount; p++) {
+            sb.append(p).append(':')
+                .append(hands[p] != NONE ? NUMBERS[hands[p]] : 0)
+                .append(isAlive(p) ? "" : "x")
+                .append(isProtected(p) ? "p" : "")
+                .append(' ');
+        }
+        return sb.append("deck=").append(deckCount).append(']').toString();
+    }
+}
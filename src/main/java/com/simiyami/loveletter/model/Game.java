@@ -3,54 +3,156 @@ package com.simiyami.loveletter.model;
 import com.simiyami.loveletter.enums.CardType;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 public class Game {
+    private static final int SNAPSHOT_HISTORY = 16;
+
     private final String id;
     private final List<Player> players;
     private final Deque<Card> deck;
     private final List<Card> discardPile;
     private Card secretCard;
     private int currentPlayerIndex;
-    private final List<String> gameLog;
+    private final GameLog gameLog;
+    private final CardCounter cardCounter = new CardCounter();  // 아직 공개되지 않은 카드 수
+    private final HandBeliefs handBeliefs;  // 좌석별 상대 손패 추정
     private boolean roundOver;
     private Player roundWinner;
     private String roundWinReason;
     private int currentRound;
     private Player lastEliminatedPlayer;  // 마지막 탈락 플레이어
     private String lastEliminationReason;  // 마지막 탈락 사유
+    private long version;  // 게시된 스냅샷 버전 (명령 실행 스레드에서만 변경)
+    private long modCount;  // 이 객체의 상태를 바꾼 횟수 (플레이어 것은 각 Player에서 셈)
+    private volatile GameSnapshot snapshot;  // 마지막으로 게시된 불변 상태
+    // 최근 게시된 스냅샷들 (버전 % 크기 위치). 클라이언트가 가진 버전과의 변경분을 만들 때 사용
+    private final AtomicReferenceArray<GameSnapshot> snapshotHistory = new AtomicReferenceArray<>(SNAPSHOT_HISTORY);
+    private final long seed;  // 이 게임의 난수 시드 (같은 시드와 같은 행동 목록이면 같은 게임이 재현됨)
+    private SplittableRandom deckRandom;  // 셔플 전용
+    private int shuffleCount;             // deckRandom으로 셔플한 횟수 (복원할 때 같은 위치까지 다시 진행)
+    private final AiRandom aiRandom;      // CPU 결정 전용 (AI 호출 횟수가 달라도 덱 순서는 바뀌지 않도록 분리)
+    private Consumer<GameEvent> logListener = event -> { };  // 로그 이벤트를 외부 출력기로 넘김 (기본은 출력 안 함)
+
+    // 읽기 전용 뷰 (호출마다 복사본을 만들지 않기 위해 미리 만들어 둠)
+    private final List<Player> playersView;
+    private final List<Card> discardPileView;
 
     public Game(String id, List<Player> players) {
+        this(id, players, GameLog.DEFAULT_RETENTION);
+    }
+
+    public Game(String id, List<Player> players, int logRetention) {
+        this(id, players, logRetention, ThreadLocalRandom.current().nextLong());
+    }
+
+    public Game(String id, List<Player> players, int logRetention, long seed) {
         this.id = id;
+        this.seed = seed;
+        this.deckRandom = new SplittableRandom(seed);
+        this.aiRandom = new AiRandom(new SplittableRandom(seed).split().nextLong());  // 셔플 스트림은 건드리지 않고 분기
         this.players = new ArrayList<>(players);
         this.deck = new ArrayDeque<>();
         this.discardPile = new ArrayList<>();
         this.currentPlayerIndex = 0;
-        this.gameLog = new ArrayList<>();
+        this.gameLog = new GameLog(logRetention);
+        this.handBeliefs = new HandBeliefs(this.players.size());
         this.roundOver = false;
         this.currentRound = 1;
+        this.playersView = Collections.unmodifiableList(this.players);
+        this.discardPileView = Collections.unmodifiableList(this.discardPile);
     }
 
     public String getId() {
         return id;
     }
 
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * CPU 결정에 쓰는 이 게임 전용 난수. 명령 실행 스레드에서만 사용한다.
+     */
+    public RandomGenerator getAiRandom() {
+        return aiRandom;
+    }
+
+    /**
+     * 상태가 long 하나뿐인 SplitMix64 난수. 상태를 그대로 저장하고 복원할 수 있어 복원한 게임도 같은 결정을 이어간다.
+     */
+    private static final class AiRandom implements RandomGenerator {
+        private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+        private long state;
+
+        AiRandom(long state) {
+            this.state = state;
+        }
+
+        @Override
+        public long nextLong() {
+            long z = (state += GOLDEN_GAMMA);
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    /**
+     * 플레이어 목록의 읽기 전용 뷰. 복사본이 필요하면 호출한 쪽에서 복사한다.
+     */
     public List<Player> getPlayers() {
-        return new ArrayList<>(players);
+        return playersView;
+    }
+
+    public int getPlayerCount() {
+        return players.size();
+    }
+
+    public Player getPlayerAt(int index) {
+        return players.get(index);
+    }
+
+    public void forEachPlayer(Consumer<Player> action) {
+        for (int i = 0; i < players.size(); i++) {
+            action.accept(players.get(i));
+        }
+    }
+
+    /**
+     * 플레이어의 좌석 번호 (플레이어 목록에서의 위치). 없으면 -1.
+     */
+    public int getSeat(Player player) {
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i) == player) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     public Player getPlayer(String playerId) {
-        return players.stream()
-            .filter(p -> p.getId().equals(playerId))
-            .findFirst()
-            .orElse(null);
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (player.getId().equals(playerId)) {
+                return player;
+            }
+        }
+        return null;
     }
 
     public Deque<Card> getDeck() {
         return deck;
     }
 
+    /**
+     * 공개 더미의 읽기 전용 뷰.
+     */
     public List<Card> getDiscardPile() {
-        return new ArrayList<>(discardPile);
+        return discardPileView;
     }
 
     public Card getSecretCard() {
@@ -58,6 +160,7 @@ public class Game {
     }
 
     public void setSecretCard(Card card) {
+        modCount++;
         this.secretCard = card;
     }
 
@@ -66,6 +169,7 @@ public class Game {
     }
 
     public void setCurrentPlayerIndex(int index) {
+        modCount++;
         this.currentPlayerIndex = index;
     }
 
@@ -76,13 +180,32 @@ public class Game {
         return null;
     }
 
+    /**
+     * 보관 중인 로그를 문구로 변환해 반환한다. 문구가 필요할 때만 호출한다.
+     */
     public List<String> getGameLog() {
-        return new ArrayList<>(gameLog);
+        return gameLog.render();
+    }
+
+    public GameLog getEventLog() {
+        return gameLog;
     }
 
     public void addLog(String message) {
-        this.gameLog.add(message);
-        System.out.println("[게임 로그] " + message);
+        log(GameEvent.notice(message));
+    }
+
+    public void log(GameEvent event) {
+        modCount++;
+        this.gameLog.add(event);
+        logListener.accept(event);
+    }
+
+    /**
+     * 로그 이벤트를 받을 리스너를 지정한다. 명령 실행 스레드에서 호출되므로 오래 걸리는 작업을 하면 안 된다.
+     */
+    public void setLogListener(Consumer<GameEvent> logListener) {
+        this.logListener = logListener;
     }
 
     public boolean isRoundOver() {
@@ -90,6 +213,7 @@ public class Game {
     }
 
     public void setRoundOver(boolean roundOver) {
+        modCount++;
         this.roundOver = roundOver;
     }
 
@@ -98,6 +222,7 @@ public class Game {
     }
 
     public void setRoundWinner(Player winner) {
+        modCount++;
         this.roundWinner = winner;
     }
 
@@ -106,6 +231,7 @@ public class Game {
     }
 
     public void setRoundWinReason(String reason) {
+        modCount++;
         this.roundWinReason = reason;
     }
 
@@ -114,6 +240,7 @@ public class Game {
     }
 
     public void incrementRound() {
+        modCount++;
         this.currentRound++;
     }
 
@@ -122,6 +249,7 @@ public class Game {
     }
 
     public void setLastEliminatedPlayer(Player player) {
+        modCount++;
         this.lastEliminatedPlayer = player;
     }
 
@@ -130,21 +258,81 @@ public class Game {
     }
 
     public void setLastEliminationReason(String reason) {
+        modCount++;
         this.lastEliminationReason = reason;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 게임과 플레이어의 상태를 바꾼 횟수. 명령 전후 값이 같으면 바뀐 것이 없으므로 새 버전을 게시하지 않는다.
+     */
+    public long getModificationCount() {
+        long count = modCount;
+        for (int i = 0; i < players.size(); i++) {
+            count += players.get(i).getModificationCount();
+        }
+        return count;
+    }
+
+    public GameSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 현재 상태를 새 버전의 불변 스냅샷으로 게시한다. 명령이 끝날 때마다 호출된다.
+     */
+    public GameSnapshot publishSnapshot() {
+        GameSnapshot published = GameSnapshot.of(this, ++version);
+        snapshotHistory.set((int) (version % SNAPSHOT_HISTORY), published);
+        this.snapshot = published;
+        return published;
+    }
+
+    /**
+     * 최근에 게시된 스냅샷 중 해당 버전. 너무 오래되어 남아 있지 않으면 null.
+     */
+    public GameSnapshot getSnapshot(long version) {
+        if (version < 1) {
+            return null;
+        }
+        GameSnapshot found = snapshotHistory.get((int) (version % SNAPSHOT_HISTORY));
+        return found != null && found.getVersion() == version ? found : null;
+    }
+
     public void addToDiscardPile(Card card) {
+        modCount++;
         this.discardPile.add(card);
+        this.cardCounter.reveal(card);
+    }
+
+    public CardCounter getCardCounter() {
+        return cardCounter;
+    }
+
+    public HandBeliefs getHandBeliefs() {
+        return handBeliefs;
+    }
+
+    /**
+     * 다음에 drawCard가 돌려줄 카드 (덱이 비었으면 null). 덱은 바뀌지 않는다.
+     */
+    public Card peekCard() {
+        return deck.peekFirst();
     }
 
     public Card drawCard() {
         if (deck.isEmpty()) {
             return null;
         }
+        modCount++;
         return deck.pollFirst();
     }
 
     public void nextTurn() {
+        modCount++;
         do {
             currentPlayerIndex = (currentPlayerIndex + 1) % players.size();
         } while (!getCurrentPlayer().isAlive());
@@ -156,17 +344,121 @@ public class Game {
             .toList();
     }
 
+    public int getAliveCount() {
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (players.get(i).isAlive()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     public List<Player> getTargetablePlayers(Player currentPlayer) {
         return players.stream()
-            .filter(p -> !p.getId().equals(currentPlayer.getId()))
-            .filter(Player::isAlive)
-            .filter(p -> !p.isProtected())
+            .filter(p -> isTargetable(currentPlayer, p))
             .toList();
     }
 
+    public boolean isTargetable(Player currentPlayer, Player target) {
+        return !target.getId().equals(currentPlayer.getId()) && target.isAlive() && !target.isProtected();
+    }
+
+    public int countTargetablePlayers(Player currentPlayer) {
+        int count = 0;
+        for (int i = 0; i < players.size(); i++) {
+            if (isTargetable(currentPlayer, players.get(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 타겟 가능한 플레이어 중 index번째 (리스트를 만들지 않고 고를 때 사용)
+     */
+    public Player getTargetablePlayer(Player currentPlayer, int index) {
+        int seen = 0;
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (isTargetable(currentPlayer, player) && seen++ == index) {
+                return player;
+            }
+        }
+        return null;
+    }
+
+    public void forEachTargetablePlayer(Player currentPlayer, Consumer<Player> action) {
+        for (int i = 0; i < players.size(); i++) {
+            Player player = players.get(i);
+            if (isTargetable(currentPlayer, player)) {
+                action.accept(player);
+            }
+        }
+    }
+
+    // CompactGame 등에서 저장된 상태를 복원할 때 사용
+    void restoreDeck(Collection<Card> cards) {
+        deck.clear();
+        deck.addAll(cards);
+    }
+
+    void restoreDiscardPile(Collection<Card> cards) {
+        discardPile.clear();
+        discardPile.addAll(cards);
+        cardCounter.reset();
+        for (Card card : cards) {
+            cardCounter.reveal(card);
+        }
+    }
+
+    void restoreVersion(long version) {
+        this.version = version;
+    }
+
+    int getShuffleCount() {
+        return shuffleCount;
+    }
+
+    long getAiRandomState() {
+        return aiRandom.state;
+    }
+
+    /**
+     * 난수를 저장된 위치로 되돌린다. 셔플 난수는 시드에서 같은 횟수만큼 셔플을 다시 진행해 맞춘다.
+     */
+    void restoreRandom(int shuffleCount, long aiRandomState) {
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int shuffle = 0; shuffle < shuffleCount; shuffle++) {
+            // Collections.shuffle과 같은 호출 순서 (nextInt(size) ... nextInt(2))
+            for (int i = CompactGame.DECK_SIZE; i > 1; i--) {
+                random.nextInt(i);
+            }
+        }
+        this.deckRandom = random;
+        this.shuffleCount = shuffleCount;
+        this.aiRandom.state = aiRandomState;
+    }
+
+    void restoreRound(int round, boolean roundOver, Player roundWinner, Player lastEliminatedPlayer) {
+        this.currentRound = round;
+        this.roundOver = roundOver;
+        this.roundWinner = roundWinner;
+        this.lastEliminatedPlayer = lastEliminatedPlayer;
+        if (roundWinner == null) {
+            this.roundWinReason = null;
+        }
+        if (lastEliminatedPlayer == null) {
+            this.lastEliminationReason = null;
+        }
+    }
+
     public void initializeDeck() {
+        modCount++;
         deck.clear();
         discardPile.clear();
+        cardCounter.reset();
+        handBeliefs.reset();
         int cardId = 0;
 
         for (CardType type : CardType.values()) {
@@ -175,13 +467,16 @@ public class Game {
             }
         }
 
+        // CompactGame.startRound와 같은 Fisher-Yates 순서라 같은 시드면 같은 덱이 나온다
         List<Card> deckList = new ArrayList<>(deck);
-        Collections.shuffle(deckList);
+        Collections.shuffle(deckList, deckRandom);
+        shuffleCount++;
         deck.clear();
         deck.addAll(deckList);
     }
 
     public void resetForNewRound() {
+        modCount++;
         this.roundOver = false;
         this.roundWinner = null;
         this.roundWinReason = null;
@@ -0,0 +1,266 @@
+package com.simiyami.loveletter.model;
+
+import com.simiyami.loveletter.enums.PlayerType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게임 전체 상태를 바이트로 변환한다 (저널 기록, 게임 이동/체크포인트용).
+ *
+ * GameState와 달리 관찰자와 관계없는 전체 상태로, 덱 순서, 비밀 카드, 손패, 기억한 상대 카드, 보호 상태,
+ * 탈락 사유, 손패 추정(HandBeliefs)과 난수 진행 위치까지 담아 복원한 게임이 원래 게임과 똑같이 이어진다.
+ * 카드는 "card-N"의 N(4비트)으로 기록한다. 게임 로그는 지난 기록이라 포함하지 않는다.
+ *
+ * 형식 2 (앞부분은 고정 위치라 View로 디코딩 없이 읽을 수 있다):
+ * <pre>
+ *  0  형식 버전 (1)        1  플레이어 수 (1)     2  상태 버전 (8)
+ * 10  시드 (8)            18  셔플 횟수 (4)      22  AI 난수 상태 (8)
+ * 30  CompactGame 상태 (29 + 19 x 플레이어 수)
+ *     게임 ID, 라운드 승리 사유, 마지막 탈락 사유
+ *     플레이어마다 ID, 이름, 종류(1), 탈락 사유
+ *     HandBeliefs (플레이어 수 x 플레이어 수 x 8)
+ * </pre>
+ * 문자열은 길이(short, null이면 -1) + UTF-8.
+ */
+public final class GameCodec {
+
+    public static final byte FORMAT_VERSION = 2;
+    private static final int NULL_STRING = -1;
+
+    // 고정 위치
+    private static final int PLAYER_COUNT = 1;
+    private static final int VERSION = 2;
+    private static final int SEED = 10;
+    private static final int SHUFFLE_COUNT = 18;
+    private static final int AI_RANDOM = 22;
+    private static final int COMPACT = 30;
+
+    // CompactGame.writeTo 배치 기준 위치 (COMPACT부터)
+    private static final int COMPACT_DECK_COUNT = 8;
+    private static final int COMPACT_SEATS = 19;
+    private static final int COMPACT_SEAT_BYTES = 19;
+    private static final int SEAT_HAND = 9;
+    private static final int SEAT_DRAWN = 10;
+    private static final int SEAT_ROUNDS_WON = 15;
+
+    private GameCodec() {
+    }
+
+    private static int compactSize(int playerCount) {
+        return COMPACT_SEATS + COMPACT_SEAT_BYTES * playerCount + 10;
+    }
+
+    public static byte[] encode(Game game) {
+        ByteBuffer buffer = ByteBuffer.allocate(maxEncodedSize(game));
+        encode(game, buffer);
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
+    /**
+     * buffer의 현재 위치부터 기록한다. 공간은 maxEncodedSize(game) 이상이어야 한다.
+     */
+    public static void encode(Game game, ByteBuffer buffer) {
+        List<Player> players = game.getPlayers();
+        buffer.put(FORMAT_VERSION);
+        buffer.put((byte) players.size());
+        buffer.putLong(game.getVersion());
+        buffer.putLong(game.getSeed());
+        buffer.putInt(game.getShuffleCount());
+        buffer.putLong(game.getAiRandomState());
+
+        CompactGame.fromGame(game).writeTo(buffer);
+        putString(buffer, game.getId());
+        putString(buffer, game.getRoundWinReason());
+        putString(buffer, game.getLastEliminationReason());
+
+        for (Player player : players) {
+            putString(buffer, player.getId());
+            putString(buffer, player.getName());
+            buffer.put((byte) player.getType().ordinal());
+            putString(buffer, player.getEliminationReason());
+        }
+        game.getHandBeliefs().writeTo(buffer);
+    }
+
+    /**
+     * 기록된 게임을 복원한다. buffer는 기록의 끝으로 이동한다.
+     * 복원한 게임은 로그 출력기가 설정되지 않았고, 스냅샷은 아직 게시되지 않았다 (버전만 이어 쓴다).
+     */
+    public static Game decode(ByteBuffer buffer, int logRetention) {
+        byte format = buffer.get();
+        if (format != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 게임 형식 버전입니다: " + format);
+        }
+
+        int playerCount = buffer.get();
+        long version = buffer.getLong();
+        long seed = buffer.getLong();
+        int shuffleCount = buffer.getInt();
+        long aiRandomState = buffer.getLong();
+
+        CompactGame compact = CompactGame.readFrom(buffer, playerCount);
+        String gameId = getString(buffer);
+        String roundWinReason = getString(buffer);
+        String lastEliminationReason = getString(buffer);
+
+        List<Player> players = new ArrayList<>(playerCount);
+        String[] eliminationReasons = new String[playerCount];
+        PlayerType[] types = PlayerType.values();
+        for (int i = 0; i < playerCount; i++) {
+            String id = getString(buffer);
+            String name = getString(buffer);
+            players.add(new Player(id, name, types[buffer.get()]));
+            eliminationReasons[i] = getString(buffer);
+        }
+
+        Game game = new Game(gameId, players, logRetention, seed);
+        compact.applyTo(game);
+        game.getHandBeliefs().readFrom(buffer);  // applyTo가 만든 추정을 기록된 값으로 덮어씀
+        for (int i = 0; i < playerCount; i++) {
+            players.get(i).restoreEliminationReason(eliminationReasons[i]);
+        }
+        game.setRoundWinReason(roundWinReason);
+        game.setLastEliminationReason(lastEliminationReason);
+        game.restoreRandom(shuffleCount, aiRandomState);
+        game.restoreVersion(version);
+        return game;
+    }
+
+    /**
+     * encode에 필요한 최대 바이트 수.
+     */
+    public static int maxEncodedSize(Game game) {
+        int playerCount = game.getPlayerCount();
+        int size = COMPACT + compactSize(playerCount) + game.getHandBeliefs().encodedSize();
+        size += maxStringSize(game.getId()) + maxStringSize(game.getRoundWinReason())
+            + maxStringSize(game.getLastEliminationReason());
+        for (Player player : game.getPlayers()) {
+            size += maxStringSize(player.getId()) + maxStringSize(player.getName()) + 1
+                + maxStringSize(player.getEliminationReason());
+        }
+        return size;
+    }
+
+    private static int maxStringSize(String value) {
+        return 2 + (value != null ? value.length() * 3 : 0);
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) NULL_STRING);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length == NULL_STRING) {
+            return null;
+        }
+        String value;
+        if (buffer.hasArray()) {
+            // 힙 버퍼는 중간 배열 없이 바로 문자열로 만든다
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    // ===== 디코딩 없이 읽기 =====
+
+    /**
+     * buffer의 현재 위치에 있는 형식 2 기록을 복사 없이 읽는 뷰 (buffer의 위치는 바뀌지 않는다).
+     * 게임을 복원하지 않고 버전이나 차례만 확인할 때 사용한다. 뷰는 buffer 내용을 그대로 보므로 기록이 바뀌면 같이 바뀐다.
+     */
+    public static View view(ByteBuffer buffer) {
+        ByteBuffer slice = buffer.slice();
+        if (slice.get(0) != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 게임 형식 버전입니다: " + slice.get(0));
+        }
+        return new View(slice);
+    }
+
+    public static final class View {
+        private final ByteBuffer buffer;
+        private final int playerCount;
+
+        private View(ByteBuffer buffer) {
+            this.buffer = buffer;
+            this.playerCount = buffer.get(PLAYER_COUNT);
+        }
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        public long getVersion() {
+            return buffer.getLong(VERSION);
+        }
+
+        public long getSeed() {
+            return buffer.getLong(SEED);
+        }
+
+        public int getDeckSize() {
+            return buffer.get(COMPACT + COMPACT_DECK_COUNT);
+        }
+
+        private int seat(int seat) {
+            return COMPACT + COMPACT_SEATS + COMPACT_SEAT_BYTES * seat;
+        }
+
+        private int tail() {
+            return COMPACT + COMPACT_SEATS + COMPACT_SEAT_BYTES * playerCount;
+        }
+
+        /**
+         * seat의 손패 카드 인덱스 ("card-N"의 N). 없으면 CompactGame.NONE.
+         */
+        public int getHandCard(int seat) {
+            return buffer.get(seat(seat) + SEAT_HAND);
+        }
+
+        public int getDrawnCard(int seat) {
+            return buffer.get(seat(seat) + SEAT_DRAWN);
+        }
+
+        public int getRoundsWon(int seat) {
+            return buffer.getInt(seat(seat) + SEAT_ROUNDS_WON);
+        }
+
+        public boolean isAlive(int seat) {
+            return (buffer.get(tail()) & (1 << seat)) != 0;
+        }
+
+        public boolean isProtected(int seat) {
+            return (buffer.get(tail() + 1) & (1 << seat)) != 0;
+        }
+
+        public int getCurrentPlayerIndex() {
+            return buffer.get(tail() + 2);
+        }
+
+        public int getCurrentRound() {
+            return buffer.getInt(tail() + 3);
+        }
+
+        public boolean isRoundOver() {
+            return buffer.get(tail() + 7) != 0;
+        }
+
+        public String getGameId() {
+            return getString(buffer.duplicate().position(COMPACT + compactSize(playerCount)));
+        }
+    }
+}
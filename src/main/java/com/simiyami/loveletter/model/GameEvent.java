@@ -0,0 +1,154 @@
+package com.simiyami.loveletter.model;
+
+/**
+ * 게임 로그 한 줄. 문구를 미리 만들지 않고 종류와 인자만 저장하며, 문구는 처음 읽을 때 한 번 만든다.
+ */
+public final class GameEvent {
+
+    public enum Type {
+        NOTICE,               // 고정 문구
+        ROUND_STARTED,
+        INITIAL_CARD_DEALT,
+        FIRST_TURN,
+        TURN_STARTED,
+        CARD_DRAWN,
+        CARD_PLAYED,
+        GUARD_GUESSED,
+        GUARD_HIT,            // 탈락
+        PRIEST_PEEKED,
+        BARON_COMPARED,
+        BARON_WON,            // 탈락
+        PROTECTED,
+        PROTECTION_ENDED,
+        PRINCE_DISCARDED,
+        PRINCESS_DISCARDED,   // 탈락
+        NEW_CARD_DRAWN,
+        SECRET_CARD_TAKEN,
+        CARDS_SWAPPED,
+        COUNTESS_PLAYED,
+        PRINCESS_PLAYED,      // 탈락
+        ROUND_WON,
+        WIN_REASON,
+        FINAL_CARD,
+        SECRET_CARD_REVEALED
+    }
+
+    private final Type type;
+    private final String actor;
+    private final String target;
+    private final Card card;
+    private final int first;
+    private final int second;
+    private final String text;
+    private String rendered;  // 한 번 만든 문구 (여러 스레드가 동시에 만들어도 결과가 같으므로 동기화하지 않음)
+
+    private GameEvent(Type type, String actor, String target, Card card, int first, int second, String text) {
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.card = card;
+        this.first = first;
+        this.second = second;
+        this.text = text;
+    }
+
+    public static GameEvent notice(String text) {
+        return new GameEvent(Type.NOTICE, null, null, null, 0, 0, text);
+    }
+
+    public static GameEvent of(Type type, Player actor) {
+        return new GameEvent(type, actor.getName(), null, null, 0, 0, null);
+    }
+
+    public static GameEvent of(Type type, Player actor, Player target) {
+        return new GameEvent(type, actor.getName(), target.getName(), null, 0, 0, null);
+    }
+
+    public static GameEvent of(Type type, Player actor, Card card) {
+        return new GameEvent(type, actor.getName(), null, card, 0, 0, null);
+    }
+
+    public static GameEvent of(Type type, Player actor, Player target, Card card) {
+        return new GameEvent(type, actor.getName(), target.getName(), card, 0, 0, null);
+    }
+
+    public static GameEvent roundStarted(int round) {
+        return new GameEvent(Type.ROUND_STARTED, null, null, null, round, 0, null);
+    }
+
+    public static GameEvent guardGuessed(Player actor, Player target, int guessNumber) {
+        return new GameEvent(Type.GUARD_GUESSED, actor.getName(), target.getName(), null, guessNumber, 0, null);
+    }
+
+    public static GameEvent baronCompared(Player actor, int actorNumber, Player target, int targetNumber) {
+        return new GameEvent(Type.BARON_COMPARED, actor.getName(), target.getName(), null, actorNumber, targetNumber, null);
+    }
+
+    public static GameEvent roundWon(int round, Player winner) {
+        return new GameEvent(Type.ROUND_WON, winner.getName(), null, null, round, 0, null);
+    }
+
+    public static GameEvent winReason(String reason) {
+        return new GameEvent(Type.WIN_REASON, null, null, null, 0, 0, reason);
+    }
+
+    public static GameEvent secretCardRevealed(Card card) {
+        return new GameEvent(Type.SECRET_CARD_REVEALED, null, null, card, 0, 0, null);
+    }
+
+    public Type getType() { return type; }
+    public String getActor() { return actor; }
+    public String getTarget() { return target; }
+    public Card getCard() { return card; }
+    public int getFirst() { return first; }
+    public int getSecond() { return second; }
+
+    public boolean isElimination() {
+        return type == Type.GUARD_HIT || type == Type.BARON_WON
+            || type == Type.PRINCESS_DISCARDED || type == Type.PRINCESS_PLAYED;
+    }
+
+    public String render() {
+        String result = rendered;
+        if (result == null) {
+            result = format();
+            rendered = result;
+        }
+        return result;
+    }
+
+    private String format() {
+        return switch (type) {
+            case NOTICE -> text;
+            case ROUND_STARTED -> "=== 라운드 " + first + " 시작 ===";
+            case INITIAL_CARD_DEALT -> String.format("%s가 초기 카드를 받았습니다.", actor);
+            case FIRST_TURN -> String.format("%s의 턴입니다.", actor);
+            case TURN_STARTED -> String.format("\n%s의 턴입니다.", actor);
+            case CARD_DRAWN -> String.format("%s가 카드를 뽑았습니다.", actor);
+            case CARD_PLAYED -> String.format("%s가 %s를 사용했습니다.", actor, card.getName());
+            case GUARD_GUESSED -> String.format("%s가 %s의 카드를 %d번으로 추측했습니다.", actor, target, first);
+            case GUARD_HIT -> String.format("정답! %s가 탈락했습니다!", target);
+            case PRIEST_PEEKED -> String.format("%s가 %s의 카드를 확인했습니다: %s", actor, target, card);
+            case BARON_COMPARED -> String.format("%s(%d) vs %s(%d)", actor, first, target, second);
+            case BARON_WON -> String.format("%s가 승리! %s가 탈락했습니다.", actor, target);
+            case PROTECTED -> String.format("%s가 다음 턴까지 보호 상태입니다.", actor);
+            case PROTECTION_ENDED -> String.format("%s의 보호 상태가 해제되었습니다.", actor);
+            case PRINCE_DISCARDED -> String.format("%s가 %s의 카드를 버리게 했습니다: %s", actor, target, card);
+            case PRINCESS_DISCARDED -> String.format("%s가 공주를 버려서 탈락했습니다!", target);
+            case NEW_CARD_DRAWN -> String.format("%s가 새 카드를 뽑았습니다.", actor);
+            case SECRET_CARD_TAKEN -> String.format("%s가 비밀 카드를 받았습니다.", actor);
+            case CARDS_SWAPPED -> String.format("%s와 %s가 카드를 교환했습니다.", actor, target);
+            case COUNTESS_PLAYED -> String.format("%s가 후작을 내려놓았습니다.", actor);
+            case PRINCESS_PLAYED -> String.format("%s가 공주를 버려서 즉시 탈락했습니다!", actor);
+            case ROUND_WON -> String.format("=== 라운드 %d 승자: %s ===", first, actor);
+            case WIN_REASON -> String.format("승리 사유: %s", text);
+            case FINAL_CARD -> String.format("%s: %s", actor, card);
+            case SECRET_CARD_REVEALED -> String.format("비밀 카드: %s", card);
+        };
+    }
+
+    @Override
+    public String toString() {
+        return render();
+    }
+}
@@ -0,0 +1,107 @@
+package com.simiyami.loveletter.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 최근 이벤트만 보관하는 고정 크기 링 버퍼. 가득 차면 가장 오래된 이벤트를 덮어쓴다.
+ * 게임 명령 스레드에서만 변경한다.
+ */
+public class GameLog {
+
+    public static final int DEFAULT_RETENTION = 100;
+
+    private final GameEvent[] events;
+    private int start;   // 가장 오래된 이벤트 위치
+    private int size;
+    private long totalCount;  // 지금까지 기록된 이벤트 수 (덮어쓴 것 포함)
+
+    public GameLog() {
+        this(DEFAULT_RETENTION);
+    }
+
+    public GameLog(int retention) {
+        if (retention < 1) {
+            throw new IllegalArgumentException("로그 보관 개수는 1 이상이어야 합니다: " + retention);
+        }
+        this.events = new GameEvent[retention];
+    }
+
+    public void add(GameEvent event) {
+        int index = (start + size) % events.length;
+        events[index] = event;
+        if (size < events.length) {
+            size++;
+        } else {
+            start = (start + 1) % events.length;
+        }
+        totalCount++;
+    }
+
+    public void clear() {
+        Arrays.fill(events, null);
+        start = 0;
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getRetention() {
+        return events.length;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * 보관 중인 이벤트 중 index번째 (0 = 가장 오래된 것)
+     */
+    public GameEvent get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return events[(start + index) % events.length];
+    }
+
+    public GameEvent getLast() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    public void forEach(Consumer<GameEvent> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept(get(i));
+        }
+    }
+
+    /**
+     * 최근 count개의 이벤트 (오래된 것부터)
+     */
+    public List<GameEvent> recent(int count) {
+        int n = Math.min(count, size);
+        if (n == 0) {
+            return Collections.emptyList();
+        }
+        GameEvent[] result = new GameEvent[n];
+        for (int i = 0; i < n; i++) {
+            result[i] = get(size - n + i);
+        }
+        return List.of(result);
+    }
+
+    /**
+     * 보관 중인 이벤트를 문구로 변환한다. 문구가 필요할 때만 호출한다.
+     */
+    public List<String> render() {
+        List<String> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(get(i).render());
+        }
+        return messages;
+    }
+}
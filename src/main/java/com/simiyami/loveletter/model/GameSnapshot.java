@@ -0,0 +1,136 @@
+package com.simiyami.loveletter.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 명령 하나가 끝난 시점의 게임 상태를 복사해 둔 불변 객체.
+ * 읽기 요청은 진행 중인 명령과 상관없이 가장 최근에 게시된 스냅샷을 읽는다.
+ */
+public final class GameSnapshot {
+
+    private static final int RECENT_LOG_COUNT = 5;
+    // 변경분 응답에 담을 수 있는 최대 새 이벤트 수 (이보다 많이 밀린 클라이언트는 전체 상태를 받음)
+    static final int DELTA_EVENT_WINDOW = 32;
+
+    private final long version;
+    private final String gameId;
+    private final int currentRound;
+    private final String currentPlayerId;
+    private final String currentPlayerName;
+    private final List<PlayerSnapshot> players;
+    private final int deckSize;
+    private final List<GameEvent> events;  // 최근 DELTA_EVENT_WINDOW개 (오래된 것부터)
+    private final long eventCount;         // 지금까지 기록된 이벤트 수
+    private List<String> recentLogs;  // 처음 요청될 때 만든 문구 (불변 리스트라 동기화 없이 공유 가능)
+    private final boolean roundOver;
+    private final String roundWinnerId;
+    private final String roundWinnerName;
+    private final String roundWinReason;
+    private final Card secretCard;
+
+    public static final class PlayerSnapshot {
+        private final String id;
+        private final String name;
+        private final String type;
+        private final boolean alive;
+        private final boolean isProtected;
+        private final int roundsWon;
+        private final Card handCard;
+        private final List<Card> discardedCards;
+
+        private PlayerSnapshot(Player player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.type = player.getType().name();
+            this.alive = player.isAlive();
+            this.isProtected = player.isProtected();
+            this.roundsWon = player.getRoundsWon();
+            this.handCard = player.getHandCard();
+            this.discardedCards = List.copyOf(player.getDiscardedCards());
+        }
+
+        public String getId() { return id; }
+        public String getName() { return name; }
+        public String getType() { return type; }
+        public boolean isAlive() { return alive; }
+        public boolean isProtected() { return isProtected; }
+        public int getRoundsWon() { return roundsWon; }
+        public Card getHandCard() { return handCard; }
+        public List<Card> getDiscardedCards() { return discardedCards; }
+    }
+
+    private GameSnapshot(Game game, long version) {
+        this.version = version;
+        this.gameId = game.getId();
+        this.currentRound = game.getCurrentRound();
+
+        Player currentPlayer = game.getCurrentPlayer();
+        this.currentPlayerId = currentPlayer != null ? currentPlayer.getId() : null;
+        this.currentPlayerName = currentPlayer != null ? currentPlayer.getName() : null;
+
+        List<PlayerSnapshot> playerSnapshots = new ArrayList<>();
+        for (Player player : game.getPlayers()) {
+            playerSnapshots.add(new PlayerSnapshot(player));
+        }
+        this.players = List.copyOf(playerSnapshots);
+
+        this.deckSize = game.getDeck().size();
+
+        this.events = game.getEventLog().recent(DELTA_EVENT_WINDOW);
+        this.eventCount = game.getEventLog().getTotalCount();
+
+        this.roundOver = game.isRoundOver();
+        Player winner = game.getRoundWinner();
+        this.roundWinnerId = winner != null ? winner.getId() : null;
+        this.roundWinnerName = winner != null ? winner.getName() : null;
+        this.roundWinReason = winner != null ? game.getRoundWinReason() : null;
+        this.secretCard = winner != null ? game.getSecretCard() : null;
+    }
+
+    public static GameSnapshot of(Game game, long version) {
+        return new GameSnapshot(game, version);
+    }
+
+    public long getVersion() { return version; }
+    public String getGameId() { return gameId; }
+    public int getCurrentRound() { return currentRound; }
+    public String getCurrentPlayerId() { return currentPlayerId; }
+    public String getCurrentPlayerName() { return currentPlayerName; }
+    public List<PlayerSnapshot> getPlayers() { return players; }
+    public int getDeckSize() { return deckSize; }
+    public long getEventCount() { return eventCount; }
+
+    public List<GameEvent> getRecentEvents() {
+        return events.subList(Math.max(0, events.size() - RECENT_LOG_COUNT), events.size());
+    }
+
+    /**
+     * 마지막 count개의 이벤트. 보관 범위를 넘으면 null.
+     */
+    public List<GameEvent> getLastEvents(int count) {
+        if (count > events.size()) {
+            return null;
+        }
+        return events.subList(events.size() - count, events.size());
+    }
+    public boolean isRoundOver() { return roundOver; }
+    public String getRoundWinnerId() { return roundWinnerId; }
+    public String getRoundWinnerName() { return roundWinnerName; }
+    public String getRoundWinReason() { return roundWinReason; }
+    public Card getSecretCard() { return secretCard; }
+
+    public List<String> getRecentLogs() {
+        List<String> logs = recentLogs;
+        if (logs == null) {
+            List<GameEvent> recentEvents = getRecentEvents();
+            String[] rendered = new String[recentEvents.size()];
+            for (int i = 0; i < rendered.length; i++) {
+                rendered[i] = recentEvents.get(i).render();
+            }
+            logs = List.of(rendered);
+            recentLogs = logs;
+        }
+        return logs;
+    }
+}
@@ -3,6 +3,7 @@ package com.simiyami.loveletter.model;
 import java.util.List;
 
 public class GameState {
+    private long version;
     private String gameId;
     private int currentRound;
     private String currentPlayerId;
@@ -10,6 +11,7 @@ public class GameState {
     private List<PlayerInfo> players;
     private int deckSize;
     private List<String> recentLogs;
+    private long eventCount;  // 지금까지 기록된 로그 이벤트 수 (변경분의 새 로그를 합칠 때 겹치는 부분 판단용)
     private boolean roundOver;
     private String roundWinnerId;
     private String roundWinnerName;
@@ -34,6 +36,17 @@ public class GameState {
             this.isProtected = player.isProtected();
             this.roundsWon = player.getRoundsWon();
             this.handCard = showHandCard ? player.getHandCard() : null;
+            this.discardedCards = List.copyOf(player.getDiscardedCards());
+        }
+
+        public PlayerInfo(GameSnapshot.PlayerSnapshot player, boolean showHandCard) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.type = player.getType();
+            this.isAlive = player.isAlive();
+            this.isProtected = player.isProtected();
+            this.roundsWon = player.getRoundsWon();
+            this.handCard = showHandCard ? player.getHandCard() : null;
             this.discardedCards = player.getDiscardedCards();
         }
 
@@ -51,6 +64,7 @@ public class GameState {
 
     public static GameState fromGame(Game game, String viewingPlayerId) {
         GameState state = new GameState();
+        state.version = game.getVersion();
         state.gameId = game.getId();
         state.currentRound = game.getCurrentRound();
 
@@ -65,9 +79,10 @@ public class GameState {
             .toList();
 
         state.deckSize = game.getDeck().size();
-        state.recentLogs = game.getGameLog().stream()
-            .skip(Math.max(0, game.getGameLog().size() - 5))
+        state.recentLogs = game.getEventLog().recent(5).stream()
+            .map(GameEvent::render)
             .toList();
+        state.eventCount = game.getEventLog().getTotalCount();
 
         state.roundOver = game.isRoundOver();
         if (game.getRoundWinner() != null) {
@@ -80,6 +95,35 @@ public class GameState {
         return state;
     }
 
+    /**
+     * 게시된 스냅샷에서 상태를 만든다. 진행 중인 명령을 기다리지 않는다.
+     */
+    public static GameState fromSnapshot(GameSnapshot snapshot, String viewingPlayerId) {
+        GameState state = new GameState();
+        state.version = snapshot.getVersion();
+        state.gameId = snapshot.getGameId();
+        state.currentRound = snapshot.getCurrentRound();
+        state.currentPlayerId = snapshot.getCurrentPlayerId();
+        state.currentPlayerName = snapshot.getCurrentPlayerName();
+
+        state.players = snapshot.getPlayers().stream()
+            .map(p -> new PlayerInfo(p, p.getId().equals(viewingPlayerId) || !p.isAlive()))
+            .toList();
+
+        state.deckSize = snapshot.getDeckSize();
+        state.recentLogs = snapshot.getRecentLogs();
+        state.eventCount = snapshot.getEventCount();
+
+        state.roundOver = snapshot.isRoundOver();
+        state.roundWinnerId = snapshot.getRoundWinnerId();
+        state.roundWinnerName = snapshot.getRoundWinnerName();
+        state.roundWinReason = snapshot.getRoundWinReason();
+        state.secretCard = snapshot.getSecretCard();
+
+        return state;
+    }
+
+    public long getVersion() { return version; }
     public String getGameId() { return gameId; }
     public int getCurrentRound() { return currentRound; }
     public String getCurrentPlayerId() { return currentPlayerId; }
@@ -87,6 +131,7 @@ public class GameState {
     public List<PlayerInfo> getPlayers() { return players; }
     public int getDeckSize() { return deckSize; }
     public List<String> getRecentLogs() { return recentLogs; }
+    public long getEventCount() { return eventCount; }
     public boolean isRoundOver() { return roundOver; }
     public String getRoundWinnerId() { return roundWinnerId; }
     public String getRoundWinnerName() { return roundWinnerName; }
@@ -0,0 +1,150 @@
+package com.simiyami.loveletter.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 클라이언트가 가진 버전(baseVersion) 이후 바뀐 부분만 담은 응답.
+ * 바뀐 플레이어, 새로 버려진 카드, 새 로그만 보내며, 기준 스냅샷이 남아 있지 않거나 라운드가 바뀌었거나
+ * 새 로그가 너무 많으면 full에 전체 상태를 담는다 (이때 나머지 필드는 비어 있음).
+ *
+ * 버린 카드는 시작 위치(discardOffset), 새 로그는 끝 위치(eventCount)를 함께 보내므로,
+ * 클라이언트가 base보다 새 버전을 이미 갖고 있어도 겹치는 부분을 건너뛰고 합칠 수 있다.
+ */
+public class GameStateDelta {
+    private long baseVersion;
+    private long version;
+    private GameState full;
+
+    private String currentPlayerId;
+    private String currentPlayerName;
+    private int deckSize;
+    private List<PlayerDelta> players = List.of();
+    private List<String> newLogs = List.of();
+    private long eventCount;
+    private boolean roundOver;
+    private String roundWinnerId;
+    private String roundWinnerName;
+    private String roundWinReason;
+    private Card secretCard;
+
+    public static class PlayerDelta {
+        private final String id;
+        private final boolean isAlive;
+        private final boolean isProtected;
+        private final int roundsWon;
+        private final Card handCard;  // 보이지 않으면 null
+        private final int discardOffset;  // addedDiscards 첫 장의 버린 카드 목록 내 위치
+        private final List<Card> addedDiscards;
+
+        private PlayerDelta(GameSnapshot.PlayerSnapshot player, Card visibleHandCard, int discardOffset,
+                            List<Card> addedDiscards) {
+            this.id = player.getId();
+            this.isAlive = player.isAlive();
+            this.isProtected = player.isProtected();
+            this.roundsWon = player.getRoundsWon();
+            this.handCard = visibleHandCard;
+            this.discardOffset = discardOffset;
+            this.addedDiscards = addedDiscards;
+        }
+
+        public String getId() { return id; }
+        public boolean isAlive() { return isAlive; }
+        public boolean isProtected() { return isProtected; }
+        public int getRoundsWon() { return roundsWon; }
+        public Card getHandCard() { return handCard; }
+        public int getDiscardOffset() { return discardOffset; }
+        public List<Card> getAddedDiscards() { return addedDiscards; }
+    }
+
+    private GameStateDelta() {}
+
+    /**
+     * base에서 current까지의 변경분. base가 null이면(기록이 남아 있지 않으면) 전체 상태를 담는다.
+     */
+    public static GameStateDelta between(GameSnapshot base, GameSnapshot current, String viewingPlayerId) {
+        GameStateDelta delta = new GameStateDelta();
+        delta.baseVersion = base != null ? base.getVersion() : 0;
+        delta.version = current.getVersion();
+
+        List<GameEvent> newEvents = base != null ? newEvents(base, current) : null;
+        if (newEvents == null
+            || !base.getGameId().equals(current.getGameId())
+            || base.getCurrentRound() != current.getCurrentRound()
+            || base.getPlayers().size() != current.getPlayers().size()) {
+            delta.full = GameState.fromSnapshot(current, viewingPlayerId);
+            return delta;
+        }
+
+        List<PlayerDelta> changed = new ArrayList<>();
+        for (int i = 0; i < current.getPlayers().size(); i++) {
+            GameSnapshot.PlayerSnapshot before = base.getPlayers().get(i);
+            GameSnapshot.PlayerSnapshot after = current.getPlayers().get(i);
+            List<Card> beforeDiscards = before.getDiscardedCards();
+            List<Card> afterDiscards = after.getDiscardedCards();
+            if (afterDiscards.size() < beforeDiscards.size()) {
+                // 라운드 안에서 버린 카드가 줄어드는 일은 없음. 기준이 맞지 않으면 전체 상태로
+                delta.full = GameState.fromSnapshot(current, viewingPlayerId);
+                return delta;
+            }
+
+            Card beforeHand = visibleHandCard(before, viewingPlayerId);
+            Card afterHand = visibleHandCard(after, viewingPlayerId);
+            if (before.isAlive() != after.isAlive()
+                || before.isProtected() != after.isProtected()
+                || before.getRoundsWon() != after.getRoundsWon()
+                || !Objects.equals(beforeHand, afterHand)
+                || afterDiscards.size() != beforeDiscards.size()) {
+                changed.add(new PlayerDelta(after, afterHand, beforeDiscards.size(),
+                    afterDiscards.subList(beforeDiscards.size(), afterDiscards.size())));
+            }
+        }
+        delta.players = List.copyOf(changed);
+
+        String[] rendered = new String[newEvents.size()];
+        for (int i = 0; i < rendered.length; i++) {
+            rendered[i] = newEvents.get(i).render();
+        }
+        delta.newLogs = List.of(rendered);
+        delta.eventCount = current.getEventCount();
+
+        delta.currentPlayerId = current.getCurrentPlayerId();
+        delta.currentPlayerName = current.getCurrentPlayerName();
+        delta.deckSize = current.getDeckSize();
+        delta.roundOver = current.isRoundOver();
+        delta.roundWinnerId = current.getRoundWinnerId();
+        delta.roundWinnerName = current.getRoundWinnerName();
+        delta.roundWinReason = current.getRoundWinReason();
+        delta.secretCard = current.getSecretCard();
+        return delta;
+    }
+
+    // base 이후 새로 기록된 이벤트. 보관 범위보다 많이 밀렸으면 null
+    private static List<GameEvent> newEvents(GameSnapshot base, GameSnapshot current) {
+        long count = current.getEventCount() - base.getEventCount();
+        if (count < 0 || count > Integer.MAX_VALUE) {
+            return null;
+        }
+        return current.getLastEvents((int) count);
+    }
+
+    private static Card visibleHandCard(GameSnapshot.PlayerSnapshot player, String viewingPlayerId) {
+        return player.getId().equals(viewingPlayerId) || !player.isAlive() ? player.getHandCard() : null;
+    }
+
+    public long getBaseVersion() { return baseVersion; }
+    public long getVersion() { return version; }
+    public GameState getFull() { return full; }
+    public String getCurrentPlayerId() { return currentPlayerId; }
+    public String getCurrentPlayerName() { return currentPlayerName; }
+    public int getDeckSize() { return deckSize; }
+    public List<PlayerDelta> getPlayers() { return players; }
+    public List<String> getNewLogs() { return newLogs; }
+    public long getEventCount() { return eventCount; }
+    public boolean isRoundOver() { return roundOver; }
+    public String getRoundWinnerId() { return roundWinnerId; }
+    public String getRoundWinnerName() { return roundWinnerName; }
+    public String getRoundWinReason() { return roundWinReason; }
+    public Card getSecretCard() { return secretCard; }
+}
@@ -0,0 +1,336 @@
+package com.simiyami.loveletter.model;
+
+import com.simiyami.loveletter.enums.CardType;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * 좌석마다 상대 손패가 몇 번 카드인지에 대한 확률 분포.
+ *
+ * 관찰자(viewer) x 상대(opponent) x 카드 숫자마다 가중치(증거)를 하나씩 두고, 공개된 사건이 있을 때마다 해당 칸만 고친다.
+ * 실제 확률은 가중치 x 관찰자 기준으로 남은 카드 수(CardCounter에서 자기 카드를 뺀 값)에 비례하며, 조회할 때 8칸만 보고 계산한다.
+ * 가중치 1은 정보 없음, 0은 불가능, 확실히 아는 카드는 그 숫자만 1이고 나머지는 0이다.
+ * 가중치는 0~1 사이 1/255 단위로 반올림해 보관한다 (기록할 때 칸마다 1바이트로 잃는 것 없이 남기기 위함).
+ * 게임 명령 스레드에서만 변경한다.
+ */
+public final class HandBeliefs {
+
+    private static final int NUMBERS = CardType.PRINCESS.getNumber() + 1;  // 인덱스 = 카드 숫자 (0은 사용 안 함)
+    // 후작을 강제가 아닌데도 낼 가능성 (마법사/장군을 들고 있으면 반드시 냄)
+    private static final double VOLUNTARY_COUNTESS = 0.5;
+    private static final int WEIGHT_STEPS = 255;
+
+    private final int seats;
+    private final double[] weights;  // [viewer][opponent][number]
+    private final double[] scratch = new double[NUMBERS];
+
+    public HandBeliefs(int seats) {
+        this.seats = seats;
+        this.weights = new double[seats * seats * NUMBERS];
+        reset();
+    }
+
+    public void reset() {
+        Arrays.fill(weights, 1.0);
+    }
+
+    /**
+     * 가중치를 칸마다 1바이트(가중치 x 255)로 기록한다 (좌석 수 x 좌석 수 x 8바이트).
+     */
+    public void writeTo(ByteBuffer buffer) {
+        for (int base = 0; base < weights.length; base += NUMBERS) {
+            for (int number = 1; number < NUMBERS; number++) {
+                buffer.put((byte) Math.round(weights[base + number] * WEIGHT_STEPS));
+            }
+        }
+    }
+
+    /**
+     * writeTo로 기록한 가중치를 읽는다. 좌석 수가 같아야 한다.
+     */
+    public void readFrom(ByteBuffer buffer) {
+        for (int base = 0; base < weights.length; base += NUMBERS) {
+            for (int number = 1; number < NUMBERS; number++) {
+                weights[base + number] = (double) Byte.toUnsignedInt(buffer.get()) / WEIGHT_STEPS;
+            }
+        }
+    }
+
+    public int encodedSize() {
+        return seats * seats * (NUMBERS - 1);
+    }
+
+    private int offset(int viewer, int opponent) {
+        return (viewer * seats + opponent) * NUMBERS;
+    }
+
+    private void setNeutral(int viewer, int opponent) {
+        Arrays.fill(weights, offset(viewer, opponent), offset(viewer, opponent) + NUMBERS, 1.0);
+    }
+
+    private void setKnown(int viewer, int opponent, int number) {
+        int base = offset(viewer, opponent);
+        Arrays.fill(weights, base, base + NUMBERS, 0.0);
+        weights[base + number] = 1.0;
+    }
+
+    /**
+     * viewer가 opponent의 카드를 확실히 아는 경우 그 숫자, 아니면 0.
+     */
+    public int getKnownNumber(int viewer, int opponent) {
+        int base = offset(viewer, opponent);
+        int known = 0;
+        for (int number = 1; number < NUMBERS; number++) {
+            if (weights[base + number] != 0) {
+                if (known != 0) {
+                    return 0;
+                }
+                known = number;
+            }
+        }
+        return known;
+    }
+
+    // ===== 공개 사건 =====
+
+    /**
+     * seat가 카드를 냈다. 남은 한 장은 원래 손패(낸 카드를 뽑은 경우)이거나 방금 뽑은 카드(손패를 낸 경우)다.
+     * 공개된 카드로 두 경우를 조건부로 합치면 남은 카드의 가중치는 (원래 가중치 + 낸 숫자의 가중치)에 비례한다.
+     * 알던 카드와 다른 카드를 냈다면 알던 카드를 그대로 들고 있고, 알던 카드를 냈다면 새로 모르는 카드가 된다.
+     */
+    public void onCardPlayed(int seat, Card played) {
+        int playedNumber = played.getNumber();
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer == seat) {
+                continue;
+            }
+            int base = offset(viewer, seat);
+            double playedWeight = weights[base + playedNumber];
+            for (int number = 1; number < NUMBERS; number++) {
+                weights[base + number] += playedWeight;
+            }
+
+            switch (played.getType()) {
+                // 후작과 함께 들고 있었다면 후작을 냈어야 함
+                case PRINCE, KING -> weights[base + CardType.COUNTESS.getNumber()] = 0;
+                case COUNTESS -> {
+                    for (int number = 1; number < NUMBERS; number++) {
+                        if (number != CardType.PRINCE.getNumber() && number != CardType.KING.getNumber()) {
+                            weights[base + number] *= VOLUNTARY_COUNTESS;
+                        }
+                    }
+                }
+                default -> {
+                    // 남은 카드에 대한 추가 정보 없음
+                }
+            }
+            normalize(viewer, seat);
+        }
+    }
+
+    // 가장 큰 가중치가 1이 되도록 맞추고 1/255 단위로 반올림 (0이 아닌 값은 0이 되지 않게 함).
+    // 모두 0이면 추정이 실제와 어긋난 것이므로 정보 없음으로 되돌린다.
+    private void normalize(int viewer, int opponent) {
+        int base = offset(viewer, opponent);
+        double max = 0;
+        for (int number = 1; number < NUMBERS; number++) {
+            max = Math.max(max, weights[base + number]);
+        }
+        if (max == 0) {
+            setNeutral(viewer, opponent);
+            return;
+        }
+        for (int number = 1; number < NUMBERS; number++) {
+            double weight = weights[base + number];
+            weights[base + number] = weight == 0 ? 0
+                : (double) Math.max(1, Math.round(weight / max * WEIGHT_STEPS)) / WEIGHT_STEPS;
+        }
+    }
+
+    /**
+     * 경비병 지목이 빗나갔다: target은 guess 카드가 아니다.
+     */
+    public void onGuardMissed(int target, int guess) {
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer != target) {
+                weights[offset(viewer, target) + guess] = 0;
+            }
+        }
+    }
+
+    /**
+     * 광대로 viewer가 owner의 카드를 봤다.
+     */
+    public void onHandRevealed(int viewer, int owner, int number) {
+        setKnown(viewer, owner, number);
+    }
+
+    /**
+     * 기사 대결 무승부. 두 사람은 서로의 카드를 알게 되고, 나머지는 두 사람이 같은 숫자를 들고 있다는 것만 안다
+     * (한 장뿐인 카드나 이미 한 장 이하로 남은 카드로는 비길 수 없음).
+     */
+    public void onBaronTie(int first, int second, int number, CardCounter counter) {
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer == first) {
+                setKnown(viewer, second, number);
+            } else if (viewer == second) {
+                setKnown(viewer, first, number);
+            } else {
+                excludeSingletons(viewer, first, counter);
+                excludeSingletons(viewer, second, counter);
+            }
+        }
+    }
+
+    private void excludeSingletons(int viewer, int opponent, CardCounter counter) {
+        int base = offset(viewer, opponent);
+        for (int number = 1; number < NUMBERS; number++) {
+            if (counter.getUnseen(number) < 2) {
+                weights[base + number] = 0;
+            }
+        }
+    }
+
+    /**
+     * 기사 대결에서 winner가 이겼다. 탈락한 쪽 카드(loserNumber)는 공개되므로 winner는 그보다 높은 카드다.
+     */
+    public void onBaronWon(int winner, int loserNumber) {
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer == winner) {
+                continue;
+            }
+            int base = offset(viewer, winner);
+            for (int number = 1; number <= loserNumber; number++) {
+                weights[base + number] = 0;
+            }
+        }
+    }
+
+    /**
+     * 마법사로 seat가 카드를 버리고 새로 받았다.
+     */
+    public void onHandReplaced(int seat) {
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer != seat) {
+                setNeutral(viewer, seat);
+            }
+        }
+    }
+
+    /**
+     * 장군으로 first와 second가 카드를 바꿨다. 두 사람은 상대가 받은 카드(자기가 준 카드)를 알고,
+     * 나머지는 두 사람에 대한 분포를 서로 바꾼다.
+     */
+    public void onCardsSwapped(int first, int second, int firstGaveNumber, int secondGaveNumber) {
+        for (int viewer = 0; viewer < seats; viewer++) {
+            if (viewer == first) {
+                setKnown(viewer, second, firstGaveNumber);
+            } else if (viewer == second) {
+                setKnown(viewer, first, secondGaveNumber);
+            } else {
+                int a = offset(viewer, first);
+                int b = offset(viewer, second);
+                System.arraycopy(weights, a, scratch, 0, NUMBERS);
+                System.arraycopy(weights, b, weights, a, NUMBERS);
+                System.arraycopy(scratch, 0, weights, b, NUMBERS);
+            }
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * viewer가 보기에 opponent가 number 카드를 들고 있을 확률.
+     * ownFirst/ownSecond는 viewer가 들고 있는 카드 숫자 (없으면 0)로, 남은 카드 수에서 뺀다.
+     */
+    public double probability(int viewer, int opponent, int number, CardCounter counter, int ownFirst, int ownSecond) {
+        double total = 0;
+        double selected = 0;
+        int base = offset(viewer, opponent);
+        for (int n = 1; n < NUMBERS; n++) {
+            double weight = weights[base + n] * available(n, counter, ownFirst, ownSecond);
+            total += weight;
+            if (n == number) {
+                selected = weight;
+            }
+        }
+        return total == 0 ? 0 : selected / total;
+    }
+
+    /**
+     * opponent의 카드가 threshold보다 낮을 확률에서 높을 확률을 뺀 값 (기사 대결 기대값).
+     */
+    public double compareAgainst(int viewer, int opponent, int threshold, CardCounter counter, int ownFirst, int ownSecond) {
+        double total = 0;
+        double score = 0;
+        int base = offset(viewer, opponent);
+        for (int n = 1; n < NUMBERS; n++) {
+            double weight = weights[base + n] * available(n, counter, ownFirst, ownSecond);
+            total += weight;
+            if (n < threshold) {
+                score += weight;
+            } else if (n > threshold) {
+                score -= weight;
+            }
+        }
+        return total == 0 ? 0 : score / total;
+    }
+
+    /**
+     * viewer가 보기에 opponent 카드 숫자의 기대값. 정보가 전혀 없으면 0.
+     */
+    public double expectedNumber(int viewer, int opponent, CardCounter counter, int ownFirst, int ownSecond) {
+        double total = 0;
+        double sum = 0;
+        int base = offset(viewer, opponent);
+        for (int n = 1; n < NUMBERS; n++) {
+            double weight = weights[base + n] * available(n, counter, ownFirst, ownSecond);
+            total += weight;
+            sum += weight * n;
+        }
+        return total == 0 ? 0 : sum / total;
+    }
+
+    /**
+     * 경비병으로 지목할 숫자(2-8)를 분포에 비례해 고른다. 가능한 숫자가 없으면 0.
+     */
+    public int sampleGuess(int viewer, int opponent, CardCounter counter, int ownFirst, int ownSecond,
+                           RandomGenerator random) {
+        int base = offset(viewer, opponent);
+        double total = 0;
+        for (int n = 2; n < NUMBERS; n++) {
+            total += weights[base + n] * available(n, counter, ownFirst, ownSecond);
+        }
+        if (total <= 0) {
+            return 0;
+        }
+
+        double pick = random.nextDouble() * total;
+        int last = 0;
+        for (int n = 2; n < NUMBERS; n++) {
+            double weight = weights[base + n] * available(n, counter, ownFirst, ownSecond);
+            if (weight <= 0) {
+                continue;
+            }
+            last = n;
+            pick -= weight;
+            if (pick < 0) {
+                return n;
+            }
+        }
+        return last;  // 부동소수점 오차로 끝까지 간 경우
+    }
+
+    private static int available(int number, CardCounter counter, int ownFirst, int ownSecond) {
+        int count = counter.getUnseen(number);
+        if (ownFirst == number) {
+            count--;
+        }
+        if (ownSecond == number) {
+            count--;
+        }
+        return Math.max(0, count);
+    }
+}
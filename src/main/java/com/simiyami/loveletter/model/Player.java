@@ -4,9 +4,11 @@ import com.simiyami.loveletter.enums.CardType;
 import com.simiyami.loveletter.enums.PlayerType;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public class Player {
     private final String id;
@@ -15,25 +17,34 @@ public class Player {
     private Card handCard;
     private Card drawnCard;  // 턴에 드로우한 카드
     private final List<Card> discardedCards;
+    private int discardedSum;  // 버린 카드 숫자 합 (CPU 추론용)
     private boolean isAlive;
     private boolean isProtected;
     private int roundsWon;
     private String eliminationReason;  // 탈락 사유
+    private long modCount;  // 상태를 바꾼 횟수 (Game.getModificationCount에서 합산)
 
     // CPU 메모리 시스템: 상대방의 카드 기억
     private final Map<String, CardType> knownOpponentCards;  // playerId -> 알려진 카드
 
+    private final List<Card> discardedCardsView;
+
     public Player(String id, String name, PlayerType type) {
         this.id = id;
         this.name = name;
         this.type = type;
         this.discardedCards = new ArrayList<>();
         this.knownOpponentCards = new HashMap<>();
+        this.discardedCardsView = Collections.unmodifiableList(this.discardedCards);
         this.isAlive = true;
         this.isProtected = false;
         this.roundsWon = 0;
     }
 
+    long getModificationCount() {
+        return modCount;
+    }
+
     public String getId() {
         return id;
     }
@@ -51,6 +62,7 @@ public class Player {
     }
 
     public void setHandCard(Card card) {
+        modCount++;
         this.handCard = card;
     }
 
@@ -59,15 +71,43 @@ public class Player {
     }
 
     public void setDrawnCard(Card card) {
+        modCount++;
         this.drawnCard = card;
     }
 
+    /**
+     * 버린 카드의 읽기 전용 뷰.
+     */
     public List<Card> getDiscardedCards() {
-        return new ArrayList<>(discardedCards);
+        return discardedCardsView;
+    }
+
+    public int getDiscardedCount() {
+        return discardedCards.size();
+    }
+
+    public Card getDiscardedCard(int index) {
+        return discardedCards.get(index);
+    }
+
+    public Card getLastDiscardedCard() {
+        return discardedCards.isEmpty() ? null : discardedCards.get(discardedCards.size() - 1);
+    }
+
+    public int getDiscardedSum() {
+        return discardedSum;
+    }
+
+    public void forEachDiscardedCard(Consumer<Card> action) {
+        for (int i = 0; i < discardedCards.size(); i++) {
+            action.accept(discardedCards.get(i));
+        }
     }
 
     public void addDiscardedCard(Card card) {
+        modCount++;
         this.discardedCards.add(card);
+        this.discardedSum += card.getNumber();
     }
 
     public boolean isAlive() {
@@ -75,6 +115,7 @@ public class Player {
     }
 
     public void setAlive(boolean alive) {
+        modCount++;
         isAlive = alive;
     }
 
@@ -83,6 +124,7 @@ public class Player {
     }
 
     public void setProtected(boolean protected_) {
+        modCount++;
         isProtected = protected_;
     }
 
@@ -91,6 +133,7 @@ public class Player {
     }
 
     public void incrementRoundsWon() {
+        modCount++;
         this.roundsWon++;
     }
 
@@ -110,11 +153,13 @@ public class Player {
     }
 
     public void eliminate() {
+        modCount++;
         this.isAlive = false;
         this.isProtected = false;
     }
 
     public void eliminate(String reason) {
+        modCount++;
         this.isAlive = false;
         this.isProtected = false;
         this.eliminationReason = reason;
@@ -124,10 +169,30 @@ public class Player {
         return eliminationReason;
     }
 
+    // CompactGame 등에서 저장된 상태를 복원할 때 사용
+    void restoreDiscardedCards(List<Card> cards) {
+        this.discardedCards.clear();
+        this.discardedCards.addAll(cards);
+        this.discardedSum = 0;
+        for (Card card : cards) {
+            this.discardedSum += card.getNumber();
+        }
+    }
+
+    void restoreRoundsWon(int roundsWon) {
+        this.roundsWon = roundsWon;
+    }
+
+    void restoreEliminationReason(String reason) {
+        this.eliminationReason = reason;
+    }
+
     public void resetForNewRound() {
+        modCount++;
         this.handCard = null;
         this.drawnCard = null;
         this.discardedCards.clear();
+        this.discardedSum = 0;
         this.knownOpponentCards.clear();
         this.isAlive = true;
         this.isProtected = false;
@@ -136,6 +201,7 @@ public class Player {
 
     // CPU 메모리 관련 메서드
     public void rememberOpponentCard(String playerId, CardType cardType) {
+        modCount++;
         this.knownOpponentCards.put(playerId, cardType);
     }
 
@@ -144,6 +210,7 @@ public class Player {
     }
 
     public void forgetOpponentCard(String playerId) {
+        modCount++;
         this.knownOpponentCards.remove(playerId);
     }
 
@@ -0,0 +1,267 @@
+package com.simiyami.loveletter.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 로그와 AI 로그를 요청 스레드 밖에서 출력하는 비동기 로그 출력기.
+ *
+ * 요청 스레드는 메시지를 큐에 넣기만 하고, 문구 생성과 출력은 백그라운드 스레드가 묶음 단위로 처리한다.
+ * 큐가 가득 차면 기다리지 않고 새 메시지를 버린다 (버린 개수는 dropped 카운터로 확인).
+ * 게임 진행을 늦추는 것보다 로그 일부를 잃는 쪽을 택한 정책이다.
+ */
+@Component
+public class AsyncLogSink {
+
+    public enum Target { CONSOLE, FILE, NONE }
+
+    private static final AsyncLogSink DISABLED = new AsyncLogSink();
+
+    private final Target target;
+    private final BlockingQueue<LogEntry> queue;
+    private final int batchSize;
+    private final RollingFile file;
+    private final PrintStream console;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    // 메시지는 출력 직전에 문구로 만든다 (args가 있으면 String.format)
+    private record LogEntry(String prefix, Object message, Object[] args) {
+        String render() {
+            String text = args == null ? String.valueOf(message) : String.format((String) message, args);
+            return prefix + text;
+        }
+    }
+
+    @Autowired
+    public AsyncLogSink(
+        @Value("${loveletter.log.target:CONSOLE}") Target target,
+        @Value("${loveletter.log.queue-capacity:8192}") int queueCapacity,
+        @Value("${loveletter.log.batch-size:256}") int batchSize,
+        @Value("${loveletter.log.file:logs/loveletter-game.log}") String filePath,
+        @Value("${loveletter.log.max-file-bytes:10485760}") long maxFileBytes,
+        @Value("${loveletter.log.max-files:5}") int maxFiles
+    ) {
+        this(target, queueCapacity, batchSize,
+            target == Target.FILE ? new RollingFile(Path.of(filePath), maxFileBytes, maxFiles) : null,
+            System.out);
+    }
+
+    AsyncLogSink(Target target, int queueCapacity, int batchSize, RollingFile file, PrintStream console) {
+        this.target = target;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.file = file;
+        this.console = console;
+        if (target == Target.NONE) {
+            this.writer = null;
+        } else {
+            this.writer = new Thread(this::writeLoop, "game-log-writer");
+            this.writer.setDaemon(true);
+            this.writer.start();
+        }
+    }
+
+    private AsyncLogSink() {
+        this.target = Target.NONE;
+        this.queue = new ArrayBlockingQueue<>(1);
+        this.batchSize = 1;
+        this.file = null;
+        this.console = null;
+        this.writer = null;
+    }
+
+    /**
+     * 아무것도 출력하지 않는 공용 인스턴스 (테스트 등 출력기가 주입되지 않은 경우)
+     */
+    public static AsyncLogSink disabled() {
+        return DISABLED;
+    }
+
+    public static AsyncLogSink console(int queueCapacity, int batchSize, PrintStream out) {
+        return new AsyncLogSink(Target.CONSOLE, queueCapacity, batchSize, null, out);
+    }
+
+    public static AsyncLogSink file(Path path, long maxFileBytes, int maxFiles, int queueCapacity, int batchSize) {
+        return new AsyncLogSink(Target.FILE, queueCapacity, batchSize, new RollingFile(path, maxFileBytes, maxFiles), null);
+    }
+
+    public boolean offer(String prefix, Object message) {
+        return enqueue(new LogEntry(prefix, message, null));
+    }
+
+    public boolean offerFormatted(String prefix, String format, Object... args) {
+        return enqueue(new LogEntry(prefix, format, args));
+    }
+
+    private boolean enqueue(LogEntry entry) {
+        if (writer == null) {
+            return false;
+        }
+        if (queue.offer(entry)) {
+            queued.increment();
+            return true;
+        }
+        dropped.increment();
+        return false;
+    }
+
+    private void writeLoop() {
+        List<LogEntry> batch = new ArrayList<>(batchSize);
+        StringBuilder buffer = new StringBuilder();
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeBatch(batch, buffer);
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (RuntimeException | IOException e) {
+                // 출력 실패로 게임이 멈추면 안 되므로 해당 묶음은 버림
+                dropped.add(batch.size());
+            } finally {
+                batch.clear();
+                buffer.setLength(0);
+            }
+        }
+    }
+
+    private void writeBatch(List<LogEntry> batch, StringBuilder buffer) throws IOException {
+        for (LogEntry entry : batch) {
+            buffer.append(entry.render()).append('\n');
+        }
+        if (target == Target.FILE) {
+            file.write(buffer.toString().getBytes(StandardCharsets.UTF_8));
+        } else {
+            console.print(buffer);
+            console.flush();
+        }
+        written.add(batch.size());
+    }
+
+    /**
+     * 남은 메시지를 모두 출력하고 백그라운드 스레드를 멈춘다.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (file != null) {
+            file.close();
+        }
+    }
+
+    public Target getTarget() {
+        return target;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getQueuedCount() {
+        return queued.sum();
+    }
+
+    public long getWrittenCount() {
+        return written.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    // 크기 제한이 있는 로그 파일. 제한을 넘으면 file.1, file.2 ... 로 밀어내고 새 파일에 쓴다.
+    static final class RollingFile {
+        private final Path path;
+        private final long maxBytes;
+        private final int maxFiles;
+        private OutputStream out;
+        private long size;
+
+        RollingFile(Path path, long maxBytes, int maxFiles) {
+            this.path = path;
+            this.maxBytes = maxBytes;
+            this.maxFiles = Math.max(1, maxFiles);
+        }
+
+        void write(byte[] bytes) throws IOException {
+            if (out == null) {
+                open();
+            }
+            if (size > 0 && size + bytes.length > maxBytes) {
+                roll();
+            }
+            out.write(bytes);
+            out.flush();
+            size += bytes.length;
+        }
+
+        private void open() throws IOException {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            size = Files.size(path);
+        }
+
+        private void roll() throws IOException {
+            out.close();
+            for (int i = maxFiles - 1; i >= 1; i--) {
+                Path older = rolled(i);
+                if (Files.exists(older)) {
+                    Files.move(older, rolled(i + 1), StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            Files.move(path, rolled(1), StandardCopyOption.REPLACE_EXISTING);
+            Files.deleteIfExists(rolled(maxFiles + 1));
+            open();
+        }
+
+        Path rolled(int index) {
+            return path.resolveSibling(path.getFileName() + "." + index);
+        }
+
+        void close() {
+            if (out != null) {
+                try {
+                    out.close();
+                } catch (IOException e) {
+                    // 종료 중이므로 무시
+                }
+            }
+        }
+    }
+}
@@ -3,14 +3,38 @@ package com.simiyami.loveletter.service;
 import com.simiyami.loveletter.enums.CardType;
 import com.simiyami.loveletter.model.Card;
 import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameEvent;
 import com.simiyami.loveletter.model.Player;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 @Service
 public class CardService {
 
+    private static final int MIN_GUESS = 2;
+    private static final int MAX_GUESS = CardType.PRINCESS.getNumber();
+
+    private GameMetrics metrics = GameMetrics.detached();
+
+    @Autowired
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 경비병 추측 숫자는 2-8번만 허용한다(없는 경우는 타겟이 없을 때라 허용). 상태를 바꾸기 전에 호출해야 한다.
+     */
+    public void validateGuess(Card playedCard, Integer guessNumber) {
+        if (playedCard.getType() == CardType.GUARD && guessNumber != null
+                && (guessNumber < MIN_GUESS || guessNumber > MAX_GUESS)) {
+            throw new IllegalArgumentException("경비병은 2-8번만 추측할 수 있습니다: " + guessNumber);
+        }
+    }
+
     public void executeCardEffect(Game game, Player player, Card playedCard, Player target, Integer guessNumber) {
-        game.addLog(String.format("%s가 %s를 사용했습니다.", player.getName(), playedCard.getName()));
+        validateGuess(playedCard, guessNumber);
+        game.log(GameEvent.of(GameEvent.Type.CARD_PLAYED, player, playedCard));
+        metrics.countCardEffect(playedCard.getType());
 
         switch (playedCard.getType()) {
             case GUARD -> executeGuard(game, player, target, guessNumber);
@@ -30,16 +54,10 @@ public class CardService {
             return;
         }
 
-        if (guessNumber == 1) {
-            game.addLog("경비병: 경비병(1번)은 추측할 수 없습니다.");
-            return;
-        }
-
-        game.addLog(String.format("%s가 %s의 카드를 %d번으로 추측했습니다.",
-            player.getName(), target.getName(), guessNumber));
+        game.log(GameEvent.guardGuessed(player, target, guessNumber));
 
         if (target.getHandCard() != null && target.getHandCard().getNumber() == guessNumber) {
-            game.addLog(String.format("정답! %s가 탈락했습니다!", target.getName()));
+            game.log(GameEvent.of(GameEvent.Type.GUARD_HIT, player, target));
             String reason = String.format("%s가 경비병으로 %s 지목해서 탈락",
                 player.getName(), target.getHandCard().getName());
             target.eliminate(reason);
@@ -47,6 +65,7 @@ public class CardService {
             game.setLastEliminationReason(reason);
         } else {
             game.addLog("틀렸습니다!");
+            game.getHandBeliefs().onGuardMissed(game.getSeat(target), guessNumber);
         }
     }
 
@@ -58,11 +77,11 @@ public class CardService {
 
         Card targetCard = target.getHandCard();
         if (targetCard != null) {
-            game.addLog(String.format("%s가 %s의 카드를 확인했습니다: %s",
-                player.getName(), target.getName(), targetCard.toString()));
+            game.log(GameEvent.of(GameEvent.Type.PRIEST_PEEKED, player, target, targetCard));
 
             // CPU 메모리: 상대방의 카드 기억
             player.rememberOpponentCard(target.getId(), targetCard.getType());
+            game.getHandBeliefs().onHandRevealed(game.getSeat(player), game.getSeat(target), targetCard.getNumber());
         }
     }
 
@@ -80,36 +99,36 @@ public class CardService {
             return;
         }
 
-        game.addLog(String.format("%s(%d) vs %s(%d)",
-            player.getName(), playerCard.getNumber(),
-            target.getName(), targetCard.getNumber()));
+        game.log(GameEvent.baronCompared(player, playerCard.getNumber(), target, targetCard.getNumber()));
 
         if (playerCard.getNumber() > targetCard.getNumber()) {
-            game.addLog(String.format("%s가 승리! %s가 탈락했습니다.",
-                player.getName(), target.getName()));
+            game.log(GameEvent.of(GameEvent.Type.BARON_WON, player, target));
             String reason = String.format("%s와 기사 대결에서 패배 (%s %d < %s %d)",
                 player.getName(), targetCard.getName(), targetCard.getNumber(),
                 playerCard.getName(), playerCard.getNumber());
             target.eliminate(reason);
             game.setLastEliminatedPlayer(target);
             game.setLastEliminationReason(reason);
+            game.getHandBeliefs().onBaronWon(game.getSeat(player), targetCard.getNumber());
         } else if (playerCard.getNumber() < targetCard.getNumber()) {
-            game.addLog(String.format("%s가 승리! %s가 탈락했습니다.",
-                target.getName(), player.getName()));
+            game.log(GameEvent.of(GameEvent.Type.BARON_WON, target, player));
             String reason = String.format("%s와 기사 대결에서 패배 (%s %d < %s %d)",
                 target.getName(), playerCard.getName(), playerCard.getNumber(),
                 targetCard.getName(), targetCard.getNumber());
             player.eliminate(reason);
             game.setLastEliminatedPlayer(player);
             game.setLastEliminationReason(reason);
+            game.getHandBeliefs().onBaronWon(game.getSeat(target), playerCard.getNumber());
         } else {
             game.addLog("무승부! 둘 다 무사합니다.");
+            game.getHandBeliefs().onBaronTie(game.getSeat(player), game.getSeat(target),
+                playerCard.getNumber(), game.getCardCounter());
         }
     }
 
     private void executeHandmaid(Game game, Player player) {
         player.setProtected(true);
-        game.addLog(String.format("%s가 다음 턴까지 보호 상태입니다.", player.getName()));
+        game.log(GameEvent.of(GameEvent.Type.PROTECTED, player));
     }
 
     private void executePrince(Game game, Player player, Player target) {
@@ -124,14 +143,13 @@ public class CardService {
             return;
         }
 
-        game.addLog(String.format("%s가 %s의 카드를 버리게 했습니다: %s",
-            player.getName(), target.getName(), targetCard.toString()));
+        game.log(GameEvent.of(GameEvent.Type.PRINCE_DISCARDED, player, target, targetCard));
 
         game.addToDiscardPile(targetCard);
         target.addDiscardedCard(targetCard);
 
         if (targetCard.getType() == CardType.PRINCESS) {
-            game.addLog(String.format("%s가 공주를 버려서 탈락했습니다!", target.getName()));
+            game.log(GameEvent.of(GameEvent.Type.PRINCESS_DISCARDED, player, target));
             String reason = String.format("%s의 마법사로 공주를 버려서 탈락", player.getName());
             target.eliminate(reason);
             target.setHandCard(null);
@@ -143,17 +161,18 @@ public class CardService {
         Card newCard = game.drawCard();
         if (newCard != null) {
             target.setHandCard(newCard);
-            game.addLog(String.format("%s가 새 카드를 뽑았습니다.", target.getName()));
+            game.log(GameEvent.of(GameEvent.Type.NEW_CARD_DRAWN, target));
         } else {
             if (game.getSecretCard() != null) {
                 target.setHandCard(game.getSecretCard());
-                game.addLog(String.format("%s가 비밀 카드를 받았습니다.", target.getName()));
+                game.log(GameEvent.of(GameEvent.Type.SECRET_CARD_TAKEN, target));
                 game.setSecretCard(null);
             } else {
                 game.addLog("덱에 카드가 없습니다!");
                 target.setHandCard(null);
             }
         }
+        game.getHandBeliefs().onHandReplaced(game.getSeat(target));
     }
 
     private void executeKing(Game game, Player player, Player target) {
@@ -176,17 +195,18 @@ public class CardService {
 
         player.setHandCard(targetCard);
         target.setHandCard(playerCard);
+        game.getHandBeliefs().onCardsSwapped(game.getSeat(player), game.getSeat(target),
+            playerCard.getNumber(), targetCard.getNumber());
 
-        game.addLog(String.format("%s와 %s가 카드를 교환했습니다.",
-            player.getName(), target.getName()));
+        game.log(GameEvent.of(GameEvent.Type.CARDS_SWAPPED, player, target));
     }
 
     private void executeCountess(Game game, Player player) {
-        game.addLog(String.format("%s가 후작을 내려놓았습니다.", player.getName()));
+        game.log(GameEvent.of(GameEvent.Type.COUNTESS_PLAYED, player));
     }
 
     private void executePrincess(Game game, Player player) {
-        game.addLog(String.format("%s가 공주를 버려서 즉시 탈락했습니다!", player.getName()));
+        game.log(GameEvent.of(GameEvent.Type.PRINCESS_PLAYED, player));
         String reason = "공주를 직접 버려서 탈락";
         player.eliminate(reason);
         game.setLastEliminatedPlayer(player);
@@ -0,0 +1,97 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.CompactGame;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * CompactGame 위에서 CPU 행동을 정하는 단순 정책 (시뮬레이션 COMPACT 엔진용).
+ *
+ * AIService처럼 상대 손패 분포를 추정하지 않고, 규칙과 확실히 아는 카드(광대/장군으로 본 카드)만 쓴다.
+ * 결정 결과는 필드에 담아 재사용하므로 한 번 만들어 두면 판단할 때 객체를 만들지 않는다.
+ */
+public final class CompactPolicy {
+
+    private int card = CompactGame.NONE;
+    private int target = CompactGame.NONE;
+    private int guess;
+
+    /**
+     * player가 카드를 뽑은 상태에서 낼 카드, 대상, 추측 숫자를 정한다.
+     */
+    public void decide(CompactGame game, int player, RandomGenerator random) {
+        int hand = game.getHandCard(player);
+        int drawn = game.getDrawnCard(player);
+        card = chooseCard(hand, drawn);
+        int kept = card == hand ? drawn : hand;
+
+        CardType type = CompactGame.cardType(card);
+        target = type.requiresTarget() ? chooseTarget(game, player, type, kept, random) : CompactGame.NONE;
+        guess = type == CardType.GUARD && target != CompactGame.NONE ? chooseGuess(game, player, target, random) : 0;
+    }
+
+    public int getCard() { return card; }
+    public int getTarget() { return target; }
+    public int getGuess() { return guess; }
+
+    private static int chooseCard(int hand, int drawn) {
+        if (hand == CompactGame.NONE) {
+            return drawn;
+        }
+        CardType handType = CompactGame.cardType(hand);
+        CardType drawnType = CompactGame.cardType(drawn);
+
+        // 백작부인 강제 규칙
+        if (handType == CardType.COUNTESS && (drawnType == CardType.KING || drawnType == CardType.PRINCE)) {
+            return hand;
+        }
+        if (drawnType == CardType.COUNTESS && (handType == CardType.KING || handType == CardType.PRINCE)) {
+            return drawn;
+        }
+        // 공주는 스스로 버리지 않음
+        if (handType == CardType.PRINCESS) {
+            return drawn;
+        }
+        if (drawnType == CardType.PRINCESS) {
+            return hand;
+        }
+        return CompactGame.cardNumber(drawn) < CompactGame.cardNumber(hand) ? drawn : hand;
+    }
+
+    private static int chooseTarget(CompactGame game, int player, CardType type, int kept, RandomGenerator random) {
+        int keptNumber = kept == CompactGame.NONE ? 0 : CompactGame.cardNumber(kept);
+        int chosen = CompactGame.NONE;
+        int candidates = 0;
+
+        for (int t = 0; t < game.getPlayerCount(); t++) {
+            if (!game.isTargetable(player, t)) {
+                continue;
+            }
+            int known = game.getKnownCardNumber(player, t);
+            boolean sure = switch (type) {
+                case GUARD -> known >= 2;
+                case BARON -> known > 0 && known < keptNumber;
+                case PRINCE -> known == CardType.PRINCESS.getNumber();
+                default -> false;
+            };
+            if (sure) {
+                return t;
+            }
+            // 확실한 대상이 없으면 대상 후보 중 하나를 균등하게 고름 (저수지 샘플링)
+            candidates++;
+            if (random.nextInt(candidates) == 0) {
+                chosen = t;
+            }
+        }
+        if (chosen == CompactGame.NONE && type.canTargetSelf()) {
+            return player;
+        }
+        return chosen;
+    }
+
+    private static int chooseGuess(CompactGame game, int player, int target, RandomGenerator random) {
+        int known = game.getKnownCardNumber(player, target);
+        return known >= 2 ? known : 2 + random.nextInt(7);
+    }
+}
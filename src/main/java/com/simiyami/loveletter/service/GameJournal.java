@@ -0,0 +1,465 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameCodec;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 서버를 다시 시작해도 진행 중인 게임을 이어갈 수 있도록 게임 상태를 남기는 추가 전용 저널.
+ *
+ * 명령은 함수(Function&lt;Game, T&gt;)라 그대로 기록할 수 없으므로, 명령이 끝난 뒤의 게임 상태(GameCodec)를 기록한다.
+ * 게임마다 마지막 기록만 의미가 있어서 밀려 버려진 기록은 다음 기록이 대신한다.
+ *
+ * 명령 스레드는 상태를 인코딩해 큐에 넣기만 하고, 전용 스레드가 묶음으로 메모리 매핑된 세그먼트 파일에 쓴 뒤
+ * 묶음마다 한 번 force(fsync)한다. 주기적으로 게임별 마지막 상태만 담은 스냅샷을 쓰고 이전 세그먼트를 지워
+ * 복구 시간이 저널 길이만큼 늘어나지 않게 한다.
+ * 시작할 때 마지막 스냅샷과 그 이후 세그먼트를 읽어, 유휴 제거 시간이 지나지 않은 게임을 모두 복구한다.
+ *
+ * 기록은 최선 노력(best-effort)이다. 명령은 fsync를 기다리지 않고 끝나므로 아직 쓰이지 않은 묶음은 서버가 멈추면 잃고,
+ * 큐가 가득 차면 기록을 버린다(getDroppedCount). 게임마다 마지막 상태만 복구하므로 이어지는 기록이 빈자리를 메운다.
+ *
+ * 세그먼트 기록 형식: [길이 int][CRC32 int][기록 시각 long][게임 ID][GameCodec 상태]. 길이 0은 기록의 끝이며,
+ * CRC가 맞지 않는 기록(쓰다가 중단된 기록)을 만나면 그 세그먼트는 거기까지만 읽는다.
+ */
+@Service
+public class GameJournal {
+
+    private static final int SNAPSHOT_MAGIC = 0x4C4C534E;  // "LLSN"
+    private static final int RECORD_HEADER = 8;             // 길이 + CRC
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final GameService gameService;
+    private final long segmentBytes;
+    private final int batchSize;
+    private final long snapshotIntervalNanos;
+    private final BlockingQueue<Record> queue;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    // 아래는 쓰기 스레드만 사용 (시작 전에는 복구 코드가 사용)
+    private final Map<String, byte[]> latest = new HashMap<>();  // 게임 ID -> 마지막 기록 본문
+    private long segmentSeq;
+    private FileChannel segmentChannel;
+    private MappedByteBuffer segment;
+    private boolean dirty;
+    private long lastSnapshotNanos = System.nanoTime();
+
+    private final LongAdder records = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final LongAdder syncs = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder snapshots = new LongAdder();
+    private volatile int recoveredGames;
+    private volatile long replayedRecords;
+    private volatile long recoveryNanos;
+
+    private record Record(String gameId, long timestamp, byte[] state) {
+    }
+
+    @Autowired
+    public GameJournal(
+        @Value("${loveletter.journal.enabled:false}") boolean enabled,
+        @Value("${loveletter.journal.dir:data/journal}") String directory,
+        @Value("${loveletter.journal.segment-bytes:67108864}") long segmentBytes,
+        @Value("${loveletter.journal.queue-capacity:65536}") int queueCapacity,
+        @Value("${loveletter.journal.batch-size:512}") int batchSize,
+        @Value("${loveletter.journal.snapshot-interval-ms:60000}") long snapshotIntervalMillis,
+        GameService gameService
+    ) {
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+        this.gameService = gameService;
+        this.segmentBytes = segmentBytes;
+        this.batchSize = batchSize;
+        this.snapshotIntervalNanos = TimeUnit.MILLISECONDS.toNanos(snapshotIntervalMillis);
+        this.queue = new ArrayBlockingQueue<>(enabled ? queueCapacity : 1);
+
+        if (!enabled) {
+            this.writer = null;
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.directory);
+            recover();
+            openSegment(segmentSeq);
+        } catch (IOException e) {
+            throw new UncheckedIOException("게임 저널을 열 수 없습니다: " + directory, e);
+        }
+
+        this.writer = new Thread(this::writeLoop, "game-journal-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+        gameService.addSnapshotListener(this::append);
+    }
+
+    /**
+     * directory의 저널로 gameService의 게임을 복구하고, 이후 명령을 기록하기 시작한다.
+     */
+    public static GameJournal open(Path directory, GameService gameService, long segmentBytes, int batchSize,
+                                   long snapshotIntervalMillis) {
+        return new GameJournal(true, directory.toString(), segmentBytes, 65536, batchSize, snapshotIntervalMillis,
+            gameService);
+    }
+
+    // ===== 기록 =====
+
+    // 명령 스레드에서 호출: 인코딩만 하고 쓰기는 쓰기 스레드에 맡긴다 (디스크 반영을 기다리지 않음)
+    private void append(Game game) {
+        Record record = new Record(game.getId(), System.currentTimeMillis(), GameCodec.encode(game));
+        if (!queue.offer(record)) {
+            dropped.increment();
+        }
+    }
+
+    private void writeLoop() {
+        List<Record> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Record first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    writeBatch(batch);
+                    batch.clear();
+                }
+                if (dirty && System.nanoTime() - lastSnapshotNanos >= snapshotIntervalNanos) {
+                    snapshot();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (IOException | RuntimeException e) {
+                // 디스크 오류로 게임 진행을 멈추지 않는다. 이번 묶음은 잃고 다음 기록부터 다시 시도
+                dropped.add(batch.size());
+                batch.clear();
+            }
+        }
+
+        try {
+            if (dirty) {
+                snapshot();
+            }
+            segment.force();
+            segmentChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeBatch(List<Record> batch) throws IOException {
+        for (Record record : batch) {
+            byte[] payload = payload(record);
+            if (RECORD_HEADER + payload.length + 4 > segmentBytes) {
+                dropped.increment();  // 세그먼트보다 큰 기록은 쓸 수 없음
+                continue;
+            }
+            if (segment.remaining() < RECORD_HEADER + payload.length + 4) {
+                rollSegment();
+            }
+            segment.putInt(payload.length).putInt(crc(payload)).put(payload);
+            latest.put(record.gameId(), payload);
+            bytes.add(RECORD_HEADER + payload.length);
+        }
+        // 묶음마다 한 번만 디스크에 반영 (그룹 커밋)
+        segment.force();
+        syncs.increment();
+        records.add(batch.size());
+        dirty = true;
+    }
+
+    private static byte[] payload(Record record) {
+        byte[] id = record.gameId().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(8 + 2 + id.length + record.state().length);
+        buffer.putLong(record.timestamp()).putShort((short) id.length).put(id).put(record.state());
+        return buffer.array();
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    private void openSegment(long seq) throws IOException {
+        segmentSeq = seq;
+        segmentChannel = FileChannel.open(segmentPath(seq),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segment = segmentChannel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes);
+    }
+
+    private void rollSegment() throws IOException {
+        segment.force();
+        segmentChannel.close();
+        openSegment(segmentSeq + 1);
+    }
+
+    /**
+     * 새 세그먼트로 넘어간 뒤, 그 이전까지의 게임별 마지막 상태를 스냅샷으로 쓰고 이전 파일을 지운다.
+     */
+    private void snapshot() throws IOException {
+        rollSegment();
+        dropExpired(latest, System.currentTimeMillis());
+
+        int size = 8;
+        for (byte[] payload : latest.values()) {
+            size += RECORD_HEADER + payload.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(SNAPSHOT_MAGIC).putInt(latest.size());
+        for (byte[] payload : latest.values()) {
+            buffer.putInt(payload.length).putInt(crc(payload)).put(payload);
+        }
+        buffer.flip();
+
+        Path target = snapshotPath(segmentSeq);
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        // 스냅샷에 포함된 세그먼트와 이전 스냅샷 정리
+        for (long seq : listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX).keySet()) {
+            if (seq < segmentSeq) {
+                Files.deleteIfExists(segmentPath(seq));
+            }
+        }
+        for (long seq : listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX).keySet()) {
+            if (seq < segmentSeq) {
+                Files.deleteIfExists(snapshotPath(seq));
+            }
+        }
+
+        snapshots.increment();
+        dirty = false;
+        lastSnapshotNanos = System.nanoTime();
+    }
+
+    // 유휴 제거 시간이 지난 게임은 레지스트리에서도 지워졌을 것이므로 복구하지 않는다
+    private void dropExpired(Map<String, byte[]> entries, long now) {
+        long idleTimeout = gameService.getRegistry().getIdleTimeoutMillis();
+        Iterator<byte[]> iterator = entries.values().iterator();
+        while (iterator.hasNext()) {
+            if (now - ByteBuffer.wrap(iterator.next()).getLong() >= idleTimeout) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // ===== 복구 =====
+
+    private void recover() throws IOException {
+        long start = System.nanoTime();
+        long replayed = 0;
+
+        TreeMap<Long, Path> snapshotFiles = listFiles(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        long fromSeq = 0;
+        for (Map.Entry<Long, Path> entry : snapshotFiles.descendingMap().entrySet()) {
+            if (readSnapshot(entry.getValue())) {
+                fromSeq = entry.getKey();
+                break;
+            }
+            latest.clear();  // 손상된 스냅샷은 건너뛰고 이전 스냅샷 사용
+        }
+
+        TreeMap<Long, Path> segments = listFiles(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (Map.Entry<Long, Path> entry : segments.tailMap(fromSeq).entrySet()) {
+            replayed += readSegment(entry.getValue());
+        }
+
+        long lastSeq = Math.max(fromSeq - 1, segments.isEmpty() ? -1 : segments.lastKey());
+        segmentSeq = lastSeq + 1;  // 중간에 끊긴 세그먼트에 이어 쓰지 않고 새 세그먼트에서 시작
+
+        dropExpired(latest, System.currentTimeMillis());
+        int restored = 0;
+        for (byte[] payload : latest.values()) {
+            ByteBuffer buffer = ByteBuffer.wrap(payload);
+            buffer.position(8);
+            buffer.position(buffer.position() + 2 + buffer.getShort());
+            try {
+                gameService.restoreGame(GameCodec.decode(buffer, gameService.getLogRetention()));
+                restored++;
+            } catch (RuntimeException e) {
+                // 읽을 수 없는 게임 하나 때문에 나머지 복구를 멈추지 않음
+            }
+        }
+        dirty = !latest.isEmpty();
+
+        this.recoveredGames = restored;
+        this.replayedRecords = replayed;
+        this.recoveryNanos = System.nanoTime() - start;
+        if (restored > 0 || replayed > 0) {
+            gameService.getLogSink().offerFormatted("[게임 저널] ", "게임 %d개 복구 (스냅샷 이후 기록 %d개, %.1fms)",
+                restored, replayed, recoveryNanos / 1_000_000.0);
+        }
+    }
+
+    private boolean readSnapshot(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < 8 || buffer.getInt() != SNAPSHOT_MAGIC) {
+            return false;
+        }
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] payload = readRecord(buffer);
+            if (payload == null) {
+                return false;
+            }
+            latest.put(gameIdOf(payload), payload);
+        }
+        return true;
+    }
+
+    private long readSegment(Path path) throws IOException {
+        long count = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            byte[] payload;
+            while ((payload = readRecord(buffer)) != null) {
+                latest.put(gameIdOf(payload), payload);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 다음 기록의 본문. 끝이거나 잘린/손상된 기록이면 null
+    private static byte[] readRecord(ByteBuffer buffer) {
+        if (buffer.remaining() < RECORD_HEADER) {
+            return null;
+        }
+        int length = buffer.getInt();
+        int crc = buffer.getInt();
+        if (length <= 0 || length > buffer.remaining()) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.get(payload);
+        return crc(payload) == crc ? payload : null;
+    }
+
+    private static String gameIdOf(byte[] payload) {
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        buffer.position(8);
+        int length = buffer.getShort();
+        return new String(payload, buffer.position(), length, StandardCharsets.UTF_8);
+    }
+
+    private TreeMap<Long, Path> listFiles(String prefix, String suffix) throws IOException {
+        TreeMap<Long, Path> files = new TreeMap<>();
+        try (Stream<Path> list = Files.list(directory)) {
+            list.forEach(path -> {
+                String name = path.getFileName().toString();
+                if (name.startsWith(prefix) && name.endsWith(suffix)) {
+                    try {
+                        files.put(Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length())), path);
+                    } catch (NumberFormatException e) {
+                        // 저널 파일이 아님
+                    }
+                }
+            });
+        }
+        return files;
+    }
+
+    private Path segmentPath(long seq) {
+        return directory.resolve(String.format("%s%016d%s", SEGMENT_PREFIX, seq, SEGMENT_SUFFIX));
+    }
+
+    private Path snapshotPath(long seq) {
+        return directory.resolve(String.format("%s%016d%s", SNAPSHOT_PREFIX, seq, SNAPSHOT_SUFFIX));
+    }
+
+    // ===== 종료와 통계 =====
+
+    /**
+     * 남은 기록을 모두 쓰고 마지막 스냅샷을 남긴 뒤 종료한다.
+     */
+    @PreDestroy
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getRecordCount() {
+        return records.sum();
+    }
+
+    public long getByteCount() {
+        return bytes.sum();
+    }
+
+    /**
+     * force(fsync) 횟수. 기록 수를 이 값으로 나누면 묶음당 평균 기록 수.
+     */
+    public long getSyncCount() {
+        return syncs.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getSnapshotCount() {
+        return snapshots.sum();
+    }
+
+    public int getRecoveredGameCount() {
+        return recoveredGames;
+    }
+
+    public long getReplayedRecordCount() {
+        return replayedRecords;
+    }
+
+    public long getRecoveryNanos() {
+        return recoveryNanos;
+    }
+}
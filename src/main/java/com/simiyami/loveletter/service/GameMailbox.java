@@ -0,0 +1,79 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.model.Game;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 게임 한 개의 명령 큐.
+ * 같은 게임의 명령은 한 번에 하나씩 순서대로 실행되고, 다른 게임의 큐는 각자의 가상 스레드에서 병렬로 처리된다.
+ */
+public class GameMailbox {
+
+    // 한 번 깨어났을 때 처리할 최대 명령 수 (다른 게임에게 캐리어 스레드를 양보하기 위함)
+    private static final int MAX_BATCH = 64;
+
+    private final Game game;
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private volatile Thread owner;
+    volatile long lastAccess;
+
+    public GameMailbox(Game game) {
+        this.game = game;
+        this.lastAccess = System.currentTimeMillis();
+    }
+
+    // 명령 밖에서 게임을 직접 바꾸지 못하도록 서비스 패키지 안에서만 쓴다
+    Game getGame() {
+        return game;
+    }
+
+    public <T> CompletableFuture<T> submit(Function<Game, T> command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        queue.add(() -> {
+            try {
+                result.complete(command.apply(game));
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            }
+        });
+        schedule();
+        return result;
+    }
+
+    /**
+     * 현재 스레드가 이 게임의 명령을 실행 중인지 여부 (명령 안에서 다시 명령을 보낼 때 교착을 막기 위함)
+     */
+    public boolean isExecutingThread() {
+        return owner == Thread.currentThread();
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            Thread.startVirtualThread(this::drain);
+        }
+    }
+
+    private void drain() {
+        owner = Thread.currentThread();
+        try {
+            Runnable command;
+            int processed = 0;
+            while (processed < MAX_BATCH && (command = queue.poll()) != null) {
+                command.run();
+                processed++;
+            }
+        } finally {
+            owner = null;
+            scheduled.set(false);
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.enums.CardType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 지연 시간, CPU 결정 시간, 카드 효과 횟수, 게임 수를 모아 Prometheus 텍스트 형식으로 내보낸다.
+ *
+ * 기록은 LongAdder만 더하므로 잠금이 없고 요청마다 기록해도 된다. 히스토그램은 구간별 개수를 따로 세고,
+ * 내보낼 때 누적으로 바꾼다 (읽는 동안 기록이 계속되므로 구간 사이에 약간의 차이는 있을 수 있다).
+ */
+@Service
+public class GameMetrics {
+
+    // 구간 상한 (나노초). 요청은 0.1ms-10s, CPU 결정은 1us-10ms
+    private static final long[] REQUEST_BOUNDS = {
+        100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000, 25_000_000,
+        50_000_000, 100_000_000, 250_000_000, 500_000_000, 1_000_000_000, 2_500_000_000L, 5_000_000_000L,
+        10_000_000_000L
+    };
+    private static final long[] DECISION_BOUNDS = {
+        1_000, 2_500, 5_000, 10_000, 25_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000,
+        5_000_000, 10_000_000
+    };
+
+    /**
+     * 잠금 없는 고정 구간 히스토그램.
+     */
+    public static final class Histogram {
+        private final long[] bounds;
+        private final LongAdder[] buckets;  // 마지막 칸은 +Inf
+        private final LongAdder sumNanos = new LongAdder();
+
+        Histogram(long[] bounds) {
+            this.bounds = bounds;
+            this.buckets = new LongAdder[bounds.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos) {
+            int bucket = 0;
+            while (bucket < bounds.length && nanos > bounds[bucket]) {
+                bucket++;
+            }
+            buckets[bucket].increment();
+            sumNanos.add(nanos);
+        }
+
+        public long getCount() {
+            long count = 0;
+            for (LongAdder bucket : buckets) {
+                count += bucket.sum();
+            }
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos.sum();
+        }
+
+        private void writeTo(StringBuilder out, String name, String labels) {
+            String prefix = labels.isEmpty() ? "" : labels + ",";
+            long cumulative = 0;
+            for (int i = 0; i < bounds.length; i++) {
+                cumulative += buckets[i].sum();
+                out.append(name).append("_bucket{").append(prefix).append("le=\"")
+                    .append(seconds(bounds[i])).append("\"} ").append(cumulative).append('\n');
+            }
+            cumulative += buckets[bounds.length].sum();
+            out.append(name).append("_bucket{").append(prefix).append("le=\"+Inf\"} ").append(cumulative).append('\n');
+            out.append(name).append("_sum{").append(labels).append("} ").append(seconds(sumNanos.sum())).append('\n');
+            out.append(name).append("_count{").append(labels).append("} ").append(cumulative).append('\n');
+        }
+    }
+
+    private record RequestKey(String method, String route, String status) {
+    }
+
+    private final GameRegistry registry;
+    private final Map<RequestKey, Histogram> requests = new ConcurrentHashMap<>();
+    private final Histogram[] decisions = new Histogram[CardType.values().length];
+    private final LongAdder[] cardEffects = new LongAdder[CardType.values().length];
+    private final LongAdder gamesCreated = new LongAdder();
+    private final LongAdder gamesRestored = new LongAdder();
+    private final LongAdder roundsFinished = new LongAdder();
+
+    @Autowired
+    public GameMetrics(GameRegistry registry) {
+        this.registry = registry;
+        for (int i = 0; i < decisions.length; i++) {
+            decisions[i] = new Histogram(DECISION_BOUNDS);
+            cardEffects[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 게임 수 없이 기록만 하는 인스턴스 (서비스를 직접 만들 때 기본값).
+     */
+    public static GameMetrics detached() {
+        return new GameMetrics(null);
+    }
+
+    // ===== 기록 =====
+
+    /**
+     * route는 요청 경로가 아닌 매핑 패턴(/game/{gameId}/turn)이어야 한다. 그래야 라벨 수가 늘어나지 않는다.
+     */
+    public void recordRequest(String method, String route, int status, long nanos) {
+        RequestKey key = new RequestKey(method, route != null ? route : "unmatched", (status / 100) + "xx");
+        requests.computeIfAbsent(key, k -> new Histogram(REQUEST_BOUNDS)).record(nanos);
+    }
+
+    public void recordDecision(CardType chosen, long nanos) {
+        decisions[chosen.ordinal()].record(nanos);
+    }
+
+    public void countCardEffect(CardType type) {
+        cardEffects[type.ordinal()].increment();
+    }
+
+    public void countGameCreated() {
+        gamesCreated.increment();
+    }
+
+    public void countGameRestored() {
+        gamesRestored.increment();
+    }
+
+    public void countRoundFinished() {
+        roundsFinished.increment();
+    }
+
+    public Histogram getDecisionHistogram(CardType chosen) {
+        return decisions[chosen.ordinal()];
+    }
+
+    public long getCardEffectCount(CardType type) {
+        return cardEffects[type.ordinal()].sum();
+    }
+
+    public long getRoundsFinished() {
+        return roundsFinished.sum();
+    }
+
+    // ===== 내보내기 =====
+
+    /**
+     * Prometheus 텍스트 형식(0.0.4).
+     */
+    public String scrape() {
+        StringBuilder out = new StringBuilder(8192);
+
+        header(out, "loveletter_http_request_seconds", "histogram", "요청 처리 시간 (매핑 패턴별)");
+        requests.forEach((key, histogram) -> histogram.writeTo(out, "loveletter_http_request_seconds",
+            "method=\"" + escape(key.method()) + "\",route=\"" + escape(key.route()) + "\",status=\"" + key.status() + "\""));
+
+        header(out, "loveletter_ai_decision_seconds", "histogram", "CPU 행동 결정 시간 (고른 카드별)");
+        for (CardType type : CardType.values()) {
+            decisions[type.ordinal()].writeTo(out, "loveletter_ai_decision_seconds", "card=\"" + type.name() + "\"");
+        }
+
+        header(out, "loveletter_card_effects_total", "counter", "카드 효과 실행 횟수");
+        for (CardType type : CardType.values()) {
+            sample(out, "loveletter_card_effects_total{card=\"" + type.name() + "\"}", cardEffects[type.ordinal()].sum());
+        }
+
+        header(out, "loveletter_games_created_total", "counter", "만든 게임 수");
+        sample(out, "loveletter_games_created_total", gamesCreated.sum());
+        header(out, "loveletter_games_restored_total", "counter", "저널에서 복구한 게임 수");
+        sample(out, "loveletter_games_restored_total", gamesRestored.sum());
+        header(out, "loveletter_rounds_finished_total", "counter", "끝난 라운드 수");
+        sample(out, "loveletter_rounds_finished_total", roundsFinished.sum());
+        if (registry != null) {
+            header(out, "loveletter_games_live", "gauge", "저장소에 있는 게임 수");
+            sample(out, "loveletter_games_live", registry.size());
+            header(out, "loveletter_games_evicted_total", "counter", "유휴/용량 초과로 제거된 게임 수");
+            sample(out, "loveletter_games_evicted_total", registry.getEvictionCount());
+        }
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String series, long value) {
+        out.append(series).append(' ').append(value).append('\n');
+    }
+
+    private static String seconds(long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
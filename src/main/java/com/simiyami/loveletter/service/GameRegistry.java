@@ -0,0 +1,164 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.model.Game;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 진행 중인 게임 저장소. 게임마다 명령 큐(GameMailbox)를 함께 보관한다.
+ * 조회는 ConcurrentHashMap.get 한 번으로 락 없이 처리하고,
+ * 최대 게임 수와 유휴 시간을 넘긴 게임은 제거한다.
+ *
+ * 최대 게임 수는 넣기 전에 자리를 CAS로 예약해서 지키므로 동시에 넣어도 넘지 않는다.
+ * 자리가 없으면 전체를 훑지 않고 게임 몇 개만 골라 그중 가장 오래 안 쓴 게임을 내보낸다(근사 LRU).
+ */
+@Component
+public class GameRegistry {
+
+    public static final int DEFAULT_MAX_GAMES = 10000;
+    public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+    // 자리가 없을 때 내보낼 게임을 고르려고 살펴보는 게임 수
+    static final int EVICTION_SAMPLE_SIZE = 16;
+
+    private final Map<String, GameMailbox> games = new ConcurrentHashMap<>();
+    private final AtomicInteger reserved = new AtomicInteger();  // 들어 있거나 넣는 중인 게임 수 (maxGames 이하)
+    private final int maxGames;
+    private final long idleTimeoutMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public GameRegistry(
+        @Value("${loveletter.game.max-games:" + DEFAULT_MAX_GAMES + "}") int maxGames,
+        @Value("${loveletter.game.idle-timeout-ms:" + DEFAULT_IDLE_TIMEOUT_MILLIS + "}") long idleTimeoutMillis
+    ) {
+        if (maxGames < 1) {
+            throw new IllegalArgumentException("최대 게임 수는 1 이상이어야 합니다: " + maxGames);
+        }
+        this.maxGames = maxGames;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+    }
+
+    // 살아 있는 게임 객체는 명령 큐 밖으로 내보내지 않는다. 밖에서는 getMailbox로 명령을 보낸다
+    Game get(String gameId) {
+        GameMailbox mailbox = getMailbox(gameId);
+        return mailbox != null ? mailbox.getGame() : null;
+    }
+
+    public GameMailbox getMailbox(String gameId) {
+        GameMailbox mailbox = games.get(gameId);
+        if (mailbox == null) {
+            misses.increment();
+            return null;
+        }
+        mailbox.lastAccess = System.currentTimeMillis();
+        hits.increment();
+        return mailbox;
+    }
+
+    /**
+     * 게임이 남아 있는지 확인한다. get과 달리 마지막 사용 시각과 조회 통계를 바꾸지 않는다.
+     */
+    public boolean contains(String gameId) {
+        return games.containsKey(gameId);
+    }
+
+    public GameMailbox put(Game game) {
+        reserveSlot();
+        GameMailbox mailbox = new GameMailbox(game);
+        if (games.put(game.getId(), mailbox) != null) {
+            reserved.decrementAndGet();  // 같은 ID를 덮어썼으면 예약한 자리는 쓰지 않음
+        }
+        return mailbox;
+    }
+
+    // 자리 하나를 예약한다. 꽉 차 있으면 하나를 내보내고 다시 시도한다 (유휴 게임 정리는 주기 작업이 맡음)
+    private void reserveSlot() {
+        while (true) {
+            int count = reserved.get();
+            if (count < maxGames) {
+                if (reserved.compareAndSet(count, count + 1)) {
+                    return;
+                }
+            } else if (!evictSampledLeastRecentlyUsed()) {
+                Thread.onSpinWait();  // 자리를 예약한 게임이 아직 들어가지 않았음
+            }
+        }
+    }
+
+    public boolean remove(String gameId) {
+        if (games.remove(gameId) == null) {
+            return false;
+        }
+        reserved.decrementAndGet();
+        return true;
+    }
+
+    private boolean remove(Map.Entry<String, GameMailbox> entry) {
+        if (games.remove(entry.getKey(), entry.getValue())) {
+            reserved.decrementAndGet();
+            evictions.increment();
+            return true;
+        }
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${loveletter.game.eviction-interval-ms:60000}")
+    public int evictIdle() {
+        return evictIdle(System.currentTimeMillis());
+    }
+
+    private int evictIdle(long now) {
+        int removed = 0;
+        for (Map.Entry<String, GameMailbox> e : games.entrySet()) {
+            if (now - e.getValue().lastAccess >= idleTimeoutMillis && remove(e)) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    private boolean evictSampledLeastRecentlyUsed() {
+        Map.Entry<String, GameMailbox> oldest = null;
+        Iterator<Map.Entry<String, GameMailbox>> iterator = games.entrySet().iterator();
+        for (int i = 0; i < EVICTION_SAMPLE_SIZE && iterator.hasNext(); i++) {
+            Map.Entry<String, GameMailbox> e = iterator.next();
+            if (oldest == null || e.getValue().lastAccess < oldest.getValue().lastAccess) {
+                oldest = e;
+            }
+        }
+        return oldest != null && remove(oldest);
+    }
+
+    public int size() {
+        return games.size();
+    }
+
+    public int getMaxGames() {
+        return maxGames;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+}
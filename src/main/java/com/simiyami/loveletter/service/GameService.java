@@ -1,25 +1,93 @@
 package com.simiyami.loveletter.service;
 
+import com.simiyami.loveletter.dto.CPUAction;
 import com.simiyami.loveletter.enums.CardType;
 import com.simiyami.loveletter.enums.PlayerType;
 import com.simiyami.loveletter.model.Card;
 import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameEvent;
+import com.simiyami.loveletter.model.GameLog;
+import com.simiyami.loveletter.model.GameSnapshot;
 import com.simiyami.loveletter.model.Player;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 @Service
 public class GameService {
 
     private final CardService cardService;
-    private final Map<String, Game> games = new HashMap<>();
+    private final GameRegistry games;
+    private int logRetention = GameLog.DEFAULT_RETENTION;
+    private AsyncLogSink logSink = AsyncLogSink.disabled();
+    private GameMetrics metrics = GameMetrics.detached();
+    private final List<Consumer<Game>> snapshotListeners = new CopyOnWriteArrayList<>();
 
     public GameService(CardService cardService) {
+        this(cardService, new GameRegistry(GameRegistry.DEFAULT_MAX_GAMES, GameRegistry.DEFAULT_IDLE_TIMEOUT_MILLIS));
+    }
+
+    @Autowired
+    public GameService(CardService cardService, GameRegistry games) {
         this.cardService = cardService;
+        this.games = games;
+    }
+
+    @Value("${loveletter.game.log-retention:" + GameLog.DEFAULT_RETENTION + "}")
+    public void setLogRetention(int logRetention) {
+        this.logRetention = logRetention;
+    }
+
+    public int getLogRetention() {
+        return logRetention;
+    }
+
+    @Autowired
+    public void setLogSink(AsyncLogSink logSink) {
+        this.logSink = logSink;
+    }
+
+    // 생성자에서 복구하는 저널은 주입을 기다리지 않고 게임 서비스의 로그 출력을 같이 쓴다
+    AsyncLogSink getLogSink() {
+        return logSink;
+    }
+
+    @Autowired
+    public void setMetrics(GameMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * 게임이 만들어지거나 명령이 끝나 새 스냅샷이 게시될 때마다 호출된다.
+     * 게임 명령 스레드에서 호출되므로 게임 상태를 읽어도 되지만, 오래 걸리는 일은 다른 스레드로 넘겨야 한다.
+     */
+    public void addSnapshotListener(Consumer<Game> listener) {
+        snapshotListeners.add(listener);
+    }
+
+    private GameSnapshot publish(Game game) {
+        GameSnapshot snapshot = game.publishSnapshot();
+        for (Consumer<Game> listener : snapshotListeners) {
+            listener.accept(game);
+        }
+        return snapshot;
     }
 
     public Game createGame(int cpuCount) {
+        return createGame(cpuCount, ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * 시드를 지정해 게임을 만든다. 같은 시드로 만든 게임에 같은 행동을 순서대로 적용하면 같은 게임이 재현된다.
+     */
+    public Game createGame(int cpuCount, long seed) {
         if (cpuCount < 1 || cpuCount > 3) {
             throw new IllegalArgumentException("CPU 수는 1-3명이어야 합니다.");
         }
@@ -33,15 +101,33 @@ public class GameService {
             players.add(new Player("player-cpu-" + (i + 1), "CPU " + (i + 1), PlayerType.CPU));
         }
 
-        Game game = new Game(gameId, players);
-        games.put(gameId, game);
+        Game game = new Game(gameId, players, logRetention, seed);
+        game.setLogListener(event -> logSink.offer("[게임 로그] ", event));
 
         initializeRound(game);
+        publish(game);
+        games.put(game);
+        metrics.countGameCreated();
 
         return game;
     }
 
-    public Game getGame(String gameId) {
+    /**
+     * 저널에서 복구한 게임을 등록한다. 게임 로그는 기록되지 않으므로 복구 안내만 남기고,
+     * 기록에 담긴 마지막 게시 버전 다음 번호(version + 1)로 게시한다.
+     * 저널 기록은 최선 노력(GameJournal 참고)이라, 디스크에 쓰이기 전에 서버가 멈춘 버전은 복구 후 다른 상태에 다시 쓰일 수 있다.
+     */
+    public void restoreGame(Game game) {
+        game.setLogListener(event -> logSink.offer("[게임 로그] ", event));
+        game.addLog("서버가 다시 시작되어 진행 중이던 게임을 복구했습니다.");
+        game.publishSnapshot();
+        games.put(game);
+        metrics.countGameRestored();
+    }
+
+    // 게임 객체를 직접 넘기면 명령 큐를 거치지 않고 상태를 바꿀 수 있으므로 서비스 패키지 안에서만 쓴다.
+    // 밖에서는 읽기는 getSnapshot, 변경은 execute를 쓴다.
+    Game getGame(String gameId) {
         Game game = games.get(gameId);
         if (game == null) {
             throw new IllegalArgumentException("게임을 찾을 수 없습니다: " + gameId);
@@ -49,8 +135,71 @@ public class GameService {
         return game;
     }
 
+    public GameSnapshot getSnapshot(String gameId) {
+        return getGame(gameId).getSnapshot();
+    }
+
+    /**
+     * 명령의 결과와 그 명령이 끝나며 게시한 스냅샷.
+     */
+    public record Committed<T>(T result, GameSnapshot snapshot) {
+    }
+
+    /**
+     * 게임 상태를 바꾸는 모든 작업은 이 메서드를 통해 게임별 명령 큐에서 순서대로 실행한다.
+     * 명령이 상태를 바꿨으면 끝날 때 새 스냅샷을 게시하므로, 반환 후 getSnapshot은 이 명령의 결과를 포함한다.
+     * 명령은 상태를 바꾸기 전에 입력을 검증해, 거절할 때는 아무것도 바꾸지 않아야 한다.
+     */
+    public <T> T execute(String gameId, Function<Game, T> command) {
+        return executeAndPublish(gameId, command).result();
+    }
+
+    /**
+     * execute와 같지만 이 명령이 게시한 스냅샷을 함께 돌려준다.
+     * 반환 직후 getSnapshot은 뒤이어 실행된 다른 명령의 결과일 수 있으므로, 명령의 결과 상태를 응답할 때는 이 스냅샷을 쓴다.
+     * 명령 안에서 다시 부르면 바깥 명령이 끝날 때 게시하므로 snapshot은 null이다.
+     */
+    public <T> Committed<T> executeAndPublish(String gameId, Function<Game, T> command) {
+        GameMailbox mailbox = games.getMailbox(gameId);
+        if (mailbox == null) {
+            throw new IllegalArgumentException("게임을 찾을 수 없습니다: " + gameId);
+        }
+
+        if (mailbox.isExecutingThread()) {
+            return new Committed<>(command.apply(mailbox.getGame()), null);
+        }
+
+        try {
+            return mailbox.submit(game -> {
+                long before = game.getModificationCount();
+                T result;
+                try {
+                    result = command.apply(game);
+                } catch (RuntimeException | Error e) {
+                    // 명령은 상태를 바꾸기 전에 검증하므로 보통은 바뀐 것이 없다. 이미 바꿨다면 그 상태를 게시해 둔다
+                    if (game.getModificationCount() != before) {
+                        publish(game);
+                    }
+                    throw e;
+                }
+                // 바뀐 것이 없으면 새 버전을 만들지 않는다 (ETag, 상태 캐시, 구독자, 저널을 건드리지 않음)
+                GameSnapshot snapshot = game.getModificationCount() != before ? publish(game) : game.getSnapshot();
+                return new Committed<>(result, snapshot);
+            }).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public GameRegistry getRegistry() {
+        return games;
+    }
+
     public void initializeRound(Game game) {
-        game.addLog("=== 라운드 " + game.getCurrentRound() + " 시작 ===");
+        game.log(GameEvent.roundStarted(game.getCurrentRound()));
 
         game.initializeDeck();
 
@@ -61,10 +210,10 @@ public class GameService {
         for (Player player : game.getPlayers()) {
             Card card = game.drawCard();
             player.setHandCard(card);
-            game.addLog(String.format("%s가 초기 카드를 받았습니다.", player.getName()));
+            game.log(GameEvent.of(GameEvent.Type.INITIAL_CARD_DEALT, player));
         }
 
-        game.addLog(String.format("%s의 턴입니다.", game.getCurrentPlayer().getName()));
+        game.log(GameEvent.of(GameEvent.Type.FIRST_TURN, game.getCurrentPlayer()));
     }
 
     public Card drawCardForPlayer(Game game, Player player) {
@@ -81,7 +230,7 @@ public class GameService {
 
         // 플레이어의 drawnCard에 저장
         player.setDrawnCard(drawnCard);
-        game.addLog(String.format("%s가 카드를 뽑았습니다.", player.getName()));
+        game.log(GameEvent.of(GameEvent.Type.CARD_DRAWN, player));
         return drawnCard;
     }
 
@@ -94,6 +243,9 @@ public class GameService {
             throw new IllegalStateException(player.getName() + "의 손에 카드가 없습니다.");
         }
 
+        // 잘못된 추측 숫자면 카드를 버리기 전에 거절
+        cardService.validateGuess(cardToPlay, guessNumber);
+
         // 사용할 카드가 손패인지 드로우 카드인지 확인
         Card remainingCard;
         if (player.getHandCard() != null && player.getHandCard().getId().equals(cardToPlay.getId())) {
@@ -113,6 +265,8 @@ public class GameService {
 
         game.addToDiscardPile(cardToPlay);
         player.addDiscardedCard(cardToPlay);
+        forgetPlayedCard(game, player, cardToPlay);
+        game.getHandBeliefs().onCardPlayed(game.getSeat(player), cardToPlay);
 
         cardService.executeCardEffect(game, player, cardToPlay, target, guessNumber);
 
@@ -121,10 +275,101 @@ public class GameService {
         }
     }
 
-    public boolean checkRoundEnd(Game game) {
-        long aliveCount = game.getAlivePlayers().size();
+    // 다른 플레이어가 알던 카드를 냈으면 그 기억은 더 이상 유효하지 않다.
+    // AI가 결정하면서 기억을 지우면 같은 행동을 다시 적용해도 상태가 달라지므로, 카드를 낼 때 지운다.
+    private void forgetPlayedCard(Game game, Player player, Card playedCard) {
+        for (int p = 0; p < game.getPlayerCount(); p++) {
+            Player other = game.getPlayerAt(p);
+            if (other != player && other.getKnownOpponentCard(player.getId()) == playedCard.getType()) {
+                other.forgetOpponentCard(player.getId());
+            }
+        }
+    }
+
+    /**
+     * 턴 한 번을 한 번에 처리한다: 아직 뽑지 않았으면 뽑고, 효과를 적용하고 턴을 넘긴다.
+     * 고른 카드(getPlayableCards 기준), 대상, 추측 숫자는 뽑을 카드를 덱에서 미리 보고 뽑기 전에 모두 확인하므로,
+     * 거절되면 예외를 던지고 게임은 바뀌지 않는다 (이미 뽑은 카드도 그대로 남아 다시 고를 수 있다).
+     * 덱이 비어 뽑지 못하면 라운드가 끝나고 false를 돌려준다.
+     */
+    public boolean playTurn(Game game, Player player, String cardId, Player target, Integer guessNumber) {
+        if (game.getCurrentPlayer() != player) {
+            throw new IllegalStateException(player.getName() + "의 차례가 아닙니다.");
+        }
+
+        boolean drawn = player.getDrawnCard() != null;
+        Card drawnCard = drawn ? player.getDrawnCard() : game.peekCard();
+        if (drawnCard == null) {
+            drawCardForPlayer(game, player);  // 덱이 비었으므로 라운드 종료
+            return false;
+        }
+
+        Card cardToPlay = findPlayableCard(player, drawnCard, cardId);
+        if (cardToPlay == null) {
+            throw new IllegalStateException("낼 수 없는 카드입니다: " + cardId);
+        }
+        cardService.validateGuess(cardToPlay, guessNumber);
+        if (target != null && (!target.isAlive() || target == player && !cardToPlay.getType().canTargetSelf())) {
+            throw new IllegalArgumentException("대상으로 고를 수 없는 플레이어입니다: " + target.getName());
+        }
+
+        if (!drawn) {
+            drawCardForPlayer(game, player);
+        }
+        playCard(game, player, cardToPlay, target, guessNumber);
+        if (!game.isRoundOver()) {
+            nextTurn(game);
+        }
+        return true;
+    }
+
+    // 손패와 뽑은(또는 뽑을) 카드 중 cardId인 카드. 없거나 후작 규칙으로 낼 수 없으면 null
+    private static Card findPlayableCard(Player player, Card drawnCard, String cardId) {
+        Card handCard = player.getHandCard();
+        Card chosen = drawnCard.getId().equals(cardId) ? drawnCard
+            : handCard != null && handCard.getId().equals(cardId) ? handCard : null;
+        if (chosen == null || chosen.getType() == CardType.COUNTESS || handCard == null) {
+            return chosen;
+        }
+        CardType other = (chosen == drawnCard ? handCard : drawnCard).getType();
+        // 후작과 함께 든 마법사/장군은 낼 수 없음 (후작을 내야 함)
+        boolean mustPlayCountess = other == CardType.COUNTESS
+            && (chosen.getType() == CardType.PRINCE || chosen.getType() == CardType.KING);
+        return mustPlayCountess ? null : chosen;
+    }
+
+    /**
+     * 사람 차례가 오거나 라운드가 끝날 때까지 CPU 턴을 서버에서 연달아 진행하고, 진행한 행동을 순서대로 돌려준다.
+     * 행동은 서버에서 정해 바로 적용하므로 클라이언트가 바꿀 수 없다.
+     */
+    public List<CPUAction> playCPUTurns(Game game, AIService aiService) {
+        List<CPUAction> actions = new ArrayList<>();
+        while (!game.isRoundOver()) {
+            Player cpuPlayer = game.getCurrentPlayer();
+            if (cpuPlayer == null || cpuPlayer.getType() != PlayerType.CPU) {
+                break;
+            }
+
+            Card drawnCard = drawCardForPlayer(game, cpuPlayer);
+            if (drawnCard == null) {
+                break;
+            }
+
+            CPUAction action = aiService.decideCPUAction(game, cpuPlayer, drawnCard);
+            action.setPlayerId(cpuPlayer.getId());
+            Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+            playCard(game, cpuPlayer, action.getCardToPlay(), target, action.getGuessNumber());
+            actions.add(action);
 
-        if (aliveCount <= 1) {
+            if (!game.isRoundOver()) {
+                nextTurn(game);
+            }
+        }
+        return actions;
+    }
+
+    public boolean checkRoundEnd(Game game) {
+        if (game.getAliveCount() <= 1) {
             game.addLog("생존자가 1명 이하입니다. 라운드를 종료합니다.");
             return true;
         }
@@ -139,6 +384,7 @@ public class GameService {
 
     public void endRound(Game game) {
         game.setRoundOver(true);
+        metrics.countRoundFinished();
         Player winner = determineWinner(game);
 
         if (winner != null) {
@@ -149,20 +395,18 @@ public class GameService {
             String winReason = determineWinReason(game, winner);
             game.setRoundWinReason(winReason);
 
-            game.addLog(String.format("=== 라운드 %d 승자: %s ===",
-                game.getCurrentRound(), winner.getName()));
-            game.addLog(String.format("승리 사유: %s", winReason));
+            game.log(GameEvent.roundWon(game.getCurrentRound(), winner));
+            game.log(GameEvent.winReason(winReason));
 
             game.addLog("\n=== 최종 카드 공개 ===");
             for (Player player : game.getPlayers()) {
                 if (player.isAlive() && player.getHandCard() != null) {
-                    game.addLog(String.format("%s: %s",
-                        player.getName(), player.getHandCard().toString()));
+                    game.log(GameEvent.of(GameEvent.Type.FINAL_CARD, player, player.getHandCard()));
                 }
             }
 
             if (game.getSecretCard() != null) {
-                game.addLog(String.format("비밀 카드: %s", game.getSecretCard().toString()));
+                game.log(GameEvent.secretCardRevealed(game.getSecretCard()));
             }
         } else {
             game.addLog("=== 무승부 ===");
@@ -170,9 +414,7 @@ public class GameService {
     }
 
     private String determineWinReason(Game game, Player winner) {
-        List<Player> alivePlayers = game.getAlivePlayers();
-
-        if (alivePlayers.size() == 1) {
+        if (game.getAliveCount() == 1) {
             // 마지막 생존자 - 구체적인 탈락 사유 포함
             if (game.getLastEliminatedPlayer() != null && game.getLastEliminationReason() != null) {
                 return game.getLastEliminationReason();
@@ -190,19 +432,16 @@ public class GameService {
     }
 
     public Player determineWinner(Game game) {
-        List<Player> alivePlayers = game.getAlivePlayers();
-
-        if (alivePlayers.isEmpty()) {
-            return null;
-        }
-
-        if (alivePlayers.size() == 1) {
-            return alivePlayers.get(0);
+        // 생존자 중 손패 숫자가 가장 높은 플레이어 (같으면 앞 좌석). 생존자가 한 명이면 그 플레이어
+        Player winner = null;
+        for (int i = 0; i < game.getPlayerCount(); i++) {
+            Player player = game.getPlayerAt(i);
+            if (player.isAlive()
+                && (winner == null || player.getHandCard().getNumber() > winner.getHandCard().getNumber())) {
+                winner = player;
+            }
         }
-
-        return alivePlayers.stream()
-            .max(Comparator.comparingInt(p -> p.getHandCard().getNumber()))
-            .orElse(null);
+        return winner;
     }
 
     public void startNextRound(Game game) {
@@ -215,11 +454,11 @@ public class GameService {
         Player currentPlayer = game.getCurrentPlayer();
         if (currentPlayer != null && currentPlayer.isProtected()) {
             currentPlayer.setProtected(false);
-            game.addLog(String.format("%s의 보호 상태가 해제되었습니다.", currentPlayer.getName()));
+            game.log(GameEvent.of(GameEvent.Type.PROTECTION_ENDED, currentPlayer));
         }
 
         game.nextTurn();
-        game.addLog(String.format("\n%s의 턴입니다.", game.getCurrentPlayer().getName()));
+        game.log(GameEvent.of(GameEvent.Type.TURN_STARTED, game.getCurrentPlayer()));
     }
 
     public boolean canPlayCard(Player player, Card card) {
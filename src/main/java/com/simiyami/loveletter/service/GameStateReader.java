@@ -0,0 +1,234 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.GameStateDelta;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시된 스냅샷으로 클라이언트에게 보낼 상태(GameState 또는 GameStateDelta)를 만든다.
+ *
+ * 스냅샷 버전을 ETag로 쓰므로, 바뀐 것이 없으면 상태를 만들지 않고 304로 답할 수 있다.
+ * 만든 상태와 그 JSON 바이트는 게임별로 현재 버전의 것만 관찰자/기준 버전마다 캐시해, 같은 버전을 다시 읽으면 조회만 한다.
+ * 명령이 끝나 새 버전이 게시되면 그 게임의 캐시를 버린다.
+ * 같은 요청이 동시에 들어오면 하나만 만들고 나머지는 그 결과를 기다린다.
+ * 캐시할 게임 수와 버전당 항목 수에 상한이 있으며, 넘으면 캐시하지 않고 매번 만든다.
+ */
+@Service
+public class GameStateReader {
+
+    public static final int DEFAULT_MAX_GAMES = 10000;
+    // 버전당 캐시할 관찰자/기준 버전 조합 수 (보통 관찰자 한 명 x 전체 상태와 직전 버전 기준 변경분)
+    private static final int MAX_RENDERS_PER_VERSION = 8;
+
+    private record RenderKey(String viewerId, long since) {
+    }
+
+    /**
+     * 만든 상태와, 요청이 있으면 만들어 두는 JSON 바이트.
+     */
+    public static final class Rendered {
+        private final Object state;
+        private volatile byte[] json;
+
+        private Rendered(Object state) {
+            this.state = state;
+        }
+
+        public Object getState() {
+            return state;
+        }
+    }
+
+    // 한 게임의 한 버전에 대한 캐시. 새 버전이 게시되면 통째로 바뀐다
+    private static final class VersionRenders {
+        private final long version;
+        private final Map<RenderKey, CompletableFuture<Rendered>> renders = new ConcurrentHashMap<>();
+
+        private VersionRenders(long version) {
+            this.version = version;
+        }
+    }
+
+    private final GameService gameService;
+    private final JsonMapper jsonMapper;
+    private final int maxGames;
+    private final Map<String, VersionRenders> cache = new ConcurrentHashMap<>();
+
+    private final LongAdder renders = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder serializations = new LongAdder();
+
+    public GameStateReader(GameService gameService) {
+        this(gameService, JsonMapper.builder().build(), DEFAULT_MAX_GAMES);
+    }
+
+    @Autowired
+    public GameStateReader(
+        GameService gameService,
+        JsonMapper jsonMapper,
+        @Value("${loveletter.render.cache-games:" + DEFAULT_MAX_GAMES + "}") int maxGames
+    ) {
+        this.gameService = gameService;
+        this.jsonMapper = jsonMapper;
+        this.maxGames = maxGames;
+        gameService.addSnapshotListener(game -> cache.remove(game.getId()));
+    }
+
+    public static String etagOf(GameSnapshot snapshot) {
+        return "\"v" + snapshot.getVersion() + "\"";
+    }
+
+    /**
+     * If-None-Match 헤더 값(쉼표로 구분된 목록, 약한 ETag, * 포함)이 etag와 일치하는지 확인한다.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 지금 게시된 스냅샷 기준 상태. since가 없으면 전체 상태, 있으면 그 버전 이후의 변경분.
+     */
+    public Object read(String gameId, String viewerId, Long since) {
+        return read(gameService.getSnapshot(gameId), viewerId, since);
+    }
+
+    /**
+     * 주어진 스냅샷 기준 상태 (ETag를 계산한 스냅샷과 같은 버전으로 응답하기 위함).
+     * 돌려준 객체는 캐시와 공유되므로 바꾸면 안 된다.
+     */
+    public Object read(GameSnapshot snapshot, String viewerId, Long since) {
+        return lookup(snapshot, viewerId, since).state;
+    }
+
+    /**
+     * read와 같은 상태의 JSON 바이트. 같은 버전을 다시 읽으면 직렬화도 다시 하지 않는다.
+     * 돌려준 배열은 캐시와 공유되므로 바꾸면 안 된다.
+     */
+    public byte[] readJson(GameSnapshot snapshot, String viewerId, Long since) {
+        Rendered rendered = lookup(snapshot, viewerId, since);
+        byte[] json = rendered.json;
+        if (json == null) {
+            // 동시에 처음 읽으면 두 번 직렬화될 수 있지만 결과는 같으므로 나중 것을 그대로 둔다
+            json = jsonMapper.writeValueAsBytes(rendered.state);
+            serializations.increment();
+            rendered.json = json;
+        }
+        return json;
+    }
+
+    private Rendered lookup(GameSnapshot snapshot, String viewerId, Long since) {
+        RenderKey key = new RenderKey(viewerId, since != null ? since : -1);
+        VersionRenders versionRenders = rendersFor(snapshot);
+        if (versionRenders == null
+            || (versionRenders.renders.size() >= MAX_RENDERS_PER_VERSION && !versionRenders.renders.containsKey(key))) {
+            return new Rendered(render(snapshot, viewerId, since));
+        }
+
+        CompletableFuture<Rendered> mine = new CompletableFuture<>();
+        CompletableFuture<Rendered> existing = versionRenders.renders.putIfAbsent(key, mine);
+        if (existing != null) {
+            if (existing.isDone()) {
+                hits.increment();
+            } else {
+                coalesced.increment();
+            }
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        try {
+            Rendered rendered = new Rendered(render(snapshot, viewerId, since));
+            mine.complete(rendered);
+            return rendered;
+        } catch (RuntimeException e) {
+            versionRenders.renders.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 이 스냅샷 버전의 캐시. 더 새 버전이 이미 캐시돼 있거나 캐시가 가득 차면 null (캐시하지 않음)
+    private VersionRenders rendersFor(GameSnapshot snapshot) {
+        String gameId = snapshot.getGameId();
+        long version = snapshot.getVersion();
+        VersionRenders current = cache.get(gameId);
+        if (current == null || current.version < version) {
+            // 가득 찼으면 캐시하지 않음. 제거된 게임의 자리는 주기적인 evictRemovedGames가 비운다 (요청마다 훑지 않음)
+            if (current == null && cache.size() >= maxGames) {
+                return null;
+            }
+            current = cache.merge(gameId, new VersionRenders(version),
+                (old, fresh) -> old.version >= fresh.version ? old : fresh);
+        }
+        return current.version == version ? current : null;
+    }
+
+    // 같은 요청이 겹치는지 확인하는 테스트에서 렌더링을 늦출 수 있게 protected
+    protected Object render(GameSnapshot snapshot, String viewerId, Long since) {
+        renders.increment();
+        if (since == null) {
+            return GameState.fromSnapshot(snapshot, viewerId);
+        }
+        Game game = gameService.getGame(snapshot.getGameId());
+        return GameStateDelta.between(game.getSnapshot(since), snapshot, viewerId);
+    }
+
+    /**
+     * 저장소에서 제거된 게임의 캐시를 버린다.
+     */
+    @Scheduled(fixedDelayString = "${loveletter.game.eviction-interval-ms:60000}")
+    public void evictRemovedGames() {
+        cache.keySet().removeIf(gameId -> !gameService.getRegistry().contains(gameId));
+    }
+
+    public int getCachedGameCount() {
+        return cache.size();
+    }
+
+    public long getRenderCount() {
+        return renders.sum();
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getSerializationCount() {
+        return serializations.sum();
+    }
+}
@@ -0,0 +1,208 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameStateDelta;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게임 상태 변경을 연결된 클라이언트에게 밀어 보내는 허브.
+ *
+ * 스냅샷이 게시되면(게임 명령 스레드) 구독자마다 전송 작업을 예약만 하고, 실제 전송은 가상 스레드에서 한다.
+ * 구독자마다 마지막으로 보낸 버전을 기억해 그 이후 변경분(GameStateDelta)을 보내며,
+ * 전송 중에 여러 버전이 게시되면 하나로 합쳐 최신 상태만 보낸다.
+ * 연결이 끊긴 클라이언트는 마지막으로 받은 버전부터 다시 구독하면 된다.
+ * 대기 중인 연결은 스레드를 점유하지 않으므로 많은 유휴 연결을 적은 비용으로 유지할 수 있다.
+ */
+@Service
+public class GameUpdateHub {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30 * 60 * 1000L;
+
+    /**
+     * 실제 전송 수단 (SSE 등). 같은 구독자에 대해 send는 한 번에 하나씩만 호출된다.
+     */
+    public interface UpdateSink {
+        void send(GameStateDelta update) throws IOException;
+
+        void heartbeat() throws IOException;
+
+        void close();
+    }
+
+    public static final class Subscription {
+        private final Game game;
+        private final String viewerId;
+        private final UpdateSink sink;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile long sentVersion;
+        private volatile boolean closed;
+
+        private Subscription(Game game, String viewerId, long sentVersion, UpdateSink sink) {
+            this.game = game;
+            this.viewerId = viewerId;
+            this.sentVersion = sentVersion;
+            this.sink = sink;
+        }
+
+        public String getGameId() { return game.getId(); }
+        public long getSentVersion() { return sentVersion; }
+        public boolean isClosed() { return closed; }
+    }
+
+    private final GameService gameService;
+    private final long timeoutMillis;
+    private final Map<String, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final LongAdder pushed = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    @Autowired
+    public GameUpdateHub(
+        GameService gameService,
+        @Value("${loveletter.push.timeout-ms:" + DEFAULT_TIMEOUT_MILLIS + "}") long timeoutMillis
+    ) {
+        this.gameService = gameService;
+        this.timeoutMillis = timeoutMillis;
+        gameService.addSnapshotListener(this::onPublished);
+    }
+
+    /**
+     * sinceVersion 이후의 변경을 sink로 보내기 시작한다. 0이면 처음에 전체 상태를 보낸다.
+     */
+    public Subscription subscribe(String gameId, String viewerId, long sinceVersion, UpdateSink sink) {
+        Game game = gameService.getGame(gameId);
+        Subscription subscription = new Subscription(game, viewerId, Math.max(0, sinceVersion), sink);
+        // 추가도 compute 안에서 해야 unsubscribe가 빈 집합을 지우는 것과 겹쳐 구독이 사라지지 않는다
+        subscribers.compute(gameId, (id, set) -> {
+            if (set == null) {
+                set = ConcurrentHashMap.newKeySet();
+            }
+            set.add(subscription);
+            return set;
+        });
+        schedule(subscription);
+        return subscription;
+    }
+
+    public void unsubscribe(Subscription subscription) {
+        subscription.closed = true;
+        subscribers.computeIfPresent(subscription.getGameId(), (id, set) -> {
+            set.remove(subscription);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    private void onPublished(Game game) {
+        Set<Subscription> set = subscribers.get(game.getId());
+        if (set == null) {
+            return;
+        }
+        for (Subscription subscription : set) {
+            schedule(subscription);
+        }
+    }
+
+    private void schedule(Subscription subscription) {
+        if (!subscription.closed && subscription.scheduled.compareAndSet(false, true)) {
+            sender.execute(() -> drain(subscription));
+        }
+    }
+
+    private void drain(Subscription subscription) {
+        try {
+            GameSnapshot latest = subscription.game.getSnapshot();
+            long sent = subscription.sentVersion;
+            if (!subscription.closed && latest.getVersion() != sent) {
+                subscription.sink.send(GameStateDelta.between(subscription.game.getSnapshot(sent), latest,
+                    subscription.viewerId));
+                subscription.sentVersion = latest.getVersion();
+                pushed.increment();
+            }
+        } catch (IOException | RuntimeException e) {
+            fail(subscription);
+        } finally {
+            subscription.scheduled.set(false);
+        }
+
+        // 보내는 동안 새 버전이 게시됐으면 다시 예약
+        if (!subscription.closed && subscription.game.getSnapshot().getVersion() != subscription.sentVersion) {
+            schedule(subscription);
+        }
+    }
+
+    /**
+     * 연결 유지용 신호를 보내고, 끊긴 연결과 제거된 게임의 구독을 정리한다.
+     */
+    @Scheduled(fixedDelayString = "${loveletter.push.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        for (Map.Entry<String, Set<Subscription>> entry : subscribers.entrySet()) {
+            boolean gameRemoved = !gameService.getRegistry().contains(entry.getKey());
+            for (Subscription subscription : entry.getValue()) {
+                if (gameRemoved) {
+                    unsubscribe(subscription);
+                    subscription.sink.close();
+                    continue;
+                }
+                sender.execute(() -> {
+                    try {
+                        subscription.sink.heartbeat();
+                    } catch (IOException | RuntimeException e) {
+                        fail(subscription);
+                    }
+                });
+            }
+        }
+    }
+
+    private void fail(Subscription subscription) {
+        failures.increment();
+        unsubscribe(subscription);
+        subscription.sink.close();
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    public int getSubscriberCount() {
+        int count = 0;
+        for (Set<Subscription> set : subscribers.values()) {
+            count += set.size();
+        }
+        return count;
+    }
+
+    public long getPushedCount() {
+        return pushed.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Set<Subscription> set : subscribers.values()) {
+            for (Subscription subscription : set) {
+                unsubscribe(subscription);
+                subscription.sink.close();
+            }
+        }
+        sender.shutdown();
+    }
+}
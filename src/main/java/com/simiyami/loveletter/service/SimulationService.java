@@ -0,0 +1,314 @@
+package com.simiyami.loveletter.service;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.dto.SimulationReport;
+import com.simiyami.loveletter.enums.PlayerType;
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameEvent;
+import com.simiyami.loveletter.model.Player;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * HTTP 없이 CPU끼리 대전시키는 헤드리스 시뮬레이터. 밸런스 조정과 회귀 확인용.
+ *
+ * 판 수를 작은 묶음으로 나눠 ForkJoinPool(work-stealing)에서 병렬로 돌린다.
+ * 묶음마다 GameService/AIService/Game을 따로 만들어 재사용하므로 스레드 사이에 공유 상태가 없고,
+ * 게임 로그는 출력기로 보내지 않고 탈락 원인 집계에만 쓴다.
+ * 묶음의 시드는 작업을 나눌 때 SplittableRandom.split으로 정해지므로, 같은 시드면 스레드 수나 실행 순서와 관계없이 같은 결과가 나온다.
+ *
+ * 엔진은 두 가지다. FULL은 실제 서버와 같은 Game/GameService/AIService로 돌리고,
+ * COMPACT는 CompactGame과 CompactPolicy로 돌려 판당 객체를 만들지 않는다.
+ * COMPACT의 CPU는 AIService보다 단순하므로 두 엔진의 승률은 서로 다를 수 있다 (규칙 자체는 같음).
+ */
+@Service
+public class SimulationService {
+
+    // 한 작업이 직접 처리하는 최대 판 수 (이보다 많으면 둘로 나눔)
+    private static final long LEAF_GAMES = 2_000;
+    // AI가 라운드를 끝내지 못하는 경우를 막기 위한 라운드당 최대 턴 수
+    private static final int MAX_TURNS = 64;
+
+    private static final String[] ELIMINATION_CAUSES = {
+        "경비병 지목", "기사 대결 패배", "마법사로 공주 버림", "공주 직접 버림"
+    };
+
+    public enum Engine { FULL, COMPACT }
+
+    private final ForkJoinPool pool;
+
+    public SimulationService(@Value("${loveletter.simulation.parallelism:0}") int parallelism) {
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * playerCount명의 CPU로 games판(라운드)을 끝까지 진행하고 결과를 집계한다.
+     */
+    public SimulationReport simulate(int playerCount, long games) {
+        return simulate(playerCount, games, ThreadLocalRandom.current().nextLong());
+    }
+
+    public SimulationReport simulate(int playerCount, long games, long seed) {
+        return simulate(playerCount, games, seed, Engine.FULL);
+    }
+
+    public SimulationReport simulate(int playerCount, long games, long seed, Engine engine) {
+        if (playerCount < 2 || playerCount > 4) {
+            throw new IllegalArgumentException("플레이어 수는 2-4명이어야 합니다: " + playerCount);
+        }
+        if (games < 1) {
+            throw new IllegalArgumentException("판 수는 1 이상이어야 합니다: " + games);
+        }
+
+        long start = System.nanoTime();
+        Tally tally = pool.invoke(new SimulationTask(engine, playerCount, games, new SplittableRandom(seed)));
+        long elapsed = System.nanoTime() - start;
+
+        Map<String, Long> eliminations = new LinkedHashMap<>();
+        for (int i = 0; i < ELIMINATION_CAUSES.length; i++) {
+            eliminations.put(ELIMINATION_CAUSES[i], tally.eliminations[i]);
+        }
+        return new SimulationReport(playerCount, tally.games, tally.seatWins, tally.draws, tally.truncated, tally.turns,
+            tally.lastSurvivorWins, tally.highestCardWins, eliminations, elapsed);
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private static final class SimulationTask extends RecursiveTask<Tally> {
+        private final Engine engine;
+        private final int playerCount;
+        private final long games;
+        private final SplittableRandom random;
+
+        SimulationTask(Engine engine, int playerCount, long games, SplittableRandom random) {
+            this.engine = engine;
+            this.playerCount = playerCount;
+            this.games = games;
+            this.random = random;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (games <= LEAF_GAMES) {
+                long seed = random.nextLong();
+                return engine == Engine.COMPACT
+                    ? playCompactGames(playerCount, games, seed)
+                    : playGames(playerCount, games, seed);
+            }
+            SimulationTask left = new SimulationTask(engine, playerCount, games / 2, random.split());
+            SimulationTask right = new SimulationTask(engine, playerCount, games - games / 2, random);
+            left.fork();
+            Tally result = right.compute();
+            result.merge(left.join());
+            return result;
+        }
+    }
+
+    static Tally playGames(int playerCount, long games, long seed) {
+        GameService gameService = new GameService(new CardService());
+        AIService aiService = new AIService();
+        Tally tally = new Tally(playerCount);
+
+        List<Player> players = new ArrayList<>(playerCount);
+        for (int i = 0; i < playerCount; i++) {
+            players.add(new Player("player-cpu-" + (i + 1), "CPU " + (i + 1), PlayerType.CPU));
+        }
+        // 최근 로그는 쓰지 않으므로 1개만 보관
+        Game game = new Game("simulation", players, 1, seed);
+        game.setLogListener(tally::record);
+
+        for (long g = 0; g < games; g++) {
+            if (g == 0) {
+                gameService.initializeRound(game);
+            } else {
+                gameService.startNextRound(game);
+            }
+            tally.recordRound(game, playRound(gameService, aiService, game));
+        }
+        return tally;
+    }
+
+    private static int playRound(GameService gameService, AIService aiService, Game game) {
+        int turns = 0;
+        while (!game.isRoundOver() && turns < MAX_TURNS) {
+            Player player = game.getCurrentPlayer();
+            Card drawnCard = gameService.drawCardForPlayer(game, player);
+            if (drawnCard == null) {
+                break;
+            }
+
+            CPUAction action = aiService.decideCPUAction(game, player, drawnCard);
+            Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+            gameService.playCard(game, player, action.getCardToPlay(), target, action.getGuessNumber());
+            turns++;
+
+            if (!game.isRoundOver()) {
+                gameService.nextTurn(game);
+            }
+        }
+        return turns;
+    }
+
+    static Tally playCompactGames(int playerCount, long games, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        CompactGame game = new CompactGame(playerCount);
+        CompactPolicy policy = new CompactPolicy();
+        Tally tally = new Tally(playerCount);
+
+        for (long g = 0; g < games; g++) {
+            if (g == 0) {
+                game.startRound(random);
+            } else {
+                game.startNextRound(random);
+            }
+            tally.recordRound(game, playCompactRound(game, policy, random, tally));
+        }
+        return tally;
+    }
+
+    private static int playCompactRound(CompactGame game, CompactPolicy policy, SplittableRandom random, Tally tally) {
+        int turns = 0;
+        while (!game.isRoundOver() && turns < MAX_TURNS) {
+            int player = game.getCurrentPlayer();
+            if (game.draw(player) == CompactGame.NONE) {
+                break;
+            }
+
+            policy.decide(game, player, random);
+            int alive = game.getAliveCount();
+            game.play(player, policy.getCard(), policy.getTarget(), policy.getGuess());
+            turns++;
+            // 압축 상태는 로그를 남기지 않으므로 낸 카드로 탈락 원인을 정함
+            if (game.getAliveCount() < alive) {
+                tally.recordElimination(CompactGame.cardType(policy.getCard()));
+            }
+
+            if (!game.isRoundOver()) {
+                game.nextTurn();
+            }
+        }
+        return turns;
+    }
+
+    // 작업 하나의 집계 결과. 작업 스레드 안에서만 쓰고, 끝난 뒤 merge로 합친다.
+    static final class Tally {
+        final long[] seatWins;
+        final long[] eliminations = new long[ELIMINATION_CAUSES.length];
+        long games;
+        long draws;
+        long truncated;  // MAX_TURNS에 걸려 끝나지 않은 라운드 (무승부와 따로 셈)
+        long turns;
+        long lastSurvivorWins;
+        long highestCardWins;
+
+        Tally(int playerCount) {
+            this.seatWins = new long[playerCount];
+        }
+
+        void record(GameEvent event) {
+            switch (event.getType()) {
+                case GUARD_HIT -> eliminations[0]++;
+                case BARON_WON -> eliminations[1]++;
+                case PRINCESS_DISCARDED -> eliminations[2]++;
+                case PRINCESS_PLAYED -> eliminations[3]++;
+                default -> {
+                    // 탈락과 무관한 이벤트
+                }
+            }
+        }
+
+        void recordElimination(CardType playedCard) {
+            switch (playedCard) {
+                case GUARD -> eliminations[0]++;
+                case BARON -> eliminations[1]++;
+                case PRINCE -> eliminations[2]++;
+                case PRINCESS -> eliminations[3]++;
+                default -> {
+                    // 탈락을 일으키지 않는 카드
+                }
+            }
+        }
+
+        void recordRound(CompactGame game, int roundTurns) {
+            games++;
+            turns += roundTurns;
+
+            if (!game.isRoundOver()) {
+                truncated++;
+                return;
+            }
+            int winner = game.getRoundWinner();
+            if (winner == CompactGame.NONE) {
+                draws++;
+                return;
+            }
+            seatWins[winner]++;
+            if (game.getAliveCount() == 1) {
+                lastSurvivorWins++;
+            } else {
+                highestCardWins++;
+            }
+        }
+
+        void recordRound(Game game, int roundTurns) {
+            games++;
+            turns += roundTurns;
+
+            if (!game.isRoundOver()) {
+                truncated++;
+                return;
+            }
+            Player winner = game.getRoundWinner();
+            if (winner == null) {
+                draws++;
+                return;
+            }
+            for (int seat = 0; seat < game.getPlayerCount(); seat++) {
+                if (game.getPlayerAt(seat) == winner) {
+                    seatWins[seat]++;
+                    break;
+                }
+            }
+            if (game.getAliveCount() == 1) {
+                lastSurvivorWins++;
+            } else {
+                highestCardWins++;
+            }
+        }
+
+        void merge(Tally other) {
+            for (int i = 0; i < seatWins.length; i++) {
+                seatWins[i] += other.seatWins[i];
+            }
+            for (int i = 0; i < eliminations.length; i++) {
+                eliminations[i] += other.eliminations[i];
+            }
+            games += other.games;
+            draws += other.draws;
+            truncated += other.truncated;
+            turns += other.turns;
+            lastSurvivorWins += other.lastSurvivorWins;
+            highestCardWins += other.highestCardWins;
+        }
+    }
+}
@@ -8,7 +8,11 @@ let gameState = {
     currentAction: null,
     pendingCard: null,
     pendingTarget: null,
-    discardPile: [] // 버린 카드 더미
+    discardPile: [], // 버린 카드 더미
+    lastState: null,  // 마지막으로 받은 전체 상태 (변경분을 합칠 기준)
+    pendingDraw: null, // 턴 요청 응답에 함께 온 다음 턴의 뽑은 카드
+    updates: null,    // 서버 푸시 연결 (EventSource)
+    updatesLive: false
 };
 
 // 카드 이름 매핑
@@ -23,11 +27,121 @@ const CARD_NAMES = {
     8: '공주'
 };
 
+// 카드 목록 (코드 -> 이름/설명/이미지). 서버 응답에는 카드 코드만 오므로 JSON을 읽을 때 이 목록의 항목으로 바꾼다.
+let cardCatalog = [];
+const CARD_FIELDS = new Set(['handCard', 'secretCard', 'drawnCard', 'cardToPlay']);
+const CARD_LIST_FIELDS = new Set(['discardedCards', 'addedDiscards', 'allCards', 'playableCards']);
+
+// 브라우저 HTTP 캐시(Cache-Control, ETag)를 그대로 쓰므로 다음 게임부터는 다시 받지 않는다
+async function loadCardCatalog() {
+    const response = await fetch('/cards');
+    if (!response.ok) throw new Error('카드 목록을 불러올 수 없습니다.');
+    cardCatalog = await response.json();
+    await loadCardAtlas();
+}
+
+// 카드 이미지 묶음이 있으면 한 번 받아 카드별로 잘라 쓴다 (요청 한 번으로 덱 전체).
+// 묶음이 없거나 자를 수 없는 브라우저면 카드별 이미지(image, thumbnail)를 그대로 쓴다.
+async function loadCardAtlas() {
+    const atlasUrl = cardCatalog.find(card => card.sprite)?.sprite.atlas;
+    if (!atlasUrl || typeof createImageBitmap !== 'function') return;
+
+    try {
+        const response = await fetch(atlasUrl);
+        if (!response.ok) return;
+        const atlas = await createImageBitmap(await response.blob());
+
+        const urls = new Map();  // 같은 숫자의 카드는 같은 이미지
+        for (const card of cardCatalog) {
+            const { x, y, width, height } = card.sprite;
+            if (!urls.has(card.number)) {
+                const canvas = document.createElement('canvas');
+                canvas.width = width;
+                canvas.height = height;
+                canvas.getContext('2d').drawImage(atlas, x, y, width, height, 0, 0, width, height);
+                const blob = await new Promise(resolve => canvas.toBlob(resolve, 'image/png'));
+                if (!blob) return;
+                urls.set(card.number, URL.createObjectURL(blob));
+            }
+        }
+        for (const card of cardCatalog) {
+            card.image = urls.get(card.number);
+            card.thumbnail = card.image;
+        }
+        atlas.close();
+    } catch (error) {
+        console.warn('카드 이미지 묶음을 쓸 수 없어 카드별 이미지를 사용합니다.', error);
+    }
+}
+
+function reviveCards(key, value) {
+    if (CARD_FIELDS.has(key) && typeof value === 'number') return cardCatalog[value];
+    if (CARD_LIST_FIELDS.has(key) && Array.isArray(value)) return value.map(code => cardCatalog[code]);
+    return value;
+}
+
+async function readJson(response) {
+    return JSON.parse(await response.text(), reviveCards);
+}
+
 // 유틸리티: 딜레이 함수
 function delay(ms) {
     return new Promise(resolve => setTimeout(resolve, ms));
 }
 
+// 가진 버전을 since로 붙인다 (서버는 그 이후 변경분만 보냄)
+function withSince(url) {
+    if (!gameState.lastState) return url;
+    const separator = url.includes('?') ? '&' : '?';
+    return `${url}${separator}since=${gameState.lastState.version}`;
+}
+
+// 서버 응답(전체 상태 또는 변경분)을 마지막 상태에 합쳐 전체 상태로 돌려준다.
+// 푸시와 요청 응답이 섞여 도착하므로, 이미 가진 버전보다 오래된 응답은 버리고
+// 버린 카드/로그는 위치 정보로 겹치는 부분을 건너뛴다.
+function applyStateResponse(data) {
+    const base = gameState.lastState;
+    const full = data.baseVersion === undefined ? data : data.full;
+    if (base && data.version <= base.version) {
+        return base;
+    }
+    if (full) {
+        gameState.lastState = full;
+        return full;
+    }
+
+    const changed = new Map(data.players.map(p => [p.id, p]));
+    const skippedLogs = Math.max(0, base.eventCount - (data.eventCount - data.newLogs.length));
+    const state = {
+        ...base,
+        version: data.version,
+        currentPlayerId: data.currentPlayerId,
+        currentPlayerName: data.currentPlayerName,
+        deckSize: data.deckSize,
+        recentLogs: [...base.recentLogs, ...data.newLogs.slice(skippedLogs)].slice(-5),
+        eventCount: data.eventCount,
+        roundOver: data.roundOver,
+        roundWinnerId: data.roundWinnerId,
+        roundWinnerName: data.roundWinnerName,
+        roundWinReason: data.roundWinReason,
+        secretCard: data.secretCard,
+        players: base.players.map(player => {
+            const delta = changed.get(player.id);
+            if (!delta) return player;
+            return {
+                ...player,
+                alive: delta.alive,
+                protected: delta.protected,
+                roundsWon: delta.roundsWon,
+                handCard: delta.handCard,
+                discardedCards: [...player.discardedCards.slice(0, delta.discardOffset), ...delta.addedDiscards]
+            };
+        })
+    };
+    gameState.lastState = state;
+    return state;
+}
+
 // 유틸리티: 에러 처리
 function handleError(error, context, retryFn = null) {
     console.error(`${context} 오류:`, error);
@@ -77,17 +191,34 @@ async function fetchWithRetry(url, options = {}, retries = 2) {
     }
 }
 
+// 서버 푸시 구독. 연결된 동안에는 상태를 다시 요청하지 않고 푸시로 받은 상태를 쓴다.
+// 연결이 끊기면 브라우저가 마지막 이벤트 id(버전)로 자동 재연결하며, 그동안은 요청으로 상태를 가져온다.
+function openUpdateStream() {
+    if (!window.EventSource) return;
+
+    const since = gameState.lastState ? gameState.lastState.version : 0;
+    const updates = new EventSource(`/game/${gameState.gameId}/events?playerId=${gameState.myPlayerId}&since=${since}`);
+    updates.addEventListener('state', event => {
+        applyStateResponse(JSON.parse(event.data, reviveCards));
+    });
+    updates.onopen = () => { gameState.updatesLive = true; };
+    updates.onerror = () => { gameState.updatesLive = false; };
+    gameState.updates = updates;
+}
+
 // 게임 초기화
 async function initializeGame(gameId) {
     gameState.gameId = gameId;
     showLoading('게임을 불러오는 중...');
 
     try {
+        await loadCardCatalog();
         const response = await fetch(`/game/${gameId}/state?playerId=${gameState.myPlayerId}`);
         if (!response.ok) throw new Error('게임 상태를 불러올 수 없습니다.');
 
-        const state = await response.json();
+        const state = applyStateResponse(await readJson(response));
         updateGameUI(state);
+        openUpdateStream();
 
         hideLoading();
 
@@ -217,8 +348,8 @@ async function startTurnCycle() {
             // 내 턴
             await handleMyTurn();
         } else {
-            // CPU 턴
-            await handleCPUTurn(currentPlayer);
+            // 다음 사람 차례까지의 CPU 턴 (서버에서 한 번에 진행)
+            await handleCPUTurns();
         }
 
         // 다음 턴을 위한 짧은 딜레이
@@ -228,9 +359,21 @@ async function startTurnCycle() {
 
 // 게임 상태 가져오기
 async function fetchGameState() {
-    const response = await fetch(`/game/${gameState.gameId}/state?playerId=${gameState.myPlayerId}`);
+    if (gameState.updatesLive && gameState.lastState) {
+        updateGameUI(gameState.lastState);
+        return gameState.lastState;
+    }
+
+    // 가진 버전을 ETag로 보내 바뀐 것이 없으면 304 (본문 없음)
+    const headers = gameState.lastState ? { 'If-None-Match': `"v${gameState.lastState.version}"` } : {};
+    const response = await fetch(withSince(`/game/${gameState.gameId}/state?playerId=${gameState.myPlayerId}`),
+        { headers, cache: 'no-store' });
+    if (response.status === 304) {
+        updateGameUI(gameState.lastState);
+        return gameState.lastState;
+    }
     if (!response.ok) throw new Error('게임 상태를 가져올 수 없습니다.');
-    const state = await response.json();
+    const state = applyStateResponse(await readJson(response));
     updateGameUI(state);
     return state;
 }
@@ -240,18 +383,29 @@ async function handleMyTurn() {
     addGameLog('당신의 턴입니다!');
     gameState.isMyTurn = true;
 
+    // 지난 요청에서 이미 뽑아 둔 카드가 있으면 바로 사용
+    if (gameState.pendingDraw) {
+        const data = gameState.pendingDraw;
+        gameState.pendingDraw = null;
+        addGameLog('카드를 뽑았습니다.');
+        displayMyCards(data.allCards, data.playableCards, data.drawnCard);
+        await waitForPlayerAction();
+        return;
+    }
+
     // 카드 뽑기
     showLoading('카드를 뽑는 중...');
     await delay(1000);
 
     try {
-        const response = await fetch(`/game/${gameState.gameId}/draw?playerId=${gameState.myPlayerId}`, {
+        const response = await fetch(withSince(`/game/${gameState.gameId}/draw?playerId=${gameState.myPlayerId}`), {
             method: 'POST'
         });
 
         if (!response.ok) throw new Error('카드를 뽑을 수 없습니다.');
 
-        const data = await response.json();
+        const data = await readJson(response);
+        applyStateResponse(data.gameState);
         hideLoading();
 
         addGameLog('카드를 뽑았습니다.');
@@ -291,7 +445,7 @@ function displayMyCards(allCards, playableCards, drawnCard) {
         }
 
         const img = document.createElement('img');
-        img.src = `/image/${card.number}.png`;
+        img.src = card.image;
         img.alt = card.name;
         cardEl.appendChild(img);
 
@@ -325,7 +479,7 @@ function displayRemainingCard(card) {
     cardEl.dataset.cardId = card.id;
 
     const img = document.createElement('img');
-    img.src = `/image/${card.number}.png`;
+    img.src = card.image;
     img.alt = card.name;
     cardEl.appendChild(img);
 
@@ -585,7 +739,8 @@ async function executeCardPlay(card, targetId, guessNumber) {
             guessNumber: guessNumber
         };
 
-        const response = await fetch(`/game/${gameState.gameId}/play`, {
+        // 카드 내기 + 이어지는 CPU 턴 + 다음 내 카드 뽑기를 한 요청으로 처리
+        const response = await fetch(withSince(`/game/${gameState.gameId}/turn?cpuTurns=true`), {
             method: 'POST',
             headers: {
                 'Content-Type': 'application/json'
@@ -595,7 +750,8 @@ async function executeCardPlay(card, targetId, guessNumber) {
 
         if (!response.ok) throw new Error('카드를 사용할 수 없습니다.');
 
-        const state = await response.json();
+        const data = await readJson(response);
+        const state = applyStateResponse(data.gameState);
         hideLoading();
 
         // 중앙 카드 영역에 표시
@@ -603,14 +759,23 @@ async function executeCardPlay(card, targetId, guessNumber) {
 
         addGameLog(`${card.name}을(를) 사용했습니다.`);
 
-        // 남은 카드 즉시 표시
-        const myPlayer = state.players.find(p => p.id === gameState.myPlayerId);
-        if (myPlayer && myPlayer.handCard && !state.roundOver) {
-            displayRemainingCard(myPlayer.handCard);
+        // 남은 카드 즉시 표시 (상태에는 CPU 턴 이후의 손패가 있으므로 서버가 따로 준 카드를 낸 직후의 손패로 표시.
+        // 장군이나 자신에게 쓴 마법사로 손패가 바뀌었을 수 있어 들고 있던 카드로 짐작하지 않는다)
+        const remainingCard = data.handCard;
+        if (remainingCard && !state.roundOver) {
+            displayRemainingCard(remainingCard);
         }
 
         await delay(1500);
 
+        // 서버에서 이미 진행된 CPU 턴 보여주기
+        for (const action of data.cpuActions || []) {
+            await animateCPUAction(action, state);
+        }
+
+        // 다시 내 차례면 미리 뽑아 둔 카드를 다음 턴에 사용
+        gameState.pendingDraw = data.drawnCard ? data : null;
+
         // 게임 UI 업데이트
         updateGameUI(state);
 
@@ -635,60 +800,56 @@ function waitForPlayerAction() {
     });
 }
 
-// CPU 턴 처리
-async function handleCPUTurn(cpuPlayer) {
-    addGameLog(`${cpuPlayer.name}의 턴입니다.`);
-    await delay(2000);
-
-    // CPU 카드 뽑기
-    addGameLog(`${cpuPlayer.name}가 카드를 뽑았습니다.`);
-    await delay(2000);
-
+// CPU 턴 처리: 서버가 사람 차례(또는 라운드 종료)까지 CPU 턴을 모두 진행하고, 진행한 행동을 순서대로 돌려준다
+async function handleCPUTurns() {
     try {
-        // CPU 행동 가져오기
-        const actionResponse = await fetch(`/game/${gameState.gameId}/cpu-turn?cpuPlayerId=${cpuPlayer.id}`);
-        if (!actionResponse.ok) throw new Error('CPU 행동을 가져올 수 없습니다.');
+        const response = await fetch(withSince(`/game/${gameState.gameId}/cpu-turns?playerId=${gameState.myPlayerId}`), {
+            method: 'POST'
+        });
+        if (!response.ok) throw new Error('CPU 턴을 진행할 수 없습니다.');
 
-        const action = await actionResponse.json();
+        const data = await readJson(response);
+        const state = applyStateResponse(data.gameState);
 
-        addGameLog(`${cpuPlayer.name}가 생각하는 중...`);
-        await delay(2000);
+        for (const action of data.actions) {
+            await animateCPUAction(action, state);
+        }
 
-        // CPU 행동 실행
-        const executeResponse = await fetch(`/game/${gameState.gameId}/cpu-turn`, {
-            method: 'POST',
-            headers: {
-                'Content-Type': 'application/json'
-            },
-            body: JSON.stringify(action)
-        });
+        updateGameUI(state);
 
-        if (!executeResponse.ok) throw new Error('CPU 행동을 실행할 수 없습니다.');
+    } catch (error) {
+        console.error('CPU 턴 오류:', error);
+        alert('CPU 턴 처리 중 오류가 발생했습니다.');
+    }
+}
 
-        const state = await executeResponse.json();
+// 서버에서 이미 진행된 CPU 행동 하나를 보여준다
+async function animateCPUAction(action, state) {
+    const cpuPlayer = state.players.find(p => p.id === action.playerId);
 
-        // 카드 표시
-        showCentralCard(action.cardToPlay);
+    addGameLog(`${cpuPlayer.name}의 턴입니다.`);
+    await delay(2000);
 
-        let logMessage = `${cpuPlayer.name}가 ${action.cardToPlay.name}을(를) 사용했습니다.`;
-        if (action.targetId) {
-            const target = state.players.find(p => p.id === action.targetId);
-            logMessage += ` (대상: ${target.name})`;
-        }
-        addGameLog(logMessage);
+    addGameLog(`${cpuPlayer.name}가 카드를 뽑았습니다.`);
+    await delay(2000);
 
-        if (action.reasoning) {
-            addGameLog(`사유: ${action.reasoning}`);
-        }
+    addGameLog(`${cpuPlayer.name}가 생각하는 중...`);
+    await delay(2000);
 
-        await delay(2000);
+    showCentralCard(action.cardToPlay);
 
-        updateGameUI(state);
+    let logMessage = `${cpuPlayer.name}가 ${action.cardToPlay.name}을(를) 사용했습니다.`;
+    if (action.targetId) {
+        const target = state.players.find(p => p.id === action.targetId);
+        logMessage += ` (대상: ${target.name})`;
+    }
+    addGameLog(logMessage);
 
-    } catch (error) {
-        console.error('CPU 턴 오류:', error);
-        alert('CPU 턴 처리 중 오류가 발생했습니다.');
+    if (action.reasoning) {
+        addGameLog(`사유: ${action.reasoning}`);
     }
+
+    await delay(2000);
 }
 
 // 중앙 카드 표시 (카드 더미로 겹쳐서 보여주기)
@@ -720,7 +881,7 @@ function showCentralCard(card) {
         }
 
         const img = document.createElement('img');
-        img.src = `/image/${discardedCard.number}.png`;
+        img.src = discardedCard.image;
         img.alt = discardedCard.name;
         cardEl.appendChild(img);
 
@@ -754,7 +915,7 @@ function showDiscardList() {
         item.className = 'discard-card-item';
 
         item.innerHTML = `
-            <img src="/image/${card.number}.png" alt="${card.name}">
+            <img src="${card.thumbnail}" alt="${card.name}">
             <div class="card-name">${card.name}</div>
         `;
 
@@ -788,7 +949,7 @@ async function handleRoundOver(state) {
             const item = document.createElement('div');
             item.className = 'final-card-item';
             item.innerHTML = `
-                <img src="/image/${player.handCard.number}.png" alt="${player.handCard.name}">
+                <img src="${player.handCard.thumbnail}" alt="${player.handCard.name}">
                 <div class="final-card-info">
                     <div class="player-name">${player.name}</div>
                     <div class="card-name">${player.handCard.name} (${player.handCard.number})</div>
@@ -837,13 +998,13 @@ async function startNextRound() {
     showLoading('다음 라운드를 준비하는 중...');
 
     try {
-        const response = await fetch(`/game/${gameState.gameId}/next-round`, {
+        const response = await fetch(withSince(`/game/${gameState.gameId}/next-round`), {
             method: 'POST'
         });
 
         if (!response.ok) throw new Error('다음 라운드를 시작할 수 없습니다.');
 
-        const state = await response.json();
+        const state = applyStateResponse(await readJson(response));
         hideLoading();
 
         gameState.roundOver = false;
@@ -0,0 +1,118 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AllocationTest {
+
+    private static final int ITERATIONS = 20_000;
+
+    // 같은 JVM에서 잰 두 값의 차이 허용치 (JIT/TLAB 오차). 리스트 복사 한 번만 생겨도 이보다 크다.
+    private static final long NOISE_BYTES = 128;
+
+    // 호출당 절대 할당량은 JVM마다 달라 여기서 고정하지 않는다. GameBenchmark의 gc.alloc.rate.norm으로 추적한다.
+    @Test
+    void testAIDecisionAllocationDoesNotGrowWithHistory() {
+        assertTrue(isSupported(), "스레드별 할당량을 잴 수 있는 JVM이어야 합니다.");
+
+        AIService aiService = new AIService();
+        Card drawnCard = new Card(CardType.PRIEST, "test-priest");
+        long shortHistory = measureDecision(aiService, midRoundGame(2, 20), drawnCard);
+        long longHistory = measureDecision(aiService, midRoundGame(12, 500), drawnCard);
+
+        // 버린 카드나 로그를 복사하면 기록이 길수록 할당량이 늘어난다
+        assertTrue(longHistory <= shortHistory + NOISE_BYTES,
+            "decideCPUAction 할당량이 기록 길이에 따라 늘면 안 됩니다: " + shortHistory + " -> " + longHistory);
+    }
+
+    @Test
+    void testStateRenderAllocationDoesNotGrowWithLog() {
+        assertTrue(isSupported(), "스레드별 할당량을 잴 수 있는 JVM이어야 합니다.");
+
+        Game shortLog = midRoundGame(2, 20);
+        Game longLog = midRoundGame(2, 500);
+        long shortBytes = measure(() -> GameState.fromGame(shortLog, "player-human"));
+        long longBytes = measure(() -> GameState.fromGame(longLog, "player-human"));
+
+        // 최근 로그 5개만 복사해야 한다 (전체 로그를 복사하면 로그 길이에 비례)
+        assertTrue(longBytes <= shortBytes + NOISE_BYTES,
+            "GameState.fromGame 할당량이 로그 길이에 따라 늘면 안 됩니다: " + shortBytes + " -> " + longBytes);
+    }
+
+    @Test
+    void testReadAccessorsDoNotAllocate() {
+        assertTrue(isSupported(), "스레드별 할당량을 잴 수 있는 JVM이어야 합니다.");
+
+        Game game = midRoundGame(2, 20);
+        Player current = game.getCurrentPlayer();
+        int[] sink = {0};
+
+        long bytes = measure(() -> {
+            int sum = game.getPlayers().size() + game.getDiscardPile().size() + game.getAliveCount()
+                + game.countTargetablePlayers(current);
+            for (int p = 0; p < game.getPlayerCount(); p++) {
+                Player player = game.getPlayerAt(p);
+                sum += player.getDiscardedCards().size();
+                for (int i = 0; i < player.getDiscardedCount(); i++) {
+                    sum += player.getDiscardedCard(i).getNumber();
+                }
+                sum += player.getLastDiscardedCard().getNumber();
+            }
+            sink[0] += sum;
+        });
+
+        assertEquals(0, bytes, "읽기 접근자는 호출할 때 객체를 만들면 안 됩니다.");
+    }
+
+    // 플레이어마다 discards장을 버리고 로그가 logs줄 쌓인 중반 상황
+    private Game midRoundGame(int discards, int logs) {
+        Game game = new GameService(new CardService()).createGame(3);
+        for (Player player : game.getPlayers()) {
+            for (int i = 0; i < discards; i++) {
+                CardType type = i % 2 == 0 ? CardType.PRIEST : CardType.HANDMAID;
+                player.addDiscardedCard(new Card(type, "d-" + i + "-" + player.getId()));
+            }
+        }
+        for (int i = 0; i < logs; i++) {
+            game.addLog("로그 " + i);
+        }
+        return game;
+    }
+
+    private long measureDecision(AIService aiService, Game game, Card drawnCard) {
+        Player cpu = game.getPlayers().get(1);
+        cpu.setHandCard(new Card(CardType.GUARD, "test-guard"));
+        return measure(() -> aiService.decideCPUAction(game, cpu, drawnCard));
+    }
+
+    private long measure(Runnable action) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();  // 워밍업
+        }
+        long before = allocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        return (allocatedBytes() - before) / ITERATIONS;
+    }
+
+    private boolean isSupported() {
+        return ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean;
+    }
+
+    private long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return bean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+}
@@ -0,0 +1,103 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.service.AsyncLogSink;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLogSinkTest {
+
+    @Test
+    void testMessagesAreWrittenInOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = AsyncLogSink.console(100, 10, new PrintStream(bytes, true, StandardCharsets.UTF_8));
+
+        sink.offer("[게임 로그] ", "첫 번째");
+        sink.offerFormatted("[AI] ", "%s가 %d번 카드 지목", "CPU 1", 3);
+        sink.close();
+
+        assertEquals("[게임 로그] 첫 번째\n[AI] CPU 1가 3번 카드 지목\n", bytes.toString(StandardCharsets.UTF_8));
+        assertEquals(2, sink.getQueuedCount());
+        assertEquals(2, sink.getWrittenCount());
+        assertEquals(0, sink.getDroppedCount());
+    }
+
+    @Test
+    void testFullQueueDropsNewMessages() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // 첫 출력에서 멈춰서 큐가 비워지지 않게 함
+        OutputStream blocking = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        AsyncLogSink sink = AsyncLogSink.console(2, 1, new PrintStream(blocking));
+
+        assertTrue(sink.offer("", "출력 중"));
+        writing.await();
+        assertTrue(sink.offer("", "대기 1"));
+        assertTrue(sink.offer("", "대기 2"));
+        assertFalse(sink.offer("", "버려짐"));
+
+        assertEquals(3, sink.getQueuedCount());
+        assertEquals(1, sink.getDroppedCount());
+
+        release.countDown();
+        sink.close();
+        assertEquals(3, sink.getWrittenCount());
+    }
+
+    @Test
+    void testFileRollsOverAtSizeLimit(@TempDir Path dir) throws Exception {
+        Path path = dir.resolve("game.log");
+        AsyncLogSink sink = AsyncLogSink.file(path, 20, 2, 100, 1);
+
+        for (int i = 0; i < 5; i++) {
+            sink.offer("", "로그 메시지 " + i);
+        }
+        sink.close();
+
+        assertEquals(5, sink.getWrittenCount());
+        assertTrue(Files.exists(path));
+        assertTrue(Files.exists(dir.resolve("game.log.1")));
+        assertTrue(Files.exists(dir.resolve("game.log.2")));
+        assertFalse(Files.exists(dir.resolve("game.log.3")));
+        assertEquals("로그 메시지 4\n", Files.readString(path));
+    }
+
+    @Test
+    void testGameLogIsHandedToSink() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        AsyncLogSink sink = AsyncLogSink.console(1000, 50, new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        gameService.setLogSink(sink);
+
+        Game game = gameService.createGame(1);
+        sink.close();
+
+        String output = bytes.toString(StandardCharsets.UTF_8);
+        assertTrue(output.startsWith("[게임 로그] "));
+        assertEquals(game.getEventLog().getTotalCount(), sink.getWrittenCount());
+    }
+}
@@ -0,0 +1,71 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CardCatalog;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCatalogTest {
+
+    @Test
+    void testCatalogCoversEveryCardCode() {
+        List<CardCatalog.Entry> entries = CardCatalog.entries();
+        assertEquals(CompactGame.DECK_SIZE, entries.size());
+
+        for (int code = 0; code < entries.size(); code++) {
+            CardCatalog.Entry entry = entries.get(code);
+            Card card = Card.fromCode(code);
+            assertEquals(code, entry.code());
+            assertEquals(card.getId(), entry.id());
+            assertEquals(card.getType(), entry.type());
+            assertEquals(card.getDescription(), entry.description());
+            // 빌드 때 만든 이미지가 있으면 그 주소, 없으면 원본
+            assertTrue(entry.image().startsWith("/assets/cards/" + card.getNumber() + ".")
+                || entry.image().equals("/image/" + card.getNumber() + ".png"), entry.image());
+            assertNotNull(entry.thumbnail());
+        }
+        assertTrue(CardCatalog.etag().startsWith("\"cards-"));
+    }
+
+    @Test
+    void testSameNumberSharesImagesAndSprite() {
+        for (CardCatalog.Entry entry : CardCatalog.entries()) {
+            CardCatalog.Entry first = CardCatalog.entries().stream()
+                .filter(other -> other.number() == entry.number())
+                .findFirst().orElseThrow();
+            assertEquals(first.image(), entry.image());
+            assertEquals(first.thumbnail(), entry.thumbnail());
+            assertEquals(first.sprite(), entry.sprite());
+
+            if (CardCatalog.atlas() == null) {
+                assertNull(entry.sprite(), "묶음 이미지가 없으면 위치도 없어야 합니다.");
+            } else {
+                assertEquals(CardCatalog.atlas(), entry.sprite().atlas());
+                assertTrue(entry.sprite().width() > 0 && entry.sprite().height() > 0);
+            }
+        }
+    }
+
+    @Test
+    void testGameCardsResolveThroughCodes() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(3);
+
+        for (Player player : game.getPlayers()) {
+            Card hand = player.getHandCard();
+            assertEquals(hand, Card.fromCode(hand.getCode()), "응답의 코드로 같은 카드를 찾을 수 있어야 합니다.");
+        }
+        for (Card card : game.getDeck()) {
+            assertEquals(card.getType(), CardCatalog.entries().get(card.getCode()).type());
+        }
+        assertThrows(IllegalArgumentException.class, () -> Card.fromCode(CompactGame.DECK_SIZE));
+    }
+}
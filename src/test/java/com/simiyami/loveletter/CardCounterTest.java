@@ -0,0 +1,58 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CardCounter;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CardCounterTest {
+
+    @Test
+    void testCountsMatchDiscardPileThroughoutGame() {
+        GameService gameService = new GameService(new CardService());
+        AIService aiService = new AIService();
+
+        for (long seed = 0; seed < 100; seed++) {
+            Game game = gameService.createGame(3, seed);
+            assertCountsMatch(game);
+
+            while (!game.isRoundOver()) {
+                Player player = game.getCurrentPlayer();
+                Card drawn = gameService.drawCardForPlayer(game, player);
+                if (drawn == null) {
+                    break;
+                }
+                CPUAction action = aiService.decideCPUAction(game, player, drawn);
+                Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+                gameService.playCard(game, player, action.getCardToPlay(), target, action.getGuessNumber());
+                assertCountsMatch(game);
+                if (!game.isRoundOver()) {
+                    gameService.nextTurn(game);
+                }
+            }
+
+            gameService.startNextRound(game);
+            assertEquals(CardType.GUARD.getCount(), game.getCardCounter().getUnseen(CardType.GUARD));
+            assertCountsMatch(game);
+        }
+    }
+
+    private void assertCountsMatch(Game game) {
+        int[] revealed = new int[9];
+        for (Card card : game.getDiscardPile()) {
+            revealed[card.getNumber()]++;
+        }
+        for (CardType type : CardType.values()) {
+            assertEquals(type.getCount() - revealed[type.getNumber()], game.getCardCounter().getUnseen(type),
+                type + " 남은 수");
+        }
+    }
+}
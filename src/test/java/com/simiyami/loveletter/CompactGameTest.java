@@ -0,0 +1,189 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.CompactPolicy;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactGameTest {
+
+    @Test
+    void testRoundTripConversion() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(3);
+
+        CompactGame compact = CompactGame.fromGame(game);
+        assertEquals(4, compact.getPlayerCount());
+        assertEquals(11, compact.getDeckCount(), "덱에 11장이 있어야 합니다 (16 - 1 비밀 - 4 초기).");
+        assertEquals(game.getSecretCard().getNumber(), CompactGame.cardNumber(compact.getSecretCard()));
+
+        Game restored = compact.toGame(game.getId(), copyPlayers(game));
+        assertEquals(compact, CompactGame.fromGame(restored));
+        assertEquals(game.getDeck().peekFirst(), restored.getDeck().peekFirst());
+        assertEquals(game.getPlayers().get(2).getHandCard(), restored.getPlayers().get(2).getHandCard());
+    }
+
+    @Test
+    void testRuleParityWithGameService() {
+        System.out.println("=== 압축 상태 규칙 동일성 테스트 ===\n");
+
+        SplittableRandom random = new SplittableRandom(42);
+        int rounds = 0;
+
+        for (int cpuCount = 1; cpuCount <= 3; cpuCount++) {
+            for (int i = 0; i < 300; i++) {
+                GameService gameService = new GameService(new CardService());
+                Game game = gameService.createGame(cpuCount);
+                CompactGame compact = CompactGame.fromGame(game);
+                playInLockstep(gameService, game, compact, random);
+                rounds++;
+            }
+        }
+
+        System.out.println("동일하게 진행된 라운드 수: " + rounds);
+    }
+
+    @Test
+    void testPolicyDecisionsMatchGameService() {
+        // 시뮬레이션 COMPACT 엔진이 쓰는 정책의 결정을 CardService에도 그대로 적용해 상태가 같은지 확인
+        SplittableRandom random = new SplittableRandom(11);
+        CompactPolicy policy = new CompactPolicy();
+
+        for (int cpuCount = 1; cpuCount <= 3; cpuCount++) {
+            for (int i = 0; i < 300; i++) {
+                GameService gameService = new GameService(new CardService());
+                Game game = gameService.createGame(cpuCount);
+                CompactGame compact = CompactGame.fromGame(game);
+
+                int turns = 0;
+                while (!game.isRoundOver() && turns++ < 30) {
+                    Player player = game.getCurrentPlayer();
+                    int seat = game.getCurrentPlayerIndex();
+                    Card drawn = gameService.drawCardForPlayer(game, player);
+                    compact.draw(seat);
+                    if (drawn == null) {
+                        break;
+                    }
+
+                    policy.decide(compact, seat, random);
+                    Card cardToPlay = policy.getCard() == cardIndexOf(drawn) ? drawn : player.getHandCard();
+                    assertEquals(policy.getCard(), cardIndexOf(cardToPlay));
+                    Player target = policy.getTarget() != CompactGame.NONE ? game.getPlayers().get(policy.getTarget()) : null;
+
+                    gameService.playCard(game, player, cardToPlay, target, policy.getGuess());
+                    compact.play(seat, policy.getCard(), policy.getTarget(), policy.getGuess());
+                    if (!game.isRoundOver()) {
+                        gameService.nextTurn(game);
+                        compact.nextTurn();
+                    }
+                    assertEquals(CompactGame.fromGame(game), compact, "정책대로 낸 뒤 상태가 같아야 합니다: " + cardToPlay);
+                }
+                assertEquals(game.isRoundOver(), compact.isRoundOver());
+            }
+        }
+    }
+
+    @Test
+    void testSimulationWithoutGameObjects() {
+        SplittableRandom random = new SplittableRandom(7);
+        CompactGame compact = new CompactGame(4);
+        int[] wins = new int[4];
+
+        for (int round = 0; round < 10_000; round++) {
+            compact.startRound(random);
+            while (!compact.isRoundOver()) {
+                int player = compact.getCurrentPlayer();
+                int drawn = compact.draw(player);
+                if (drawn == CompactGame.NONE) {
+                    break;
+                }
+                int card = random.nextBoolean() ? drawn : compact.getHandCard(player);
+                int target = CompactGame.NONE;
+                for (int t = 0; t < compact.getPlayerCount(); t++) {
+                    if (compact.isTargetable(player, t)) {
+                        target = t;
+                        break;
+                    }
+                }
+                compact.play(player, card, target, 2 + random.nextInt(7));
+                if (!compact.isRoundOver()) {
+                    compact.nextTurn();
+                }
+            }
+            if (compact.getRoundWinner() != CompactGame.NONE) {
+                wins[compact.getRoundWinner()]++;
+            }
+        }
+
+        int total = 0;
+        for (int i = 0; i < 4; i++) {
+            total += compact.getRoundsWon(i);
+            assertEquals(wins[i], compact.getRoundsWon(i));
+        }
+        assertTrue(total > 9_000, "대부분의 라운드에서 승자가 나와야 합니다.");
+    }
+
+    private void playInLockstep(GameService gameService, Game game, CompactGame compact, SplittableRandom random) {
+        int turns = 0;
+        while (!game.isRoundOver() && turns++ < 30) {
+            Player player = game.getCurrentPlayer();
+            int seat = game.getCurrentPlayerIndex();
+            assertEquals(seat, compact.getCurrentPlayer());
+
+            Card drawn = gameService.drawCardForPlayer(game, player);
+            int compactDrawn = compact.draw(seat);
+            assertEquals(CompactGame.fromGame(game), compact, "드로우 후 상태가 같아야 합니다.");
+            if (drawn == null) {
+                assertEquals(CompactGame.NONE, compactDrawn);
+                break;
+            }
+
+            Card cardToPlay = random.nextBoolean() ? drawn : player.getHandCard();
+            int compactCard = cardIndexOf(cardToPlay);
+
+            List<Player> players = game.getPlayers();
+            Player target = null;
+            int compactTarget = CompactGame.NONE;
+            if (cardToPlay.getType().requiresTarget() && random.nextInt(10) > 0) {
+                int t = random.nextInt(players.size());
+                if (players.get(t).isAlive() && (players.get(t) != player || cardToPlay.getType().canTargetSelf())) {
+                    target = players.get(t);
+                    compactTarget = t;
+                }
+            }
+            int guess = 2 + random.nextInt(7);
+
+            gameService.playCard(game, player, cardToPlay, target, guess);
+            compact.play(seat, compactCard, compactTarget, guess);
+
+            if (!game.isRoundOver()) {
+                gameService.nextTurn(game);
+                compact.nextTurn();
+            }
+            assertEquals(CompactGame.fromGame(game), compact, "카드 사용 후 상태가 같아야 합니다: " + cardToPlay);
+        }
+        assertEquals(game.isRoundOver(), compact.isRoundOver());
+    }
+
+    private int cardIndexOf(Card card) {
+        return Integer.parseInt(card.getId().substring("card-".length()));
+    }
+
+    private List<Player> copyPlayers(Game game) {
+        List<Player> players = new ArrayList<>();
+        for (Player player : game.getPlayers()) {
+            players.add(new Player(player.getId(), player.getName(), player.getType()));
+        }
+        return players;
+    }
+}
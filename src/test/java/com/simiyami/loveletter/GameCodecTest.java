@@ -0,0 +1,126 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameCodec;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameCodecTest {
+
+    private final GameService gameService = new GameService(new CardService());
+    private final AIService aiService = new AIService();
+
+    // AI로 한 턴 진행. 라운드가 끝나 있으면 다음 라운드 시작 (셔플 난수 사용)
+    private void step(Game game) {
+        if (game.isRoundOver()) {
+            gameService.startNextRound(game);
+            return;
+        }
+        Player player = game.getCurrentPlayer();
+        Card drawn = gameService.drawCardForPlayer(game, player);
+        if (drawn == null) {
+            return;
+        }
+        CPUAction action = aiService.decideCPUAction(game, player, drawn);
+        Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+        gameService.playCard(game, player, action.getCardToPlay(), target, action.getGuessNumber());
+        if (!game.isRoundOver()) {
+            gameService.nextTurn(game);
+        }
+    }
+
+    private static Game roundTrip(Game game) {
+        return GameCodec.decode(ByteBuffer.wrap(GameCodec.encode(game)), 100);
+    }
+
+    @Test
+    void testRestoredGameContinuesIdentically() {
+        for (long seed = 0; seed < 40; seed++) {
+            Game original = gameService.createGame(1 + (int) (seed % 3), seed);
+            for (int i = 0; i < seed % 7; i++) {
+                step(original);
+            }
+
+            Game restored = roundTrip(original);
+            assertArrayEquals(GameCodec.encode(original), GameCodec.encode(restored), "시드 " + seed);
+
+            // 복원 후에도 AI 결정, 다음 라운드 셔플까지 같게 진행됨
+            for (int i = 0; i < 30; i++) {
+                step(original);
+                step(restored);
+                assertArrayEquals(GameCodec.encode(original), GameCodec.encode(restored), "시드 " + seed + ", " + i + "턴 후");
+            }
+        }
+    }
+
+    @Test
+    void testRestoresHiddenAndPlayerState() {
+        Game game = gameService.createGame(3, 5L);
+        Player human = game.getPlayers().get(0);
+        Player cpu = game.getPlayers().get(2);
+        human.rememberOpponentCard(cpu.getId(), cpu.getHandCard().getType());
+        game.getHandBeliefs().onHandRevealed(0, 2, cpu.getHandCard().getNumber());
+        game.getPlayers().get(1).setProtected(true);
+        game.getPlayers().get(3).eliminate("테스트 탈락");
+
+        Game restored = roundTrip(game);
+        assertEquals(CompactGame.fromGame(game), CompactGame.fromGame(restored));
+        assertEquals(game.getSecretCard(), restored.getSecretCard());
+        assertEquals(cpu.getHandCard().getType(), restored.getPlayers().get(0).getKnownOpponentCard(cpu.getId()));
+        assertEquals(cpu.getHandCard().getNumber(), restored.getHandBeliefs().getKnownNumber(0, 2));
+        assertTrue(restored.getPlayers().get(1).isProtected());
+        assertFalse(restored.getPlayers().get(3).isAlive());
+        assertEquals("테스트 탈락", restored.getPlayers().get(3).getEliminationReason());
+        assertEquals(game.getVersion(), restored.getVersion());
+    }
+
+    @Test
+    void testViewReadsWithoutDecoding() {
+        Game game = gameService.createGame(2, 11L);
+        step(game);
+        gameService.execute(game.getId(), g -> null);
+
+        byte[] encoded = GameCodec.encode(game);
+        ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 4);
+        direct.putInt(7).put(encoded).flip().position(4);
+
+        GameCodec.View view = GameCodec.view(direct);
+        assertEquals(4, direct.position(), "뷰는 버퍼 위치를 바꾸지 않아야 합니다.");
+        assertEquals(game.getId(), view.getGameId());
+        assertEquals(game.getVersion(), view.getVersion());
+        assertEquals(3, view.getPlayerCount());
+        assertEquals(game.getDeck().size(), view.getDeckSize());
+        assertEquals(game.getCurrentPlayerIndex(), view.getCurrentPlayerIndex());
+        assertEquals(game.getCurrentRound(), view.getCurrentRound());
+        for (int seat = 0; seat < 3; seat++) {
+            Player player = game.getPlayers().get(seat);
+            assertEquals(player.getHandCard() != null ? player.getHandCard().getId() : null,
+                view.getHandCard(seat) != CompactGame.NONE ? "card-" + view.getHandCard(seat) : null);
+            assertEquals(player.isAlive(), view.isAlive(seat));
+        }
+
+        // 뷰가 아닌 전체 복원도 같은 버퍼에서 바로 읽을 수 있음
+        assertEquals(CompactGame.fromGame(game), CompactGame.fromGame(GameCodec.decode(direct, 100)));
+    }
+
+    @Test
+    void testCardsAreEncodedAsIndexes() {
+        Game game = gameService.createGame(3, 3L);
+        byte[] encoded = GameCodec.encode(game);
+
+        assertFalse(new String(encoded, StandardCharsets.ISO_8859_1).contains("card-"));
+        assertTrue(encoded.length < 512, "4인 게임 전체 상태가 512바이트 미만이어야 합니다: " + encoded.length);
+        assertTrue(encoded.length <= GameCodec.maxEncodedSize(game));
+    }
+}
@@ -1,10 +1,14 @@
 package com.simiyami.loveletter;
 
+import com.simiyami.loveletter.dto.CPUAction;
 import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.enums.PlayerType;
 import com.simiyami.loveletter.model.Card;
 import com.simiyami.loveletter.model.Game;
 import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
 import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
 import com.simiyami.loveletter.service.GameService;
 import org.junit.jupiter.api.Test;
 
@@ -186,4 +190,114 @@ class GameFlowTest {
         System.out.println("사제 보호 로직 정상 작동!");
         System.out.println("=== 사제 보호 테스트 완료 ===");
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCPUTurnsRunUntilHumanTurn() {
+        GameService gameService = new GameService(new CardService());
+        AIService aiService = new AIService();
+        Game game = gameService.createGame(3, 11L);
+        Player human = game.getPlayer("player-human");
+
+        while (!game.isRoundOver()) {
+            if (game.getCurrentPlayer() == human) {
+                // 사람 차례는 AI로 대신 진행
+                Card drawnCard = gameService.drawCardForPlayer(game, human);
+                if (drawnCard == null) {
+                    break;
+                }
+                CPUAction action = aiService.decideCPUAction(game, human, drawnCard);
+                Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+                gameService.playCard(game, human, action.getCardToPlay(), target, action.getGuessNumber());
+                if (!game.isRoundOver()) {
+                    gameService.nextTurn(game);
+                }
+                continue;
+            }
+
+            int discardsBefore = game.getDiscardPile().size();
+            List<CPUAction> actions = gameService.playCPUTurns(game, aiService);
+
+            assertFalse(actions.isEmpty(), "CPU 차례였으면 한 번 이상 진행해야 합니다.");
+            assertTrue(game.isRoundOver() || game.getCurrentPlayer() == human,
+                "사람 차례가 오거나 라운드가 끝날 때까지 진행해야 합니다.");
+            for (CPUAction action : actions) {
+                assertEquals(PlayerType.CPU, game.getPlayer(action.getPlayerId()).getType());
+                assertTrue(game.getDiscardPile().contains(action.getCardToPlay()));
+            }
+            assertTrue(game.getDiscardPile().size() >= discardsBefore + actions.size());
+        }
+        assertTrue(game.isRoundOver());
+    }
+
+    @Test
+    void testPlayTurnDrawsAndValidatesCard() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(1, 21L);
+        Player current = game.getCurrentPlayer();
+        Player other = game.getPlayers().get(0) == current ? game.getPlayers().get(1) : game.getPlayers().get(0);
+
+        assertThrows(IllegalStateException.class,
+            () -> gameService.playTurn(game, other, other.getHandCard().getId(), null, null),
+            "자기 차례가 아니면 낼 수 없어야 합니다.");
+
+        // 후작과 왕자를 함께 들면 후작만 낼 수 있음
+        Card countess = new Card(CardType.COUNTESS, "test-countess");
+        Card prince = new Card(CardType.PRINCE, "test-prince");
+        current.setHandCard(countess);
+        current.setDrawnCard(prince);
+        assertThrows(IllegalStateException.class,
+            () -> gameService.playTurn(game, current, prince.getId(), other, null));
+        assertSame(prince, current.getDrawnCard(), "거절되면 뽑은 카드가 그대로 남아야 합니다.");
+
+        assertTrue(gameService.playTurn(game, current, countess.getId(), null, null));
+        assertTrue(current.getDiscardedCards().contains(countess));
+        assertSame(prince, current.getHandCard());
+        assertSame(other, game.getCurrentPlayer());
+
+        // 뽑지 않은 상태에서도 손패를 골라 한 번에 진행
+        int deckSize = game.getDeck().size();
+        Card handCard = other.getHandCard();
+        if (handCard.getType() != CardType.PRINCESS && !other.mustPlayCountess()) {
+            assertTrue(gameService.playTurn(game, other, handCard.getId(), current, 2));
+            assertEquals(deckSize - 1, game.getDeck().size());
+            assertTrue(other.getDiscardedCards().contains(handCard));
+        }
+    }
+
+    @Test
+    void testRejectedTurnLeavesVersionAndDeckUnchanged() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        String gameId = gameService.createGame(1, 21L).getId();
+        Card guard = new Card(CardType.GUARD, "test-guard");
+        gameService.executeAndPublish(gameId, g -> {
+            g.getCurrentPlayer().setHandCard(guard);
+            return null;
+        });
+        long version = gameService.getSnapshot(gameId).getVersion();
+        Card topCard = gameService.execute(gameId, Game::peekCard);
+        int deckSize = gameService.execute(gameId, g -> g.getDeck().size());
+
+        // 없는 카드, 범위 밖 추측, 자기 자신 지목 모두 뽑기 전에 거절
+        assertThrows(IllegalStateException.class, () -> gameService.executeAndPublish(gameId,
+            g -> gameService.playTurn(g, g.getCurrentPlayer(), "card-99", null, null)));
+        assertThrows(IllegalArgumentException.class, () -> gameService.executeAndPublish(gameId,
+            g -> gameService.playTurn(g, g.getCurrentPlayer(), guard.getId(), opponentOf(g), 9)));
+        assertThrows(IllegalArgumentException.class, () -> gameService.executeAndPublish(gameId,
+            g -> gameService.playTurn(g, g.getCurrentPlayer(), guard.getId(), g.getCurrentPlayer(), 2)));
+
+        assertEquals(version, gameService.getSnapshot(gameId).getVersion(), "거절된 턴은 새 버전을 만들지 않아야 합니다.");
+        assertEquals(deckSize, (int) gameService.execute(gameId, g -> g.getDeck().size()));
+        assertSame(topCard, gameService.execute(gameId, Game::peekCard));
+        assertNull(gameService.execute(gameId, g -> g.getCurrentPlayer().getDrawnCard()));
+
+        assertTrue(gameService.executeAndPublish(gameId,
+            g -> gameService.playTurn(g, g.getCurrentPlayer(), guard.getId(), opponentOf(g), 2)).result());
+        assertEquals(deckSize - 1, (int) gameService.execute(gameId, g -> g.getDeck().size()));
+        assertTrue(gameService.getSnapshot(gameId).getVersion() > version);
+    }
+
+    private Player opponentOf(Game game) {
+        Player current = game.getCurrentPlayer();
+        return game.getPlayers().get(0) == current ? game.getPlayers().get(1) : game.getPlayers().get(0);
+    }
+}
@@ -0,0 +1,151 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameJournal;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameJournalTest {
+
+    private static final long SEGMENT_BYTES = 64 * 1024;
+
+    private static GameService newService() {
+        return new GameService(new CardService(), new GameRegistry(100, 60_000));
+    }
+
+    // CPU 턴, 사람 턴(AI가 대신 결정), CPU 턴을 명령 세 번으로 진행
+    private static Game playSomeTurns(GameService gameService, int cpuCount) {
+        Game game = gameService.createGame(cpuCount, 42 + cpuCount);
+        AIService aiService = new AIService();
+        gameService.execute(game.getId(), g -> gameService.playCPUTurns(g, aiService));
+        gameService.execute(game.getId(), g -> {
+            Player human = g.getCurrentPlayer();
+            if (g.isRoundOver() || human == null) {
+                return false;
+            }
+            Card drawn = gameService.drawCardForPlayer(g, human);
+            if (drawn == null) {
+                return false;
+            }
+            CPUAction action = aiService.decideCPUAction(g, human, drawn);
+            Player target = action.getTargetId() != null ? g.getPlayer(action.getTargetId()) : null;
+            return gameService.playTurn(g, human, action.getCardToPlay().getId(), target, action.getGuessNumber());
+        });
+        gameService.execute(game.getId(), g -> gameService.playCPUTurns(g, aiService));
+        return game;
+    }
+
+    private static List<String> files(Path dir, String prefix) throws IOException {
+        try (Stream<Path> list = Files.list(dir)) {
+            return list.map(p -> p.getFileName().toString()).filter(n -> n.startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    @Test
+    void testRecoversGamesAfterRestart(@TempDir Path dir) {
+        GameService before = newService();
+        GameJournal journal = GameJournal.open(dir, before, SEGMENT_BYTES, 64, 60_000);
+        Game first = playSomeTurns(before, 1);
+        Game second = playSomeTurns(before, 3);
+        journal.close();
+        // 바뀐 것이 없는 명령(사람 차례라 진행할 CPU 턴이 없음 등)은 게시하지 않으므로 게시된 버전마다 하나씩
+        assertEquals(first.getVersion() + second.getVersion(), journal.getRecordCount(),
+            "게임 생성과 상태를 바꾼 명령마다 하나씩 기록해야 합니다.");
+        assertTrue(journal.getSyncCount() <= journal.getRecordCount());
+
+        GameService after = newService();
+        GameJournal reopened = GameJournal.open(dir, after, SEGMENT_BYTES, 64, 60_000);
+        assertEquals(2, reopened.getRecoveredGameCount());
+
+        for (Game original : List.of(first, second)) {
+            assertEquals(CompactGame.fromGame(original), after.execute(original.getId(), CompactGame::fromGame));
+            GameSnapshot restored = after.getSnapshot(original.getId());
+            // 기록된 마지막 버전 다음 번호로 복구 안내 로그가 추가된 상태를 게시 (예전 ETag로는 304가 되지 않음)
+            assertEquals(original.getVersion() + 1, restored.getVersion(), "복구 후 버전은 기록된 버전 + 1이어야 합니다.");
+            assertEquals(original.getCurrentPlayer().getId(), restored.getCurrentPlayerId());
+        }
+
+        // 복구된 게임도 계속 진행되고 다시 기록됨
+        after.execute(first.getId(), g -> after.drawCardForPlayer(g, g.getCurrentPlayer()));
+        reopened.close();
+        // 상태를 읽기만 한 명령은 기록되지 않음
+        assertEquals(1, reopened.getRecordCount());
+    }
+
+    @Test
+    void testSnapshotRemovesOlderSegments(@TempDir Path dir) throws Exception {
+        GameService gameService = newService();
+        GameJournal journal = GameJournal.open(dir, gameService, 4096, 8, 0);
+        for (int i = 0; i < 20; i++) {
+            playSomeTurns(gameService, 2);
+        }
+        journal.close();
+
+        assertTrue(journal.getSnapshotCount() >= 1);
+        assertEquals(1, files(dir, "snapshot-").size(), "마지막 스냅샷만 남아야 합니다.");
+        // 스냅샷 이후에 시작한 세그먼트만 남음
+        String snapshot = files(dir, "snapshot-").get(0);
+        for (String segment : files(dir, "journal-")) {
+            assertTrue(segment.substring("journal-".length()).compareTo(snapshot.substring("snapshot-".length())) >= 0,
+                segment + "는 " + snapshot + " 이후 세그먼트여야 합니다.");
+        }
+
+        GameJournal reopened = GameJournal.open(dir, newService(), 4096, 8, 60_000);
+        assertEquals(20, reopened.getRecoveredGameCount());
+        reopened.close();
+    }
+
+    @Test
+    void testRecoversFromSegmentsAfterCrash(@TempDir Path dir) throws Exception {
+        Path live = Files.createDirectories(dir.resolve("live"));
+        Path crashed = Files.createDirectories(dir.resolve("crashed"));
+        GameService gameService = newService();
+        GameJournal journal = GameJournal.open(live, gameService, SEGMENT_BYTES, 64, 60_000);
+        Game game = playSomeTurns(gameService, 1);
+
+        // 기록이 디스크에 반영된 시점의 파일을 복사해 종료 처리(스냅샷) 없이 멈춘 상태를 만듦
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (journal.getRecordCount() < game.getVersion() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        for (String name : files(live, "journal-")) {
+            Files.copy(live.resolve(name), crashed.resolve(name));
+        }
+        journal.close();
+
+        // 마지막 기록 뒤에 쓰다 만 기록을 덧붙임
+        Path segment = crashed.resolve(files(crashed, "journal-").get(0));
+        byte[] bytes = Files.readAllBytes(segment);
+        int end = 0;
+        while (ByteBuffer.wrap(bytes, end, 4).getInt() != 0) {
+            end += 8 + ByteBuffer.wrap(bytes, end, 4).getInt();
+        }
+        ByteBuffer.wrap(bytes, end, 8).putInt(100).putInt(12345);
+        Files.write(segment, bytes);
+
+        GameService after = newService();
+        GameJournal reopened = GameJournal.open(crashed, after, SEGMENT_BYTES, 64, 60_000);
+        assertEquals(game.getVersion(), reopened.getReplayedRecordCount(), "손상된 기록 앞까지만 읽어야 합니다.");
+        assertEquals(1, reopened.getRecoveredGameCount());
+        assertEquals(CompactGame.fromGame(game), after.execute(game.getId(), CompactGame::fromGame));
+        reopened.close();
+    }
+}
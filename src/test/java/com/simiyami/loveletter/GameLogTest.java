@@ -0,0 +1,74 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.enums.PlayerType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameEvent;
+import com.simiyami.loveletter.model.GameLog;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameLogTest {
+
+    @Test
+    void testRingBufferKeepsOnlyRecentEvents() {
+        GameLog log = new GameLog(3);
+        for (int i = 1; i <= 5; i++) {
+            log.add(GameEvent.notice("로그 " + i));
+        }
+
+        assertEquals(3, log.size());
+        assertEquals(5, log.getTotalCount());
+        assertEquals(List.of("로그 3", "로그 4", "로그 5"), log.render());
+        assertEquals("로그 5", log.getLast().render());
+
+        List<GameEvent> recent = log.recent(2);
+        assertEquals("로그 4", recent.get(0).render());
+        assertEquals("로그 5", recent.get(1).render());
+    }
+
+    @Test
+    void testEventsRenderSameTextAsBefore() {
+        Player cpu = new Player("player-cpu-1", "CPU 1", PlayerType.CPU);
+        Player human = new Player("player-human", "당신", PlayerType.HUMAN);
+        Card guard = new Card(CardType.GUARD, "card-0");
+
+        assertEquals("CPU 1가 경비병를 사용했습니다.",
+            GameEvent.of(GameEvent.Type.CARD_PLAYED, cpu, guard).render());
+        assertEquals("CPU 1가 당신의 카드를 5번으로 추측했습니다.",
+            GameEvent.guardGuessed(cpu, human, 5).render());
+        assertEquals("CPU 1(3) vs 당신(6)",
+            GameEvent.baronCompared(cpu, 3, human, 6).render());
+        assertEquals("CPU 1가 당신의 카드를 확인했습니다: 1-경비병",
+            GameEvent.of(GameEvent.Type.PRIEST_PEEKED, cpu, human, guard).render());
+        assertEquals("\n당신의 턴입니다.",
+            GameEvent.of(GameEvent.Type.TURN_STARTED, human).render());
+    }
+
+    @Test
+    void testRenderIsMemoized() {
+        Player cpu = new Player("player-cpu-1", "CPU 1", PlayerType.CPU);
+        GameEvent event = GameEvent.of(GameEvent.Type.PROTECTED, cpu);
+
+        assertSame(event.render(), event.render(), "문구는 한 번만 만들어야 합니다.");
+    }
+
+    @Test
+    void testGameUsesConfiguredRetention() {
+        GameService gameService = new GameService(new CardService());
+        gameService.setLogRetention(4);
+
+        Game game = gameService.createGame(3);
+
+        assertEquals(4, game.getEventLog().getRetention());
+        assertEquals(4, game.getGameLog().size());
+        assertEquals("CPU 3가 초기 카드를 받았습니다.", game.getGameLog().get(2));
+    }
+}
@@ -0,0 +1,69 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMailboxTest {
+
+    @Test
+    void testCommandsOfOneGameNeverOverlap() throws Exception {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        int[] counter = {0};  // 동기화 없이 증가: 명령이 겹치면 값이 틀어짐
+
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 1000; i++) {
+                futures.add(clients.submit(() -> gameService.execute(game.getId(), g -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    counter[0]++;
+                    running.decrementAndGet();
+                    return null;
+                })));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(1, maxRunning.get(), "같은 게임의 명령은 동시에 실행되면 안 됩니다.");
+        assertEquals(1000, counter[0]);
+    }
+
+    @Test
+    void testNestedCommandRunsInline() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+
+        int round = gameService.execute(game.getId(), g ->
+            gameService.execute(game.getId(), Game::getCurrentRound));
+
+        assertEquals(1, round);
+    }
+
+    @Test
+    void testExceptionIsRethrownToCaller() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+
+        assertThrows(IllegalStateException.class, () -> gameService.execute(game.getId(), g -> {
+            throw new IllegalStateException("실패");
+        }));
+        assertThrows(IllegalArgumentException.class, () -> gameService.execute("unknown", g -> null));
+    }
+}
@@ -0,0 +1,110 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameMetrics;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameMetricsTest {
+
+    @Test
+    void testHistogramExportIsCumulative() {
+        GameMetrics metrics = GameMetrics.detached();
+        metrics.recordRequest("POST", "/game/{gameId}/turn", 200, 200_000);     // 0.25ms 구간
+        metrics.recordRequest("POST", "/game/{gameId}/turn", 200, 3_000_000);   // 5ms 구간
+        metrics.recordRequest("POST", "/game/{gameId}/turn", 400, 50_000);
+        metrics.recordRequest("GET", null, 404, 20_000_000_000L);              // +Inf
+
+        String text = metrics.scrape();
+        String labels = "method=\"POST\",route=\"/game/{gameId}/turn\",status=\"2xx\"";
+        assertTrue(text.contains("# TYPE loveletter_http_request_seconds histogram\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_bucket{" + labels + ",le=\"1.0E-4\"} 0\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_bucket{" + labels + ",le=\"2.5E-4\"} 1\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_bucket{" + labels + ",le=\"0.005\"} 2\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_bucket{" + labels + ",le=\"+Inf\"} 2\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_count{" + labels + "} 2\n"));
+        assertTrue(text.contains("loveletter_http_request_seconds_sum{" + labels + "} 0.0032\n"));
+        assertTrue(text.contains("status=\"4xx\",le=\"+Inf\"} 1\n"), "상태 구분별로 따로 기록해야 합니다.");
+        assertTrue(text.contains("route=\"unmatched\""));
+        assertFalse(text.contains("loveletter_games_live"), "저장소가 없으면 게임 수는 내보내지 않습니다.");
+    }
+
+    @Test
+    void testConcurrentRecordingIsNotLost() throws Exception {
+        GameMetrics metrics = GameMetrics.detached();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.recordDecision(CardType.GUARD, i);
+                    metrics.countCardEffect(CardType.KING);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, metrics.getDecisionHistogram(CardType.GUARD).getCount());
+        assertEquals(8L * (10_000L * 9_999 / 2), metrics.getDecisionHistogram(CardType.GUARD).getSumNanos());
+        assertEquals(80_000, metrics.getCardEffectCount(CardType.KING));
+    }
+
+    @Test
+    void testServicesRecordDecisionsEffectsAndGames() {
+        GameRegistry registry = new GameRegistry(10, 60_000);
+        GameMetrics metrics = new GameMetrics(registry);
+        CardService cardService = new CardService();
+        cardService.setMetrics(metrics);
+        AIService aiService = new AIService();
+        aiService.setMetrics(metrics);
+        GameService gameService = new GameService(cardService, registry);
+        gameService.setMetrics(metrics);
+
+        Game game = gameService.createGame(2, 8L);
+        int decisions = 0;
+        while (!game.isRoundOver()) {
+            Player player = game.getCurrentPlayer();
+            Card drawn = gameService.drawCardForPlayer(game, player);
+            if (drawn == null) {
+                break;
+            }
+            CPUAction action = aiService.decideCPUAction(game, player, drawn);
+            decisions++;
+            Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+            gameService.playCard(game, player, action.getCardToPlay(), target, action.getGuessNumber());
+            if (!game.isRoundOver()) {
+                gameService.nextTurn(game);
+            }
+        }
+
+        long recordedDecisions = 0;
+        long effects = 0;
+        for (CardType type : CardType.values()) {
+            recordedDecisions += metrics.getDecisionHistogram(type).getCount();
+            effects += metrics.getCardEffectCount(type);
+        }
+        assertEquals(decisions, recordedDecisions);
+        assertEquals(decisions, effects);
+        assertEquals(1, metrics.getRoundsFinished());
+
+        String text = metrics.scrape();
+        assertTrue(text.contains("loveletter_games_created_total 1\n"));
+        assertTrue(text.contains("loveletter_games_live 1\n"));
+        assertTrue(text.contains("loveletter_games_evicted_total 0\n"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.enums.PlayerType;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameRegistryTest {
+
+    private Game newGame(String id) {
+        return new Game(id, List.of(
+            new Player("player-human", "당신", PlayerType.HUMAN),
+            new Player("player-cpu-1", "CPU 1", PlayerType.CPU)));
+    }
+
+    @Test
+    void testHitAndMissCounters() {
+        GameRegistry registry = new GameRegistry(10, 60_000);
+        Game game = newGame("game-1");
+        registry.put(game);
+
+        assertNotNull(registry.getMailbox("game-1"));
+        assertNull(registry.getMailbox("unknown"));
+
+        assertEquals(1, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void testCapacityEvictsLeastRecentlyUsed() throws InterruptedException {
+        GameRegistry registry = new GameRegistry(2, 60_000);
+        registry.put(newGame("game-1"));
+        Thread.sleep(2);
+        registry.put(newGame("game-2"));
+        Thread.sleep(2);
+        registry.getMailbox("game-1");  // game-1을 최근 사용으로 갱신
+
+        registry.put(newGame("game-3"));
+
+        assertEquals(2, registry.size(), "최대 게임 수를 넘으면 안 됩니다.");
+        assertNotNull(registry.getMailbox("game-1"));
+        assertNull(registry.getMailbox("game-2"), "가장 오래 안 쓴 게임이 제거되어야 합니다.");
+        assertNotNull(registry.getMailbox("game-3"));
+        assertEquals(1, registry.getEvictionCount());
+    }
+
+    @Test
+    void testConcurrentPutsNeverExceedCapacity() throws Exception {
+        int maxGames = 64;
+        int threads = 8;
+        int putsPerThread = 2000;
+        GameRegistry registry = new GameRegistry(maxGames, 60_000);
+        AtomicInteger maxSeen = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < putsPerThread; i++) {
+                        registry.put(newGame("game-" + thread + "-" + i));
+                        maxSeen.accumulateAndGet(registry.size(), Math::max);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertTrue(maxSeen.get() <= maxGames, "동시에 넣어도 최대 게임 수를 넘으면 안 됩니다: " + maxSeen.get());
+        assertEquals(maxGames, registry.size());
+        assertEquals((long) threads * putsPerThread - maxGames, registry.getEvictionCount());
+    }
+
+    @Test
+    void testIdleGamesAreEvicted() throws InterruptedException {
+        GameRegistry registry = new GameRegistry(10, 5);
+        registry.put(newGame("game-1"));
+        registry.put(newGame("game-2"));
+
+        Thread.sleep(10);
+
+        assertEquals(2, registry.evictIdle());
+        assertEquals(0, registry.size());
+        assertEquals(2, registry.getEvictionCount());
+    }
+
+    @Test
+    void testGameServiceUsesRegistry() {
+        GameRegistry registry = new GameRegistry(10, 60_000);
+        GameService gameService = new GameService(new CardService(), registry);
+
+        Game game = gameService.createGame(1);
+
+        assertSame(game.getSnapshot(), gameService.getSnapshot(game.getId()));
+        assertThrows(IllegalArgumentException.class, () -> gameService.getSnapshot("unknown"));
+        assertEquals(1, registry.getHitCount());
+        assertEquals(1, registry.getMissCount());
+    }
+}
@@ -0,0 +1,153 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSnapshotTest {
+
+    @Test
+    void testEachCommandPublishesNewVersion() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+
+        GameSnapshot initial = gameService.getSnapshot(game.getId());
+        assertNotNull(initial, "게임 생성 시 스냅샷이 게시되어야 합니다.");
+        assertEquals(1, initial.getVersion());
+
+        gameService.execute(game.getId(), g -> {
+            Player current = g.getCurrentPlayer();
+            return gameService.drawCardForPlayer(g, current);
+        });
+
+        GameSnapshot afterDraw = gameService.getSnapshot(game.getId());
+        assertEquals(2, afterDraw.getVersion());
+        assertEquals(initial.getDeckSize() - 1, afterDraw.getDeckSize());
+        assertEquals(13, initial.getDeckSize(), "이전 스냅샷은 바뀌면 안 됩니다.");
+    }
+
+    @Test
+    void testCommandReturnsItsOwnSnapshot() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+        long before = gameService.getSnapshot(game.getId()).getVersion();
+
+        GameService.Committed<Card> drawn = gameService.executeAndPublish(game.getId(),
+            g -> gameService.drawCardForPlayer(g, g.getCurrentPlayer()));
+        // 응답을 만들기 전에 다른 요청의 명령이 먼저 끝난 경우
+        gameService.execute(game.getId(), g -> {
+            gameService.nextTurn(g);
+            return null;
+        });
+
+        assertNotNull(drawn.result());
+        assertEquals(before + 1, drawn.snapshot().getVersion(), "이 명령이 게시한 스냅샷이어야 합니다.");
+        assertEquals(before + 2, gameService.getSnapshot(game.getId()).getVersion());
+        assertEquals(game.getPlayers().get(0).getId(), drawn.snapshot().getCurrentPlayerId());
+
+        // 명령 안에서 다시 부르면 바깥 명령이 게시함
+        assertNull(gameService.execute(game.getId(),
+            g -> gameService.executeAndPublish(game.getId(), inner -> null).snapshot()));
+    }
+
+    @Test
+    void testUnchangedOrRejectedCommandsDoNotPublish() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+        GameSnapshot before = gameService.getSnapshot(game.getId());
+
+        // 읽기만 한 명령은 지금 스냅샷을 그대로 돌려줌
+        GameService.Committed<Integer> read = gameService.executeAndPublish(game.getId(), g -> g.getAlivePlayers().size());
+        assertSame(before, read.snapshot());
+
+        // 상태를 바꾸기 전에 거절된 명령
+        assertThrows(IllegalStateException.class, () -> gameService.execute(game.getId(), g -> {
+            throw new IllegalStateException("거절");
+        }));
+        assertSame(before, gameService.getSnapshot(game.getId()), "거절된 명령은 새 버전을 만들지 않아야 합니다.");
+
+        // 바꾼 뒤에 실패한 명령은 바뀐 상태를 게시함
+        assertThrows(IllegalStateException.class, () -> gameService.execute(game.getId(), g -> {
+            g.addLog("바꾼 뒤 실패");
+            throw new IllegalStateException("실패");
+        }));
+        assertEquals(before.getVersion() + 1, gameService.getSnapshot(game.getId()).getVersion());
+    }
+
+    @Test
+    void testSnapshotIsIsolatedFromLiveGame() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+        GameSnapshot snapshot = gameService.getSnapshot(game.getId());
+
+        // 스냅샷을 거치지 않고 게임을 직접 변경
+        Player human = game.getPlayers().get(0);
+        human.addDiscardedCard(new Card(CardType.GUARD, "test-guard"));
+        human.eliminate();
+
+        GameSnapshot.PlayerSnapshot humanSnapshot = snapshot.getPlayers().get(0);
+        assertTrue(humanSnapshot.isAlive());
+        assertTrue(humanSnapshot.getDiscardedCards().isEmpty());
+        assertThrows(UnsupportedOperationException.class,
+            () -> humanSnapshot.getDiscardedCards().add(new Card(CardType.GUARD, "x")));
+    }
+
+    @Test
+    void testReadersDoNotWaitForRunningCommand() throws Exception {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(1);
+
+        CountDownLatch commandStarted = new CountDownLatch(1);
+        CountDownLatch releaseCommand = new CountDownLatch(1);
+
+        CompletableFuture<Void> command = CompletableFuture.runAsync(() -> gameService.execute(game.getId(), g -> {
+            g.getPlayers().get(1).eliminate();
+            commandStarted.countDown();
+            try {
+                releaseCommand.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+
+        assertTrue(commandStarted.await(5, TimeUnit.SECONDS));
+
+        // 명령이 끝나지 않은 상태에서도 읽기는 바로 반환되고, 반쯤 적용된 변경은 보이지 않음
+        GameState state = GameState.fromSnapshot(gameService.getSnapshot(game.getId()), "player-human");
+        assertEquals(1, state.getVersion());
+        assertTrue(state.getPlayers().get(1).isAlive());
+
+        releaseCommand.countDown();
+        command.get(5, TimeUnit.SECONDS);
+
+        GameState after = GameState.fromSnapshot(gameService.getSnapshot(game.getId()), "player-human");
+        assertEquals(2, after.getVersion());
+        assertFalse(after.getPlayers().get(1).isAlive());
+    }
+
+    @Test
+    void testViewerOnlySeesOwnHand() {
+        GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+        Game game = gameService.createGame(2);
+
+        GameState state = GameState.fromSnapshot(gameService.getSnapshot(game.getId()), "player-human");
+
+        assertNotNull(state.getPlayers().get(0).getHandCard());
+        assertNull(state.getPlayers().get(1).getHandCard());
+        assertNull(state.getPlayers().get(2).getHandCard());
+    }
+}
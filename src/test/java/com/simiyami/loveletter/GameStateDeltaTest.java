@@ -0,0 +1,146 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.GameStateDelta;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateDeltaTest {
+
+    private final GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+    private final AIService aiService = new AIService();
+
+    @Test
+    void testDeltaCarriesOnlyChanges() {
+        Game game = gameService.createGame(3, 7L);
+        GameSnapshot base = game.getSnapshot();
+
+        playTurn(game);
+        GameSnapshot current = game.getSnapshot();
+        GameStateDelta delta = GameStateDelta.between(game.getSnapshot(base.getVersion()), current, "player-human");
+
+        assertNull(delta.getFull());
+        assertEquals(base.getVersion(), delta.getBaseVersion());
+        assertEquals(current.getVersion(), delta.getVersion());
+        assertEquals(current.getEventCount() - base.getEventCount(), delta.getNewLogs().size());
+        assertFalse(delta.getPlayers().isEmpty());
+        assertTrue(delta.getPlayers().size() <= current.getPlayers().size());
+
+        int added = 0;
+        for (GameStateDelta.PlayerDelta player : delta.getPlayers()) {
+            added += player.getAddedDiscards().size();
+        }
+        assertTrue(added >= 1, "낸 카드가 변경분에 포함되어야 합니다.");
+    }
+
+    @Test
+    void testMergedDeltasMatchFullState() {
+        Game game = gameService.createGame(3, 42L);
+        GameState client = GameState.fromSnapshot(game.getSnapshot(), "player-human");
+        List<String> clientLogs = new ArrayList<>(client.getRecentLogs());
+        List<List<Card>> clientDiscards = new ArrayList<>();
+        for (GameState.PlayerInfo player : client.getPlayers()) {
+            clientDiscards.add(new ArrayList<>(player.getDiscardedCards()));
+        }
+
+        while (!game.isRoundOver()) {
+            playTurn(game);
+
+            GameStateDelta delta = GameStateDelta.between(
+                game.getSnapshot(client.getVersion()), game.getSnapshot(), "player-human");
+            assertNull(delta.getFull());
+            clientLogs.addAll(delta.getNewLogs());
+            for (GameStateDelta.PlayerDelta player : delta.getPlayers()) {
+                clientDiscards.get(indexOf(game, player.getId())).addAll(player.getAddedDiscards());
+            }
+
+            GameState expected = GameState.fromSnapshot(game.getSnapshot(), "player-human");
+            assertEquals(expected.getVersion(), delta.getVersion());
+            assertEquals(expected.getDeckSize(), delta.getDeckSize());
+            assertEquals(expected.getCurrentPlayerId(), delta.getCurrentPlayerId());
+            assertEquals(expected.getRecentLogs(),
+                clientLogs.subList(Math.max(0, clientLogs.size() - 5), clientLogs.size()));
+            for (int i = 0; i < expected.getPlayers().size(); i++) {
+                assertEquals(expected.getPlayers().get(i).getDiscardedCards(), clientDiscards.get(i));
+            }
+            client = expected;
+        }
+    }
+
+    @Test
+    void testSameVersionIsEmpty() {
+        Game game = gameService.createGame(1, 3L);
+        GameSnapshot current = game.getSnapshot();
+
+        GameStateDelta delta = GameStateDelta.between(current, current, "player-human");
+
+        assertNull(delta.getFull());
+        assertTrue(delta.getPlayers().isEmpty());
+        assertTrue(delta.getNewLogs().isEmpty());
+    }
+
+    @Test
+    void testFallsBackToFullState() {
+        Game game = gameService.createGame(1, 5L);
+        long initial = game.getVersion();
+
+        // 보관된 기록보다 오래된 버전
+        for (int i = 0; i < 20; i++) {
+            gameService.execute(game.getId(), g -> {
+                g.addLog("테스트 명령");
+                return null;
+            });
+        }
+        assertNull(game.getSnapshot(initial));
+        GameStateDelta stale = GameStateDelta.between(game.getSnapshot(initial), game.getSnapshot(), "player-human");
+        assertNotNull(stale.getFull());
+        assertEquals(game.getVersion(), stale.getFull().getVersion());
+
+        // 라운드가 바뀐 경우
+        long beforeRound = game.getVersion();
+        gameService.execute(game.getId(), g -> {
+            gameService.startNextRound(g);
+            return null;
+        });
+        GameStateDelta nextRound = GameStateDelta.between(
+            game.getSnapshot(beforeRound), game.getSnapshot(), "player-human");
+        assertNotNull(nextRound.getFull());
+        assertEquals(2, nextRound.getFull().getCurrentRound());
+    }
+
+    private void playTurn(Game game) {
+        gameService.execute(game.getId(), g -> {
+            Player player = g.getCurrentPlayer();
+            Card drawnCard = gameService.drawCardForPlayer(g, player);
+            CPUAction action = aiService.decideCPUAction(g, player, drawnCard);
+            Player target = action.getTargetId() != null ? g.getPlayer(action.getTargetId()) : null;
+            gameService.playCard(g, player, action.getCardToPlay(), target, action.getGuessNumber());
+            if (!g.isRoundOver()) {
+                gameService.nextTurn(g);
+            }
+            return null;
+        });
+    }
+
+    private static int indexOf(Game game, String playerId) {
+        for (int i = 0; i < game.getPlayerCount(); i++) {
+            if (game.getPlayerAt(i).getId().equals(playerId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,156 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameSnapshot;
+import com.simiyami.loveletter.model.GameState;
+import com.simiyami.loveletter.model.GameStateDelta;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import com.simiyami.loveletter.service.GameStateReader;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameStateReaderTest {
+
+    private final GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+    private final GameStateReader reader = new GameStateReader(gameService);
+
+    @Test
+    void testEtagFollowsVersion() {
+        Game game = gameService.createGame(1);
+        GameSnapshot before = game.getSnapshot();
+        String etag = GameStateReader.etagOf(before);
+
+        assertTrue(GameStateReader.matches(etag, etag));
+        assertTrue(GameStateReader.matches("W/" + etag, etag));
+        assertTrue(GameStateReader.matches("\"other\", " + etag, etag));
+        assertTrue(GameStateReader.matches("*", etag));
+        assertFalse(GameStateReader.matches(null, etag));
+
+        gameService.execute(game.getId(), g -> {
+            g.addLog("테스트 명령");
+            return null;
+        });
+        String after = GameStateReader.etagOf(game.getSnapshot());
+        assertNotEquals(etag, after);
+        assertFalse(GameStateReader.matches(etag, after), "버전이 바뀌면 304가 아니어야 합니다.");
+    }
+
+    @Test
+    void testReadsFullStateOrDelta() {
+        Game game = gameService.createGame(2);
+        long seen = game.getSnapshot().getVersion();
+        gameService.execute(game.getId(), g -> gameService.drawCardForPlayer(g, g.getCurrentPlayer()));
+
+        Object full = reader.read(game.getId(), "player-human", null);
+        assertInstanceOf(GameState.class, full);
+        assertEquals(game.getSnapshot().getVersion(), ((GameState) full).getVersion());
+
+        Object delta = reader.read(game.getId(), "player-human", seen);
+        assertInstanceOf(GameStateDelta.class, delta);
+        assertEquals(seen, ((GameStateDelta) delta).getBaseVersion());
+    }
+
+    @Test
+    void testConcurrentIdenticalReadsRenderOnce() throws Exception {
+        Game game = gameService.createGame(3);
+        int readers = 16;
+        // 첫 렌더링을 나머지 요청이 모두 들어올 때까지 붙잡아 둔다 (합치지 않으면 제한 시간 뒤 각자 렌더링)
+        GameStateReader slowReader = new GameStateReader(gameService) {
+            @Override
+            protected Object render(GameSnapshot snapshot, String viewerId, Long since) {
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+                while (getCoalescedCount() < readers - 1 && System.nanoTime() < deadline) {
+                    try {
+                        Thread.sleep(1);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+                return super.render(snapshot, viewerId, since);
+            }
+        };
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Object>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(readers)) {
+            for (int i = 0; i < readers; i++) {
+                results.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return slowReader.read(game.getId(), "player-human", null);
+                }, executor));
+            }
+            start.countDown();
+        }
+
+        Object first = results.get(0).get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Object> result : results) {
+            assertSame(first, result.get(5, TimeUnit.SECONDS), "겹친 요청은 같은 결과를 받아야 합니다.");
+        }
+        assertEquals(game.getSnapshot().getVersion(), ((GameState) first).getVersion());
+        assertEquals(1, slowReader.getRenderCount(), "같은 요청이 겹치면 한 번만 만들어야 합니다.");
+        assertEquals(readers - 1, slowReader.getCoalescedCount());
+    }
+
+    @Test
+    void testCachedRenderIsReusedUntilNextVersion() {
+        Game game = gameService.createGame(2);
+        GameSnapshot snapshot = game.getSnapshot();
+
+        Object first = reader.read(snapshot, "player-human", null);
+        assertSame(first, reader.read(game.getId(), "player-human", null), "같은 버전은 다시 만들지 않아야 합니다.");
+        byte[] json = reader.readJson(snapshot, "player-human", null);
+        assertSame(json, reader.readJson(snapshot, "player-human", null), "같은 버전은 다시 직렬화하지 않아야 합니다.");
+        assertEquals(1, reader.getRenderCount());
+        assertEquals(1, reader.getSerializationCount());
+
+        // 관찰자가 다르면 따로 만듦
+        assertNotSame(first, reader.read(snapshot, "player-cpu-1", null));
+
+        // 새 버전이 게시되면 캐시를 버리고 새로 만듦
+        gameService.execute(game.getId(), g -> gameService.drawCardForPlayer(g, g.getCurrentPlayer()));
+        assertEquals(0, reader.getCachedGameCount());
+        GameState after = (GameState) reader.read(game.getId(), "player-human", null);
+        assertEquals(game.getSnapshot().getVersion(), after.getVersion());
+        assertEquals(3, reader.getRenderCount());
+    }
+
+    @Test
+    void testCacheIsBoundedAndDropsRemovedGames() {
+        GameStateReader small = new GameStateReader(gameService, JsonMapper.builder().build(), 2);
+        Game[] games = {gameService.createGame(1), gameService.createGame(1), gameService.createGame(1)};
+        for (Game game : games) {
+            small.read(game.getId(), "player-human", null);
+        }
+        assertEquals(2, small.getCachedGameCount(), "상한을 넘으면 캐시하지 않아야 합니다.");
+
+        // 캐시되지 않은 게임도 정상적으로 읽힘 (매번 새로 만듦)
+        small.read(games[2].getId(), "player-human", null);
+        assertEquals(4, small.getRenderCount());
+
+        // 제거된 게임의 자리는 요청이 아니라 주기적인 정리에서 비움
+        gameService.getRegistry().remove(games[0].getId());
+        small.read(games[2].getId(), "player-human", null);
+        assertEquals(2, small.getCachedGameCount());
+        small.evictRemovedGames();
+        assertEquals(1, small.getCachedGameCount());
+        small.read(games[2].getId(), "player-human", null);
+        assertEquals(2, small.getCachedGameCount(), "정리된 뒤에는 다시 캐시해야 합니다.");
+    }
+}
@@ -0,0 +1,155 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.GameStateDelta;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameRegistry;
+import com.simiyami.loveletter.service.GameService;
+import com.simiyami.loveletter.service.GameUpdateHub;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameUpdateHubTest {
+
+    private final GameService gameService = new GameService(new CardService(), new GameRegistry(10, 60_000));
+    private final GameUpdateHub hub = new GameUpdateHub(gameService, 60_000);
+
+    @Test
+    void testNewSubscriberGetsFullStateThenDeltas() throws Exception {
+        Game game = gameService.createGame(1);
+        RecordingSink sink = new RecordingSink();
+
+        hub.subscribe(game.getId(), "player-human", 0, sink);
+        GameStateDelta first = sink.updates.poll(5, TimeUnit.SECONDS);
+        assertNotNull(first);
+        assertNotNull(first.getFull(), "처음 구독하면 전체 상태를 받아야 합니다.");
+        assertEquals(game.getSnapshot().getVersion(), first.getVersion());
+
+        gameService.execute(game.getId(), g -> gameService.drawCardForPlayer(g, g.getCurrentPlayer()));
+        GameStateDelta second = sink.updates.poll(5, TimeUnit.SECONDS);
+        assertNotNull(second);
+        assertNull(second.getFull());
+        assertEquals(first.getVersion(), second.getBaseVersion());
+        assertEquals(game.getSnapshot().getVersion(), second.getVersion());
+        assertEquals(game.getSnapshot().getDeckSize(), second.getDeckSize());
+    }
+
+    @Test
+    void testResumeFromLastSeenVersion() throws Exception {
+        Game game = gameService.createGame(1);
+        long seen = game.getSnapshot().getVersion();
+        gameService.execute(game.getId(), g -> gameService.drawCardForPlayer(g, g.getCurrentPlayer()));
+
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(game.getId(), "player-human", seen, sink);
+
+        GameStateDelta update = sink.updates.poll(5, TimeUnit.SECONDS);
+        assertNotNull(update);
+        assertNull(update.getFull(), "가진 버전부터 이어받으면 변경분만 와야 합니다.");
+        assertEquals(seen, update.getBaseVersion());
+    }
+
+    @Test
+    void testBurstIsCoalescedToLatestVersion() throws Exception {
+        Game game = gameService.createGame(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void send(GameStateDelta update) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(update);
+            }
+        };
+
+        hub.subscribe(game.getId(), "player-human", game.getSnapshot().getVersion(), sink);
+        for (int i = 0; i < 10; i++) {
+            gameService.execute(game.getId(), g -> {
+                g.addLog("테스트 명령");
+                return null;
+            });
+        }
+        release.countDown();
+
+        long latest = game.getSnapshot().getVersion();
+        GameStateDelta update;
+        do {
+            update = sink.updates.poll(5, TimeUnit.SECONDS);
+            assertNotNull(update);
+        } while (update.getVersion() != latest);
+        assertTrue(hub.getPushedCount() < 10, "밀린 버전은 합쳐서 보내야 합니다.");
+    }
+
+    @Test
+    void testFailedSinkIsRemoved() throws Exception {
+        Game game = gameService.createGame(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        RecordingSink sink = new RecordingSink() {
+            @Override
+            public void send(GameStateDelta update) throws IOException {
+                throw new IOException("연결 끊김");
+            }
+
+            @Override
+            public void close() {
+                closed.countDown();
+            }
+        };
+
+        GameUpdateHub.Subscription subscription = hub.subscribe(game.getId(), "player-human", 0, sink);
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertTrue(subscription.isClosed());
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(1, hub.getFailureCount());
+    }
+
+    @Test
+    void testHeartbeatClosesSubscriptionsOfRemovedGames() throws Exception {
+        Game game = gameService.createGame(1);
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(game.getId(), "player-human", game.getSnapshot().getVersion(), sink);
+
+        hub.sendHeartbeats();
+        assertTrue(sink.heartbeats.await(5, TimeUnit.SECONDS));
+        assertEquals(1, hub.getSubscriberCount());
+
+        gameService.getRegistry().remove(game.getId());
+        hub.sendHeartbeats();
+        assertEquals(0, hub.getSubscriberCount());
+        assertEquals(List.of("close"), sink.calls);
+    }
+
+    private static class RecordingSink implements GameUpdateHub.UpdateSink {
+        final BlockingQueue<GameStateDelta> updates = new LinkedBlockingQueue<>();
+        final CountDownLatch heartbeats = new CountDownLatch(1);
+        final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(GameStateDelta update) throws IOException {
+            updates.add(update);
+        }
+
+        @Override
+        public void heartbeat() {
+            heartbeats.countDown();
+        }
+
+        @Override
+        public void close() {
+            calls.add("close");
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.enums.CardType;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CardCounter;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.HandBeliefs;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandBeliefsTest {
+
+    private final CardCounter counter = new CardCounter();
+
+    @Test
+    void testPlayingOtherCardKeepsKnownCard() {
+        HandBeliefs beliefs = new HandBeliefs(3);
+        beliefs.onHandRevealed(0, 1, CardType.KING.getNumber());
+
+        beliefs.onCardPlayed(1, new Card(CardType.GUARD, "card-0"));
+        assertEquals(CardType.KING.getNumber(), beliefs.getKnownNumber(0, 1), "알던 카드가 아닌 카드를 냈으면 그대로 보유");
+
+        beliefs.onCardPlayed(1, new Card(CardType.KING, "card-12"));
+        assertEquals(0, beliefs.getKnownNumber(0, 1), "알던 카드를 냈으면 남은 카드는 모름");
+        assertEquals(0, beliefs.probability(0, 1, CardType.COUNTESS.getNumber(), counter, 0, 0), 1e-9,
+            "장군을 냈으면 후작은 들고 있을 수 없음");
+    }
+
+    @Test
+    void testPlayedCardConditionsInsteadOfResetting() {
+        HandBeliefs beliefs = new HandBeliefs(2);
+        beliefs.onGuardMissed(1, CardType.PRINCE.getNumber());
+
+        // 경비병을 뽑아서 냈다면 마법사가 아닌 원래 손패가 남음, 손패를 냈다면 새 카드 -> 마법사 가능성은 절반만 회복
+        beliefs.onCardPlayed(1, new Card(CardType.GUARD, "card-0"));
+        double prince = beliefs.probability(0, 1, CardType.PRINCE.getNumber(), counter, 0, 0);
+        double handmaid = beliefs.probability(0, 1, CardType.HANDMAID.getNumber(), counter, 0, 0);
+        assertTrue(prince > 0, "손패를 냈을 수도 있으므로 불가능하지는 않음");
+        assertEquals(handmaid / 2, prince, 0.01, "같은 장수인 시녀보다 절반 가능성");
+
+        // 정보가 없을 때 카드를 내도 분포는 그대로 (남은 장수는 CardCounter가 반영)
+        HandBeliefs neutral = new HandBeliefs(2);
+        neutral.onCardPlayed(1, new Card(CardType.PRIEST, "card-5"));
+        HandBeliefs fresh = new HandBeliefs(2);
+        for (int number = 1; number <= 8; number++) {
+            assertEquals(fresh.probability(0, 1, number, counter, 0, 0),
+                neutral.probability(0, 1, number, counter, 0, 0), 1e-9);
+        }
+    }
+
+    @Test
+    void testGuardMissAndBaronResultsNarrowDistribution() {
+        HandBeliefs beliefs = new HandBeliefs(4);
+        beliefs.onGuardMissed(2, 5);
+        assertEquals(0, beliefs.probability(0, 2, 5, counter, 0, 0), 1e-9);
+        assertEquals(0, beliefs.probability(3, 2, 5, counter, 0, 0), 1e-9);
+
+        // 기사 대결에서 7번을 이겼으면 8번(공주)뿐
+        beliefs.onBaronWon(1, 7);
+        assertEquals(8, beliefs.getKnownNumber(0, 1));
+        assertEquals(0, beliefs.getKnownNumber(1, 1));
+
+        // 무승부: 한 장뿐인 카드로는 비길 수 없음
+        beliefs.onBaronTie(2, 3, 2, counter);
+        assertEquals(2, beliefs.getKnownNumber(2, 3));
+        assertEquals(0, beliefs.probability(0, 3, CardType.PRINCESS.getNumber(), counter, 0, 0), 1e-9);
+        assertTrue(beliefs.probability(0, 3, CardType.GUARD.getNumber(), counter, 0, 0) > 0);
+    }
+
+    @Test
+    void testCountessRaisesPrinceAndKing() {
+        HandBeliefs beliefs = new HandBeliefs(2);
+        double before = beliefs.probability(0, 1, CardType.KING.getNumber(), counter, 0, 0);
+        beliefs.onCardPlayed(1, new Card(CardType.COUNTESS, "card-14"));
+        assertTrue(beliefs.probability(0, 1, CardType.KING.getNumber(), counter, 0, 0) > before);
+    }
+
+    @Test
+    void testKingSwapMovesBeliefs() {
+        HandBeliefs beliefs = new HandBeliefs(3);
+        beliefs.onHandRevealed(2, 0, 8);
+
+        beliefs.onCardsSwapped(0, 1, 8, 3);
+        assertEquals(8, beliefs.getKnownNumber(2, 1), "관찰자의 정보는 카드와 함께 이동");
+        assertEquals(0, beliefs.getKnownNumber(2, 0));
+        assertEquals(8, beliefs.getKnownNumber(0, 1), "준 카드를 상대가 들고 있음");
+        assertEquals(3, beliefs.getKnownNumber(1, 0));
+    }
+
+    @Test
+    void testSampleGuessUsesOnlyPossibleNumbers() {
+        HandBeliefs beliefs = new HandBeliefs(2);
+        for (int number = 2; number <= 7; number++) {
+            beliefs.onGuardMissed(1, number);
+        }
+        SplittableRandom random = new SplittableRandom(3);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(8, beliefs.sampleGuess(0, 1, counter, 0, 0, random));
+        }
+        assertEquals(0, beliefs.sampleGuess(0, 1, counter, 8, 0, random), "공주는 내가 들고 있음");
+    }
+
+    @Test
+    void testPriestUpdatesBeliefsInGame() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(1, 5L);
+        Player human = game.getPlayerAt(0);
+        Player cpu = game.getPlayerAt(1);
+
+        Card priest = new Card(CardType.PRIEST, "test-priest");
+        cpu.setDrawnCard(priest);
+        gameService.playCard(game, cpu, priest, human, null);
+
+        assertEquals(human.getHandCard().getNumber(), game.getHandBeliefs().getKnownNumber(1, 0));
+        assertEquals(1.0, game.getHandBeliefs().probability(1, 0, human.getHandCard().getNumber(),
+            game.getCardCounter(), cpu.getHandCard().getNumber(), 0), 1e-9);
+    }
+
+    @Test
+    void testOutOfRangeGuardGuessIsRejectedBeforePlaying() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(1, 5L);
+        Player human = game.getPlayerAt(0);
+        Player cpu = game.getPlayerAt(1);
+        Card handCard = cpu.getHandCard();
+
+        Card guard = new Card(CardType.GUARD, "test-guard");
+        for (int guess : new int[]{-1, 0, 1, 9, 100}) {
+            cpu.setDrawnCard(guard);
+            assertThrows(IllegalArgumentException.class,
+                () -> gameService.playCard(game, cpu, guard, human, guess), "추측 숫자: " + guess);
+
+            assertSame(guard, cpu.getDrawnCard(), "거절되면 카드를 내지 않음");
+            assertSame(handCard, cpu.getHandCard());
+            assertTrue(cpu.getDiscardedCards().isEmpty());
+            assertTrue(human.isAlive());
+        }
+    }
+}
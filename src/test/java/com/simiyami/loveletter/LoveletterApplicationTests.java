@@ -1,11 +1,26 @@
 package com.simiyami.loveletter;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.file.Path;
 
 @SpringBootTest
 class LoveletterApplicationTests {
 
+    // 저널까지 켜서 띄우되 작업 디렉터리가 아닌 임시 디렉터리에 쓴다
+    @TempDir
+    static Path journalDir;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("loveletter.journal.enabled", () -> "true");
+        registry.add("loveletter.journal.dir", () -> journalDir.toString());
+    }
+
     @Test
     void contextLoads() {
     }
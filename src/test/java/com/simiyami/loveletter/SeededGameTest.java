@@ -0,0 +1,116 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.CPUAction;
+import com.simiyami.loveletter.dto.SimulationReport;
+import com.simiyami.loveletter.model.Card;
+import com.simiyami.loveletter.model.CompactGame;
+import com.simiyami.loveletter.model.Game;
+import com.simiyami.loveletter.model.Player;
+import com.simiyami.loveletter.service.AIService;
+import com.simiyami.loveletter.service.CardService;
+import com.simiyami.loveletter.service.GameService;
+import com.simiyami.loveletter.service.SimulationService;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededGameTest {
+
+    @Test
+    void testSameSeedDealsSameDeck() {
+        GameService gameService = new GameService(new CardService());
+        Game first = gameService.createGame(3, 1234L);
+        Game second = gameService.createGame(3, 1234L);
+
+        assertEquals(1234L, first.getSeed());
+        assertEquals(new ArrayList<>(first.getDeck()), new ArrayList<>(second.getDeck()));
+        assertEquals(first.getSecretCard(), second.getSecretCard());
+        assertEquals(CompactGame.fromGame(first), CompactGame.fromGame(second));
+    }
+
+    @Test
+    void testCompactGameShufflesLikeGame() {
+        GameService gameService = new GameService(new CardService());
+        Game game = gameService.createGame(3, 99L);
+
+        CompactGame compact = new CompactGame(4);
+        compact.startRound(new SplittableRandom(99L));
+
+        assertEquals(compact, CompactGame.fromGame(game));
+    }
+
+    @Test
+    void testReplayingActionsReproducesGame() {
+        GameService gameService = new GameService(new CardService());
+        AIService aiService = new AIService();
+
+        for (long seed = 0; seed < 50; seed++) {
+            Game original = gameService.createGame(3, seed);
+            List<CPUAction> actions = playWithAI(gameService, aiService, original);
+
+            Game replayed = gameService.createGame(3, seed);
+            replay(gameService, replayed, actions);
+
+            assertEquals(CompactGame.fromGame(original), CompactGame.fromGame(replayed), "시드 " + seed);
+            assertEquals(original.getGameLog(), replayed.getGameLog());
+        }
+    }
+
+    @Test
+    void testSimulationIsReproducibleAcrossThreadCounts() {
+        SimulationService single = new SimulationService(1);
+        SimulationService parallel = new SimulationService(4);
+        try {
+            SimulationReport a = single.simulate(3, 10_000, 7L);
+            SimulationReport b = parallel.simulate(3, 10_000, 7L);
+
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(a.getSeatWins(seat), b.getSeatWins(seat));
+            }
+            assertEquals(a.getTotalTurns(), b.getTotalTurns());
+            assertEquals(a.getEliminations(), b.getEliminations());
+        } finally {
+            single.shutdown();
+            parallel.shutdown();
+        }
+    }
+
+    private List<CPUAction> playWithAI(GameService gameService, AIService aiService, Game game) {
+        List<CPUAction> actions = new ArrayList<>();
+        while (!game.isRoundOver()) {
+            Player player = game.getCurrentPlayer();
+            Card drawn = gameService.drawCardForPlayer(game, player);
+            if (drawn == null) {
+                break;
+            }
+            CPUAction action = aiService.decideCPUAction(game, player, drawn);
+            actions.add(action);
+            apply(gameService, game, player, action);
+        }
+        return actions;
+    }
+
+    // AI 없이 기록된 행동만 다시 적용
+    private void replay(GameService gameService, Game game, List<CPUAction> actions) {
+        for (CPUAction action : actions) {
+            Player player = game.getCurrentPlayer();
+            gameService.drawCardForPlayer(game, player);
+            apply(gameService, game, player, action);
+        }
+        if (!game.isRoundOver()) {
+            gameService.drawCardForPlayer(game, game.getCurrentPlayer());
+        }
+    }
+
+    private void apply(GameService gameService, Game game, Player player, CPUAction action) {
+        Player target = action.getTargetId() != null ? game.getPlayer(action.getTargetId()) : null;
+        gameService.playCard(game, player, action.getCardToPlay(), target, action.getGuessNumber());
+        if (!game.isRoundOver()) {
+            gameService.nextTurn(game);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.simiyami.loveletter;
+
+import com.simiyami.loveletter.dto.SimulationReport;
+import com.simiyami.loveletter.service.SimulationService;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationServiceTest {
+
+    @Test
+    void testParallelSimulationCountsEveryGame() {
+        SimulationService simulationService = new SimulationService(4);
+        try {
+            SimulationReport report = simulationService.simulate(4, 20_000);
+            System.out.print(report.format());
+
+            assertEquals(20_000, report.getGames());
+            long wins = 0;
+            for (int seat = 0; seat < 4; seat++) {
+                wins += report.getSeatWins(seat);
+                assertTrue(report.getSeatWins(seat) > 0, "모든 좌석이 한 번 이상 이겨야 합니다.");
+            }
+            assertEquals(report.getGames(), wins + report.getDraws() + report.getTruncated());
+            assertEquals(report.getCompletedGames(), wins + report.getDraws());
+            assertEquals(wins, report.getLastSurvivorWins() + report.getHighestCardWins());
+            assertTrue(report.getAverageTurns() > 1);
+
+            long eliminations = report.getEliminations().values().stream().mapToLong(Long::longValue).sum();
+            assertTrue(eliminations >= report.getLastSurvivorWins(), "마지막 생존자 승리에는 탈락이 있어야 합니다.");
+        } finally {
+            simulationService.shutdown();
+        }
+    }
+
+    @Test
+    void testCompactEngineCountsEveryGame() {
+        SimulationService simulationService = new SimulationService(4);
+        try {
+            SimulationReport report = simulationService.simulate(3, 50_000, 42, SimulationService.Engine.COMPACT);
+
+            assertEquals(50_000, report.getGames());
+            long wins = 0;
+            for (int seat = 0; seat < 3; seat++) {
+                wins += report.getSeatWins(seat);
+                assertTrue(report.getSeatWins(seat) > 0, "모든 좌석이 한 번 이상 이겨야 합니다.");
+            }
+            assertEquals(report.getGames(), wins + report.getDraws() + report.getTruncated());
+            assertEquals(wins, report.getLastSurvivorWins() + report.getHighestCardWins());
+            long eliminations = report.getEliminations().values().stream().mapToLong(Long::longValue).sum();
+            assertTrue(eliminations >= report.getLastSurvivorWins(), "마지막 생존자 승리에는 탈락이 있어야 합니다.");
+
+            // 같은 시드면 같은 결과
+            SimulationReport again = simulationService.simulate(3, 50_000, 42, SimulationService.Engine.COMPACT);
+            for (int seat = 0; seat < 3; seat++) {
+                assertEquals(report.getSeatWins(seat), again.getSeatWins(seat));
+            }
+            assertEquals(report.getEliminations(), again.getEliminations());
+        } finally {
+            simulationService.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsInvalidPlayerCount() {
+        SimulationService simulationService = new SimulationService(1);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> simulationService.simulate(5, 10));
+            assertThrows(IllegalArgumentException.class, () -> simulationService.simulate(2, 0));
+        } finally {
+            simulationService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.simiyami.loveletter.assets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Minifier가 패키지 안에서만 보이므로 같은 패키지에 둔다 (assets 소스 세트를 테스트 클래스패스에 추가)
+class MinifierTest {
+
+    @Test
+    void testStringsAreCopiedAsIs() {
+        assertEquals("const s=\"a  //  b /* c */\";const t='it\\'s  //';",
+            Minifier.javaScript("const s = \"a  //  b /* c */\";  const t = 'it\\'s  //';"));
+    }
+
+    @Test
+    void testNestedTemplateExpressionsAreMinified() {
+        assertEquals("const html=`<div class=\"${cls}\">${items.map(i=>`<b>${i . name}  </b>`).join('')}</div>`;",
+            Minifier.javaScript(
+                "const html = `<div class=\"${ cls }\">${ items.map(i => `<b>${ i . name }  </b>`).join('') }</div>`;"));
+    }
+
+    @Test
+    void testRegexAfterKeywordsAndConditions() {
+        assertEquals("return /ab+c/i.test(s);", Minifier.javaScript("return /ab+c/i.test(s);"));
+        assertEquals("y=typeof /a/;", Minifier.javaScript("y = typeof /a/;"));
+        // 조건을 닫은 ) 뒤는 정규식이다. 나눗셈으로 읽으면 '를 문자열 시작으로 보고 뒤의 진짜 문자열을 줄여 버린다
+        assertEquals("if(ok)/'/.test(s);const t='a  b';", Minifier.javaScript("if (ok) /'/.test(s); const t = 'a  b';"));
+        assertEquals("while(f(i))/a  b/g.exec(s);", Minifier.javaScript("while (f(i)) /a  b/g.exec(s);"));
+    }
+
+    @Test
+    void testDivisionAfterValues() {
+        assertEquals("const half=(a + b)/ 2 / c;", Minifier.javaScript("const half = (a + b) / 2 / c;"));
+        assertEquals("if(f(a)/ 2)g();", Minifier.javaScript("if (f(a) / 2) g();"));
+        assertEquals("const n=arr[0]/ 2;", Minifier.javaScript("const n = arr[0] / 2;"));
+        assertEquals("x=i++ / 2;", Minifier.javaScript("x = i++ / 2;"));
+        assertEquals("const r=/[/]/.source / 2;", Minifier.javaScript("const r = /[/]/.source / 2;"));
+    }
+
+    @Test
+    void testCommentsKeepNewlinesForAutomaticSemicolons() {
+        assertEquals("let a=b\n(c)", Minifier.javaScript("let a = b // 주석\n(c)"));
+        assertEquals("return\nvalue;", Minifier.javaScript("return /* 여러\n줄 */ value;"));
+        assertEquals("a=b + c\n++d", Minifier.javaScript("a = b /* 한 줄 */ + c\n++d"));
+    }
+
+    @Test
+    void testCssKeepsSelectorsAndCalc() {
+        // a:hover와 자손 선택자 .list :hover는 서로 다르다
+        assertEquals("a:hover{color :red}.list :hover{margin:0}",
+            Minifier.css("a:hover { color : red ; }\n.list :hover { margin: 0 }"));
+        // calc()의 + - 주변 공백은 필수
+        assertEquals(".card{width:calc(100% - 2 * 10px);height:calc( (1px + 2px) )}",
+            Minifier.css(".card { width: calc(100% - 2 * 10px); height: calc( (1px + 2px) ) ; }"));
+        assertEquals("a::after{content:\"a  ;  b\"}", Minifier.css("a::after { content: \"a  ;  b\"; }\n"));
+    }
+}